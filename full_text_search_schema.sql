@@ -0,0 +1,30 @@
+-- Full-text and typo-tolerant search for guides, courses and topics (PostgreSQL)
+-- Run once per database, as a role allowed to create extensions, after the application has
+-- created the guides, courses and topics tables. Every statement is idempotent.
+-- The application only detects these objects on startup; without them it falls back to LIKE
+-- matching and spelling corrections.
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE; generated columns and indexes need an IMMUTABLE wrapper
+CREATE OR REPLACE FUNCTION immutable_unaccent(text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Title weighted above description, 'simple' configuration so Spanish and English terms are kept as typed
+ALTER TABLE guides ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', immutable_unaccent(coalesce(title, ''))), 'A') ||
+    setweight(to_tsvector('simple', immutable_unaccent(coalesce(description, ''))), 'B')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_guides_search_vector ON guides USING GIN (search_vector);
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', immutable_unaccent(coalesce(title, ''))), 'A') ||
+    setweight(to_tsvector('simple', immutable_unaccent(coalesce(description, ''))), 'B')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_courses_search_vector ON courses USING GIN (search_vector);
+
+-- Optional: trigram indexes for typo-tolerant guide search (application.search.fuzzy)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_guides_title_trgm ON guides USING GIN (lower(immutable_unaccent(title)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_topics_name_trgm ON topics USING GIN (lower(immutable_unaccent(name)) gin_trgm_ops);
@@ -0,0 +1,13 @@
+-- Page bodies split into page_contents (PostgreSQL)
+-- Run once per database that stored page bodies inline in pages.content, after the application has
+-- added page_contents and pages.content_id, and before it takes writes: new pages no longer fill
+-- pages.content. Idempotent. The application only detects this on startup and logs a warning.
+-- Moving the existing bodies is a separate online step: POST /actuator/pagecontentmigration.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'pages' AND column_name = 'content' AND is_nullable = 'NO') THEN
+        ALTER TABLE pages ALTER COLUMN content DROP NOT NULL;
+    END IF;
+END $$;
@@ -2,17 +2,20 @@ package com.levelupjourney.learningservice.courses.application.internal.commands
 
 import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
 import com.levelupjourney.learningservice.courses.domain.model.commands.*;
+import com.levelupjourney.learningservice.courses.domain.model.events.CourseChangedEvent;
 import com.levelupjourney.learningservice.courses.domain.services.CourseCommandService;
 import com.levelupjourney.learningservice.courses.infrastructure.persistence.jpa.repositories.CourseRepository;
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
 import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.UnauthorizedException;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
+import com.levelupjourney.learningservice.topics.application.internal.catalog.TopicCatalog;
 import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
-import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,22 +27,25 @@ import java.util.UUID;
 public class CourseCommandServiceImpl implements CourseCommandService {
     
     private final CourseRepository courseRepository;
-    private final TopicRepository topicRepository;
+    private final TopicCatalog topicCatalog;
     private final GuideRepository guideRepository;
     private final SecurityContextHelper securityHelper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Value("${application.max-authors:5}")
     private int maxAuthors;
     
     public CourseCommandServiceImpl(
             CourseRepository courseRepository,
-            TopicRepository topicRepository,
+            TopicCatalog topicCatalog,
             GuideRepository guideRepository,
-            SecurityContextHelper securityHelper) {
+            SecurityContextHelper securityHelper,
+            ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
-        this.topicRepository = topicRepository;
+        this.topicCatalog = topicCatalog;
         this.guideRepository = guideRepository;
         this.securityHelper = securityHelper;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -56,7 +62,7 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         // Validate topics
         Set<Topic> topics = new HashSet<>();
         if (command.topicIds() != null && !command.topicIds().isEmpty()) {
-            topics = new HashSet<>(topicRepository.findAllById(command.topicIds()));
+            topics = new HashSet<>(topicCatalog.findAllById(command.topicIds()));
             if (topics.size() != command.topicIds().size()) {
                 throw new ResourceNotFoundException("One or more topics not found");
             }
@@ -71,13 +77,15 @@ public class CourseCommandServiceImpl implements CourseCommandService {
                 command.difficultyLevel()
         );
         
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(savedCourse.getId()));
+        return savedCourse;
     }
     
     @Override
     @Transactional
     public Course handle(UpdateCourseCommand command) {
-        Course course = courseRepository.findById(command.courseId())
+        Course course = courseRepository.findHeaderById(command.courseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         // Only authors or admins can update
@@ -99,7 +107,7 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         
         // Update topics if provided
         if (command.topicIds() != null) {
-            Set<Topic> topics = new HashSet<>(topicRepository.findAllById(command.topicIds()));
+            Set<Topic> topics = new HashSet<>(topicCatalog.findAllById(command.topicIds()));
             if (topics.size() != command.topicIds().size()) {
                 throw new ResourceNotFoundException("One or more topics not found");
             }
@@ -111,13 +119,14 @@ public class CourseCommandServiceImpl implements CourseCommandService {
             course.updateDifficultyLevel(command.difficultyLevel());
         }
         
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         return courseRepository.save(course);
     }
     
     @Override
     @Transactional
     public Course handle(UpdateCourseStatusCommand command) {
-        Course course = courseRepository.findById(command.courseId())
+        Course course = courseRepository.findHeaderById(command.courseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         // Only authors or admins can change status
@@ -126,26 +135,28 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         }
         
         course.updateStatus(command.status());
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         return courseRepository.save(course);
     }
     
     @Override
     @Transactional
     public Course handle(UpdateCourseAuthorsCommand command) {
-        Course course = courseRepository.findById(command.courseId())
+        Course course = courseRepository.findHeaderById(command.courseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         // Only admins can update authors
         securityHelper.requireRole("ROLE_ADMIN");
         
         course.setAuthors(command.authorIds(), maxAuthors);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         return courseRepository.save(course);
     }
     
     @Override
     @Transactional
     public void handle(DeleteCourseCommand command) {
-        Course course = courseRepository.findById(command.courseId())
+        Course course = courseRepository.findHeaderById(command.courseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         // Only authors or admins can delete
@@ -156,12 +167,13 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         // Soft delete
         course.updateStatus(EntityStatus.DELETED);
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
     }
     
     @Override
     @Transactional
     public Course handle(AssociateGuideCommand command) {
-        Course course = courseRepository.findById(command.courseId())
+        Course course = courseRepository.findWithGuidesById(command.courseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         Guide guide = guideRepository.findById(command.guideId())
@@ -175,6 +187,8 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         // Associate guide with course
         course.addGuide(guide);
         courseRepository.save(course);
+        eventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         
         return course;
     }
@@ -182,7 +196,7 @@ public class CourseCommandServiceImpl implements CourseCommandService {
     @Override
     @Transactional
     public Course handle(DisassociateGuideCommand command) {
-        Course course = courseRepository.findById(command.courseId())
+        Course course = courseRepository.findWithGuidesById(command.courseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         Guide guide = guideRepository.findById(command.guideId())
@@ -196,6 +210,8 @@ public class CourseCommandServiceImpl implements CourseCommandService {
         // Disassociate guide from course
         course.removeGuide(guide);
         courseRepository.save(course);
+        eventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
         
         return course;
     }
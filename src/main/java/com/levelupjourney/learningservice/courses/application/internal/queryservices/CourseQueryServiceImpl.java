@@ -1,69 +1,291 @@
 package com.levelupjourney.learningservice.courses.application.internal.queryservices;
 
 import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseDetail;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseGuideRow;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseVersion;
+import com.levelupjourney.learningservice.courses.domain.model.queries.CountCoursesQuery;
 import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseByIdQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseDetailQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseVersionQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseSearchFacetsQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.SearchCoursesPageQuery;
 import com.levelupjourney.learningservice.courses.domain.model.queries.SearchCoursesQuery;
 import com.levelupjourney.learningservice.courses.domain.services.CourseQueryService;
 import com.levelupjourney.learningservice.courses.infrastructure.persistence.jpa.repositories.CourseRepository;
+import com.levelupjourney.learningservice.courses.infrastructure.persistence.search.CourseFullTextSearchRepository;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideAuthorRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetCatalogFacetsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchCatalogQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.DocumentType;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.search.domain.services.CatalogSearchQueryService;
+import com.levelupjourney.learningservice.shared.domain.model.CursorPage;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.search.FullTextSearchSupport;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class CourseQueryServiceImpl implements CourseQueryService {
     
     private final CourseRepository courseRepository;
+    private final GuideRepository guideRepository;
     private final SecurityContextHelper securityHelper;
+    private final CourseFullTextSearchRepository courseFullTextSearchRepository;
+    private final FullTextSearchSupport fullTextSearchSupport;
+    private final CatalogSearchQueryService catalogSearchQueryService;
     
-    public CourseQueryServiceImpl(CourseRepository courseRepository, SecurityContextHelper securityHelper) {
+    @Value("${application.pagination.default-page-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${application.pagination.max-page-size:100}")
+    private int maxPageSize;
+    
+    public CourseQueryServiceImpl(
+            CourseRepository courseRepository,
+            GuideRepository guideRepository,
+            SecurityContextHelper securityHelper,
+            CourseFullTextSearchRepository courseFullTextSearchRepository,
+            FullTextSearchSupport fullTextSearchSupport,
+            CatalogSearchQueryService catalogSearchQueryService) {
         this.courseRepository = courseRepository;
+        this.guideRepository = guideRepository;
         this.securityHelper = securityHelper;
+        this.courseFullTextSearchRepository = courseFullTextSearchRepository;
+        this.fullTextSearchSupport = fullTextSearchSupport;
+        this.catalogSearchQueryService = catalogSearchQueryService;
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<Course> handle(SearchCoursesQuery query) {
-        // If searching for non-published, require authentication
-        if (query.status() != null && query.status() != EntityStatus.PUBLISHED) {
-            securityHelper.requireAuthentication();
+        requireAuthenticationForNonPublished(query);
+        
+        String tsQuery = FullTextSearchSupport.toPrefixTsQuery(query.title());
+        if (tsQuery != null && fullTextSearchSupport.isAvailable()) {
+            List<UUID> ids = courseFullTextSearchRepository.searchIds(
+                    tsQuery,
+                    query.topicIds(),
+                    query.authorIds(),
+                    query.status(),
+                    query.sortByRelevance()
+            );
+            return loadInOrder(ids);
         }
         
-        return courseRepository.searchCourses(
+        List<Course> courses = courseRepository.searchCourses(
                 query.title(),
                 query.topicIds(),
                 query.authorIds(),
                 query.status()
         );
+        if (query.sortByRelevance() && query.title() != null) {
+            // LIKE fallback has no rank: titles starting with the search text first, newest first otherwise
+            String prefix = query.title().toLowerCase(Locale.ROOT);
+            return courses.stream()
+                    .sorted(Comparator.comparing(course -> !course.getTitle().toLowerCase(Locale.ROOT).startsWith(prefix)))
+                    .toList();
+        }
+        return courses;
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Optional<Course> handle(GetCourseByIdQuery query) {
-        Optional<Course> courseOpt = courseRepository.findById(query.courseId());
+    public CursorPage<CourseDetail> handle(SearchCoursesPageQuery query) {
+        SearchCoursesQuery search = query.search();
+        requireAuthenticationForNonPublished(search);
+        int size = query.size() != null ? Math.min(query.size(), maxPageSize) : defaultPageSize;
+        KeysetCursor cursor = query.cursor();
+        
+        // Phase 1: one keyset page of IDs plus one extra row to know whether another page exists
+        List<UUID> ids;
+        Map<UUID, Double> ranks = Map.of();
+        String tsQuery = FullTextSearchSupport.toPrefixTsQuery(search.title());
+        if (tsQuery != null && fullTextSearchSupport.isAvailable()) {
+            List<CourseFullTextSearchRepository.Hit> hits = courseFullTextSearchRepository.searchPage(
+                    tsQuery,
+                    search.topicIds(),
+                    search.authorIds(),
+                    search.status(),
+                    search.sortByRelevance(),
+                    cursor,
+                    size + 1
+            );
+            ids = hits.stream().map(CourseFullTextSearchRepository.Hit::id).toList();
+            if (search.sortByRelevance()) {
+                ranks = hits.stream().collect(Collectors.toMap(
+                        CourseFullTextSearchRepository.Hit::id, CourseFullTextSearchRepository.Hit::rank));
+            }
+        } else {
+            // LIKE fallback has no rank, so it always pages newest first
+            ids = courseRepository.searchPageIds(
+                    search.title(),
+                    search.topicIds(),
+                    search.authorIds(),
+                    search.status(),
+                    cursor != null ? cursor.createdAt() : null,
+                    cursor != null ? cursor.id() : null,
+                    Limit.of(size + 1)
+            );
+        }
+        
+        if (ids.isEmpty()) {
+            return CursorPage.empty(size);
+        }
+        
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
         
-        if (courseOpt.isEmpty()) {
-            return Optional.empty();
+        // Phase 2: hydrate only the courses of this page
+        List<CourseDetail> courses = loadDetails(loadInOrderWithAuthorsAndTopics(pageIds));
+        
+        String nextCursor = null;
+        if (hasNext && !courses.isEmpty()) {
+            Course last = courses.get(courses.size() - 1).course();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId(), ranks.get(last.getId())).encode();
+        }
+        return new CursorPage<>(courses, size, nextCursor, hasNext);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long handle(CountCoursesQuery query) {
+        SearchCoursesQuery search = query.search();
+        requireAuthenticationForNonPublished(search);
+        
+        String tsQuery = FullTextSearchSupport.toPrefixTsQuery(search.title());
+        if (tsQuery != null && fullTextSearchSupport.isAvailable()) {
+            return courseFullTextSearchRepository.count(tsQuery, search.topicIds(), search.authorIds(), search.status());
+        }
+        return courseRepository.countSearch(search.title(), search.topicIds(), search.authorIds(), search.status());
+    }
+    
+    private void requireAuthenticationForNonPublished(SearchCoursesQuery query) {
+        // If searching for non-published, require authentication
+        if (query.status() != null && query.status() != EntityStatus.PUBLISHED) {
+            securityHelper.requireAuthentication();
+        }
+    }
+    
+    private List<Course> loadInOrderWithAuthorsAndTopics(List<UUID> ids) {
+        Map<UUID, Course> byId = courseRepository.findWithAuthorsAndTopicsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity(), (first, second) -> first));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+    
+    /**
+     * Attaches guide summaries to courses whose authors and topics are already loaded.
+     * Three selects for any number of courses and guides: course-guide links, guide columns, guide authors.
+     * Guide entities (and their pages, topics and challenges) are never loaded.
+     */
+    private List<CourseDetail> loadDetails(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return List.of();
         }
+        List<CourseGuideRow> rows = courseRepository.findGuideRowsByCourseIdIn(
+                courses.stream().map(Course::getId).toList());
+        List<UUID> guideIds = rows.stream().map(CourseGuideRow::guideId).distinct().toList();
         
-        Course course = courseOpt.get();
+        Map<UUID, GuideSummary> summariesById = Map.of();
+        if (!guideIds.isEmpty()) {
+            Map<UUID, Set<String>> authorsByGuide = guideRepository.findAuthorRowsByGuideIds(guideIds).stream()
+                    .collect(Collectors.groupingBy(GuideAuthorRow::guideId,
+                            Collectors.mapping(GuideAuthorRow::authorId, Collectors.toSet())));
+            summariesById = guideRepository.findSummariesByIdIn(guideIds).stream()
+                    .map(summary -> summary.withCollections(
+                            authorsByGuide.getOrDefault(summary.id(), Set.of()), List.of()))
+                    .collect(Collectors.toMap(GuideSummary::id, Function.identity()));
+        }
         
+        Map<UUID, GuideSummary> summaries = summariesById;
+        Map<UUID, List<GuideSummary>> guidesByCourse = rows.stream()
+                .filter(row -> summaries.containsKey(row.guideId()))
+                .collect(Collectors.groupingBy(CourseGuideRow::courseId,
+                        Collectors.mapping(row -> summaries.get(row.guideId()), Collectors.toList())));
+        return courses.stream()
+                .map(course -> new CourseDetail(course, guidesByCourse.getOrDefault(course.getId(), List.of())))
+                .toList();
+    }
+    
+    private List<Course> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Course> byId = courseRepository.findAllWithAuthorsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        return ids.stream().map(byId::get).toList();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Course> handle(GetCourseByIdQuery query) {
+        return courseRepository.findWithGuidesById(query.courseId())
+                .filter(this::isVisibleToCurrentUser);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CourseDetail> handle(GetCourseDetailQuery query) {
+        return courseRepository.findWithAuthorsAndTopicsById(query.courseId())
+                .filter(this::isVisibleToCurrentUser)
+                .map(course -> loadDetails(List.of(course)).get(0));
+    }
+    
+    private boolean isVisibleToCurrentUser(Course course) {
         // Visibility rules: PUBLISHED is public, DRAFT only for authors/admin, DELETED for no one
         if (course.getStatus() == EntityStatus.DELETED) {
-            return Optional.empty();
+            return false;
         }
         
         if (course.getStatus() == EntityStatus.DRAFT) {
             securityHelper.requireAuthentication();
             String currentUserId = securityHelper.getCurrentUserId();
-            if (!course.isAuthor(currentUserId) && !securityHelper.isAdmin()) {
-                return Optional.empty();
-            }
+            return course.isAuthor(currentUserId) || securityHelper.isAdmin();
         }
         
-        return courseOpt;
+        return true;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CourseVersion> handle(GetCourseVersionQuery query) {
+        // No visibility rules here: callers only use validators of PUBLISHED courses
+        return courseRepository.findVersionById(query.courseId());
+    }
+    
+    @Override
+    public Optional<SearchFacets> handle(GetCourseSearchFacetsQuery query) {
+        SearchCoursesQuery search = query.search();
+        EntityStatus status = search.status() != null ? search.status() : EntityStatus.PUBLISHED;
+        // Counts span every author's courses, so only admins may count non-published ones
+        if (status != EntityStatus.PUBLISHED) {
+            securityHelper.requireRole("ROLE_ADMIN");
+        }
+        return catalogSearchQueryService.handle(new GetCatalogFacetsQuery(new SearchCatalogQuery(
+                DocumentType.COURSE,
+                status,
+                search.title(),
+                search.authorIds() != null ? Set.copyOf(search.authorIds()) : null,
+                search.topicIds() != null ? Set.copyOf(search.topicIds()) : null,
+                null,
+                null)));
     }
 }
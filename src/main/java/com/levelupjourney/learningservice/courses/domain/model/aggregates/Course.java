@@ -14,7 +14,14 @@ import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Entity
-@Table(name = "courses")
+@NamedEntityGraph(name = "Course.header", attributeNodes = @NamedAttributeNode("authors"))
+@NamedEntityGraph(name = "Course.withGuides", attributeNodes = {
+        @NamedAttributeNode("authors"),
+        @NamedAttributeNode("guides")
+})
+@Table(name = "courses", indexes = {
+        @Index(name = "idx_courses_created_at_id", columnList = "createdAt, id")
+})
 @Getter
 @NoArgsConstructor
 public class Course extends AuditableModel {
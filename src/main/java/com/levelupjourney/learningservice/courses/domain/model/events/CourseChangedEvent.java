@@ -0,0 +1,10 @@
+package com.levelupjourney.learningservice.courses.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published whenever a course or its guide list changes.
+ * Read-side indexes listen to it; it is not sent to Kafka.
+ */
+public record CourseChangedEvent(UUID courseId) {
+}
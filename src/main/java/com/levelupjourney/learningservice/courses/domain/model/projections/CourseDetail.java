@@ -0,0 +1,17 @@
+package com.levelupjourney.learningservice.courses.domain.model.projections;
+
+import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+
+import java.util.List;
+
+/**
+ * Read model for course detail and listings.
+ * course has its authors and topics loaded, its guides collection is never touched;
+ * guides are summaries (columns plus author IDs) loaded in bulk.
+ */
+public record CourseDetail(
+        Course course,
+        List<GuideSummary> guides
+) {
+}
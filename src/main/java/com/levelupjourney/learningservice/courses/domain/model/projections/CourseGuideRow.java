@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.courses.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * One (course, guide) association read in bulk when assembling course details.
+ */
+public record CourseGuideRow(UUID courseId, UUID guideId) {
+}
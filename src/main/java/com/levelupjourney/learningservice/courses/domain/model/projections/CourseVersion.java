@@ -0,0 +1,27 @@
+package com.levelupjourney.learningservice.courses.domain.model.projections;
+
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Version-only view of a course used to answer conditional GETs without loading it.
+ * The course version covers its fields, topics membership and guide list; authors are
+ * rows of their own and are summarised by count and id sum (ids only grow, so a
+ * replaced author set always changes the sum). Guide summaries are covered by their
+ * versions, their persisted likes counts and their latest update.
+ */
+public record CourseVersion(
+        UUID id,
+        EntityStatus status,
+        Long version,
+        LocalDateTime updatedAt,
+        Long authorsCount,
+        Long authorsIdSum,
+        Long guidesVersionSum,
+        Long guidesLikesSum,
+        LocalDateTime guidesUpdatedAt,
+        LocalDateTime topicsUpdatedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.courses.domain.model.queries;
+
+/**
+ * Number of courses a search matches across all pages
+ */
+public record CountCoursesQuery(SearchCoursesQuery search) {
+    public CountCoursesQuery {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.levelupjourney.learningservice.courses.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Course with authors, topics and guide summaries, subject to the same visibility rules as {@link GetCourseByIdQuery}
+ */
+public record GetCourseDetailQuery(
+        UUID courseId
+) {
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.learningservice.courses.domain.model.queries;
+
+/**
+ * Facet counts (topics, difficulty levels, status, likes buckets) over every course the search matches.
+ * Without a status filter the counts cover PUBLISHED courses.
+ */
+public record GetCourseSearchFacetsQuery(SearchCoursesQuery search) {
+    public GetCourseSearchFacetsQuery {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+    }
+}
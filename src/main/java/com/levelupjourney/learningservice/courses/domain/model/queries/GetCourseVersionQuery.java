@@ -0,0 +1,8 @@
+package com.levelupjourney.learningservice.courses.domain.model.queries;
+
+import java.util.UUID;
+
+public record GetCourseVersionQuery(
+        UUID courseId
+) {
+}
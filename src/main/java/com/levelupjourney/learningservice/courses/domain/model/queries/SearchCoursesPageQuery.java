@@ -0,0 +1,23 @@
+package com.levelupjourney.learningservice.courses.domain.model.queries;
+
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
+
+/**
+ * One keyset page of a course search.
+ * cursor is null for the first page; size falls back to the configured default page size when null
+ * and is capped by the configured maximum.
+ */
+public record SearchCoursesPageQuery(
+        SearchCoursesQuery search,
+        KeysetCursor cursor,
+        Integer size
+) {
+    public SearchCoursesPageQuery {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+    }
+}
@@ -5,10 +5,19 @@ import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * sort is optional: "relevance" ranks title/description matches, anything else keeps newest first.
+ */
 public record SearchCoursesQuery(
         String title,
         List<UUID> topicIds,
         List<String> authorIds,
-        EntityStatus status
+        EntityStatus status,
+        String sort
 ) {
+    public static final String RELEVANCE = "relevance";
+
+    public boolean sortByRelevance() {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
 }
@@ -1,13 +1,27 @@
 package com.levelupjourney.learningservice.courses.domain.services;
 
 import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseDetail;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseVersion;
+import com.levelupjourney.learningservice.courses.domain.model.queries.CountCoursesQuery;
 import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseByIdQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseDetailQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseSearchFacetsQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseVersionQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.SearchCoursesPageQuery;
 import com.levelupjourney.learningservice.courses.domain.model.queries.SearchCoursesQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.shared.domain.model.CursorPage;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CourseQueryService {
     List<Course> handle(SearchCoursesQuery query);
+    CursorPage<CourseDetail> handle(SearchCoursesPageQuery query);
+    long handle(CountCoursesQuery query);
     Optional<Course> handle(GetCourseByIdQuery query);
+    Optional<CourseDetail> handle(GetCourseDetailQuery query);
+    Optional<CourseVersion> handle(GetCourseVersionQuery query);
+    Optional<SearchFacets> handle(GetCourseSearchFacetsQuery query);
 }
@@ -1,18 +1,130 @@
 package com.levelupjourney.learningservice.courses.infrastructure.persistence.jpa.repositories;
 
 import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseGuideRow;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseVersion;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, UUID> {
     
+    /**
+     * Course row plus its authors, for authorization checks and simple field updates.
+     */
+    @EntityGraph("Course.header")
+    Optional<Course> findHeaderById(UUID id);
+    
+    /**
+     * Course with authors and its guides (guide rows only, their collections stay lazy).
+     */
+    @EntityGraph("Course.withGuides")
+    Optional<Course> findWithGuidesById(UUID id);
+    
+    /**
+     * Validators for conditional GETs: one row of versions and aggregates, no collections loaded.
+     */
+    @Query("SELECT new com.levelupjourney.learningservice.courses.domain.model.projections.CourseVersion(" +
+           "c.id, c.status, c.version, c.updatedAt, " +
+           "(SELECT COUNT(a) FROM CourseAuthor a WHERE a.course.id = c.id), " +
+           "(SELECT COALESCE(SUM(a.id), 0L) FROM CourseAuthor a WHERE a.course.id = c.id), " +
+           "(SELECT COALESCE(SUM(g.version), 0L) FROM Course gc JOIN gc.guides g WHERE gc.id = c.id), " +
+           "(SELECT COALESCE(SUM(g.likesCount), 0L) FROM Course gc JOIN gc.guides g WHERE gc.id = c.id), " +
+           "(SELECT MAX(g.updatedAt) FROM Course gc JOIN gc.guides g WHERE gc.id = c.id), " +
+           "(SELECT MAX(t.updatedAt) FROM Course tc JOIN tc.topics t WHERE tc.id = c.id)) " +
+           "FROM Course c WHERE c.id = :id")
+    Optional<CourseVersion> findVersionById(@Param("id") UUID id);
+    
+    /**
+     * Courses with their authors for IDs found by the full-text search (order is not preserved).
+     */
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.authors WHERE c.id IN :ids")
+    List<Course> findAllWithAuthorsByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * IDs of non-deleted courses in ID order, for walking the table in chunks (catalog index build).
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.status <> 'DELETED' " +
+           "AND (:afterId IS NULL OR c.id > :afterId) ORDER BY c.id")
+    List<UUID> findIndexableIdsAfter(@Param("afterId") UUID afterId, Limit limit);
+    
+    /**
+     * Courses with authors and topics (both sets, so one joined select), for the catalog index.
+     */
+    @EntityGraph(attributePaths = {"authors", "topics"})
+    List<Course> findWithAuthorsAndTopicsByIdIn(Collection<UUID> ids);
+    
+    /**
+     * Course row with authors and topics in one select, for course detail
+     */
+    @EntityGraph(attributePaths = {"authors", "topics"})
+    Optional<Course> findWithAuthorsAndTopicsById(UUID id);
+    
+    /**
+     * Guide IDs of the given courses, one select for any number of courses and guides
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.courses.domain.model.projections.CourseGuideRow(c.id, g.id)
+            FROM Course c JOIN c.guides g
+            WHERE c.id IN :courseIds
+            """)
+    List<CourseGuideRow> findGuideRowsByCourseIdIn(@Param("courseIds") Collection<UUID> courseIds);
+    
+    /**
+     * Keyset page of course IDs matching the search filters, ordered by (createdAt DESC, id DESC)
+     * on idx_courses_created_at_id. Filters on collections use EXISTS so no DISTINCT is needed.
+     */
+    @Query("""
+            SELECT c.id FROM Course c
+            WHERE (:title IS NULL OR LOWER(CAST(c.title AS string)) LIKE LOWER(CONCAT('%', CAST(:title AS string), '%')))
+            AND (:status IS NULL OR c.status = :status)
+            AND (COALESCE(:topicIds) IS NULL OR EXISTS (SELECT 1 FROM c.topics t WHERE t.id IN :topicIds))
+            AND (COALESCE(:authorIds) IS NULL OR EXISTS (SELECT 1 FROM c.authors a WHERE a.authorId IN :authorIds))
+            AND c.status <> 'DELETED'
+            AND (:cursorCreatedAt IS NULL
+                 OR c.createdAt < :cursorCreatedAt
+                 OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<UUID> searchPageIds(
+            @Param("title") String title,
+            @Param("topicIds") List<UUID> topicIds,
+            @Param("authorIds") List<String> authorIds,
+            @Param("status") EntityStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+    
+    @Query("""
+            SELECT COUNT(c) FROM Course c
+            WHERE (:title IS NULL OR LOWER(CAST(c.title AS string)) LIKE LOWER(CONCAT('%', CAST(:title AS string), '%')))
+            AND (:status IS NULL OR c.status = :status)
+            AND (COALESCE(:topicIds) IS NULL OR EXISTS (SELECT 1 FROM c.topics t WHERE t.id IN :topicIds))
+            AND (COALESCE(:authorIds) IS NULL OR EXISTS (SELECT 1 FROM c.authors a WHERE a.authorId IN :authorIds))
+            AND c.status <> 'DELETED'
+            """)
+    long countSearch(
+            @Param("title") String title,
+            @Param("topicIds") List<UUID> topicIds,
+            @Param("authorIds") List<String> authorIds,
+            @Param("status") EntityStatus status
+    );
+    
+    /**
+     * Unbounded search kept for the legacy (non-paginated) course listing
+     */
     @Query("SELECT DISTINCT c FROM Course c " +
            "LEFT JOIN FETCH c.authors " +
            "LEFT JOIN c.topics t " +
@@ -0,0 +1,110 @@
+package com.levelupjourney.learningservice.courses.infrastructure.persistence.search;
+
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.search.FullTextSearchSupport;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over non-deleted courses using the search_vector GIN index.
+ * Only used when {@link FullTextSearchSupport#isAvailable()}; CourseRepository.searchCourses
+ * keeps the LIKE matching for every other database.
+ */
+@Repository
+public class CourseFullTextSearchRepository {
+
+    // float8 so the rank compares exactly with the value carried by the cursor
+    private static final String RANK_SQL = "ts_rank(c.search_vector, q)::float8";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CourseFullTextSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A matching course with the values needed to build the next page's cursor
+     */
+    public record Hit(UUID id, LocalDateTime createdAt, double rank) {
+    }
+
+    /**
+     * IDs of matching courses, best match first when byRelevance, newest first otherwise
+     */
+    public List<UUID> searchIds(String tsQuery, List<UUID> topicIds, List<String> authorIds,
+                                EntityStatus status, boolean byRelevance) {
+        var params = new MapSqlParameterSource("tsQuery", tsQuery);
+        var sql = new StringBuilder("SELECT c.id\n");
+        appendFilters(sql, params, topicIds, authorIds, status);
+        sql.append(byRelevance
+                ? "ORDER BY ts_rank(c.search_vector, q) DESC, c.created_at DESC, c.id"
+                : "ORDER BY c.created_at DESC, c.id");
+        return jdbcTemplate.queryForList(sql.toString(), params, UUID.class);
+    }
+
+    /**
+     * Keyset page of matching courses, ordered by (rank DESC, created_at DESC, id DESC) when byRelevance
+     * and by (created_at DESC, id DESC) otherwise. cursor is the last hit of the previous page or null.
+     */
+    public List<Hit> searchPage(String tsQuery, List<UUID> topicIds, List<String> authorIds,
+                                EntityStatus status, boolean byRelevance, KeysetCursor cursor, int limit) {
+        var params = new MapSqlParameterSource("tsQuery", tsQuery);
+        var sql = new StringBuilder("SELECT c.id, c.created_at, %s AS rank\n".formatted(RANK_SQL));
+        appendFilters(sql, params, topicIds, authorIds, status);
+        if (cursor != null) {
+            params.addValue("cursorCreatedAt", cursor.createdAt());
+            params.addValue("cursorId", cursor.id());
+            if (byRelevance && cursor.rank() != null) {
+                sql.append("AND (%1$s < :cursorRank OR (%1$s = :cursorRank AND (c.created_at, c.id) < (:cursorCreatedAt, :cursorId)))\n"
+                        .formatted(RANK_SQL));
+                params.addValue("cursorRank", cursor.rank());
+            } else {
+                sql.append("AND (c.created_at, c.id) < (:cursorCreatedAt, :cursorId)\n");
+            }
+        }
+        sql.append(byRelevance
+                ? "ORDER BY rank DESC, c.created_at DESC, c.id DESC\n"
+                : "ORDER BY c.created_at DESC, c.id DESC\n");
+        sql.append("LIMIT :limit");
+        params.addValue("limit", limit);
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new Hit(
+                rs.getObject("id", UUID.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getDouble("rank")));
+    }
+
+    public long count(String tsQuery, List<UUID> topicIds, List<String> authorIds, EntityStatus status) {
+        var params = new MapSqlParameterSource("tsQuery", tsQuery);
+        var sql = new StringBuilder("SELECT COUNT(*)\n");
+        appendFilters(sql, params, topicIds, authorIds, status);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static void appendFilters(StringBuilder sql, MapSqlParameterSource params,
+                                      List<UUID> topicIds, List<String> authorIds, EntityStatus status) {
+        sql.append("""
+                FROM courses c, %s q
+                WHERE c.search_vector @@ q
+                AND c.status <> 'DELETED'
+                """.formatted(FullTextSearchSupport.TS_QUERY_SQL));
+        if (status != null) {
+            sql.append("AND c.status = :status\n");
+            params.addValue("status", status.name());
+        }
+        if (topicIds != null && !topicIds.isEmpty()) {
+            sql.append("AND EXISTS (SELECT 1 FROM course_topics ct WHERE ct.course_id = c.id AND ct.topic_id IN (:topicIds))\n");
+            params.addValue("topicIds", topicIds);
+        }
+        if (authorIds != null && !authorIds.isEmpty()) {
+            sql.append("AND EXISTS (SELECT 1 FROM course_authors ca WHERE ca.course_id = c.id AND ca.author_id IN (:authorIds))\n");
+            params.addValue("authorIds", authorIds);
+        }
+    }
+}
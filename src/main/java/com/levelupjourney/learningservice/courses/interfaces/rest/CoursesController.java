@@ -2,14 +2,25 @@ package com.levelupjourney.learningservice.courses.interfaces.rest;
 
 import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
 import com.levelupjourney.learningservice.courses.domain.model.commands.*;
-import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseByIdQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.CountCoursesQuery;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseDetail;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseDetailQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseSearchFacetsQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseVersionQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.SearchCoursesPageQuery;
 import com.levelupjourney.learningservice.courses.domain.model.queries.SearchCoursesQuery;
 import com.levelupjourney.learningservice.courses.domain.services.CourseCommandService;
 import com.levelupjourney.learningservice.courses.domain.services.CourseQueryService;
 import com.levelupjourney.learningservice.courses.interfaces.rest.resources.*;
 import com.levelupjourney.learningservice.courses.interfaces.rest.transform.CourseResourceAssembler;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.SearchFacetsResource;
+import com.levelupjourney.learningservice.search.interfaces.rest.transform.SearchFacetsResourceAssembler;
+import com.levelupjourney.learningservice.shared.infrastructure.exception.BusinessException;
+import com.levelupjourney.learningservice.shared.domain.model.CursorPage;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
+import com.levelupjourney.learningservice.shared.infrastructure.web.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,9 +29,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -30,10 +43,15 @@ import java.util.UUID;
 @Tag(name = "Courses", description = "Course management endpoints")
 public class CoursesController {
     
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    
     private final CourseCommandService courseCommandService;
     private final CourseQueryService courseQueryService;
     private final CourseResourceAssembler assembler;
     
+    @Value("${application.courses.search.legacy-unbounded:false}")
+    private boolean legacyUnboundedSearch;
+    
     public CoursesController(
             CourseCommandService courseCommandService,
             CourseQueryService courseQueryService,
@@ -47,19 +65,22 @@ public class CoursesController {
     @Operation(
             summary = "Search courses",
             description = """
-                    Search courses with optional filters.
+                    Search courses with optional filters, one keyset page at a time.
                     - Anonymous users see only PUBLISHED courses
                     - Authenticated users see PUBLISHED + their DRAFT courses
-                    - Filter by title (partial match), topics, authors, or status
+                    - Filter by title (full-text match on title and description, accent- and case-insensitive), topics, authors, or status
+                    - sort=relevance ranks the best title/description matches first; default is newest first
                     - Courses include difficulty level: BEGINNER, INTERMEDIATE, ADVANCED, EXPERT
-                    - Example: /api/v1/courses?title=Java&topicIds=uuid1,uuid2&status=PUBLISHED
+                    - Pass the previous page's `nextCursor` as `cursor`; `size` is capped by the configured maximum
+                    - The total number of matches is returned in `X-Total-Count`; `count=false` skips counting
+                    - Example: /api/v1/courses?title=Java&topicIds=uuid1,uuid2&status=PUBLISHED&size=20
                     """
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Courses retrieved successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid parameters")
+            @ApiResponse(responseCode = "200", description = "Courses retrieved successfully (cursor paginated)"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters, cursor or page size")
     })
-    public ResponseEntity<List<CourseResource>> searchCourses(
+    public ResponseEntity<?> searchCourses(
             @io.swagger.v3.oas.annotations.Parameter(description = "Filter by course title (partial match)")
             @RequestParam(required = false) String title,
             @io.swagger.v3.oas.annotations.Parameter(description = "Filter by topic UUIDs (comma-separated)")
@@ -67,16 +88,67 @@ public class CoursesController {
             @io.swagger.v3.oas.annotations.Parameter(description = "Filter by author user IDs (comma-separated)")
             @RequestParam(required = false) List<String> authorIds,
             @io.swagger.v3.oas.annotations.Parameter(description = "Filter by status (DRAFT, PUBLISHED, etc.)")
-            @RequestParam(required = false) EntityStatus status) {
+            @RequestParam(required = false) EntityStatus status,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Sort order: 'relevance' or newest first when omitted")
+            @RequestParam(required = false) String sort,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Opaque cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page size", example = "20")
+            @RequestParam(required = false) Integer size,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Whether to return the total in X-Total-Count")
+            @RequestParam(defaultValue = "true") boolean count) {
         
-        var query = new SearchCoursesQuery(title, topicIds, authorIds, status);
-        List<Course> courses = courseQueryService.handle(query);
+        var search = new SearchCoursesQuery(title, topicIds, authorIds, status, sort);
+        if (legacyUnboundedSearch) {
+            // Migration only: every matching course in one response, as before pagination
+            List<Course> courses = courseQueryService.handle(search);
+            return ResponseEntity.ok(courses.stream()
+                    .map(assembler::toResourceFromEntity)
+                    .toList());
+        }
         
-        List<CourseResource> resources = courses.stream()
-                .map(assembler::toResourceFromEntity)
-                .toList();
+        CursorPage<CourseResource> page = courseQueryService
+                .handle(new SearchCoursesPageQuery(search, KeysetCursor.decode(cursor), size))
+                .map(assembler::toResourceFromDetail);
         
-        return ResponseEntity.ok(resources);
+        var response = ResponseEntity.ok();
+        if (count) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(courseQueryService.handle(new CountCoursesQuery(search))));
+        }
+        return response.body(page);
+    }
+    
+    @GetMapping("/facets")
+    @Operation(
+            summary = "Facet counts for a course search",
+            description = """
+                    Takes the same filters as the course search and returns the number of matching courses
+                    per topic ID, difficulty level, status and likes range, counted in memory over all matches.
+                    - Without status, counts cover PUBLISHED courses; other statuses require ADMIN
+                    - The course search returns cursor pages without facets, so facets are served here
+                    - 503 while the catalog index is disabled or building
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Facet counts retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = SearchFacetsResource.class))),
+            @ApiResponse(responseCode = "503", description = "Catalog index not available")
+    })
+    public ResponseEntity<SearchFacetsResource> getCourseSearchFacets(
+            @io.swagger.v3.oas.annotations.Parameter(description = "Filter by course title (partial match)")
+            @RequestParam(required = false) String title,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Filter by topic UUIDs (comma-separated)")
+            @RequestParam(required = false) List<UUID> topicIds,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Filter by author user IDs (comma-separated)")
+            @RequestParam(required = false) List<String> authorIds,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Filter by status (defaults to PUBLISHED)")
+            @RequestParam(required = false) EntityStatus status) {
+        
+        var query = new GetCourseSearchFacetsQuery(new SearchCoursesQuery(title, topicIds, authorIds, status, null));
+        var facets = courseQueryService.handle(query)
+                .orElseThrow(() -> new BusinessException("Search facets are not available yet",
+                        HttpStatus.SERVICE_UNAVAILABLE));
+        return ResponseEntity.ok(SearchFacetsResourceAssembler.toResourceFromValueObject(facets));
     }
     
     @GetMapping("/{id}")
@@ -89,22 +161,40 @@ public class CoursesController {
                     - Returns 404 if course not found or not accessible
                     - Includes full guide list with metadata
                     - Course includes difficulty level: BEGINNER, INTERMEDIATE, ADVANCED, EXPERT
+                    - PUBLISHED courses carry an ETag; If-None-Match returns 304 when unchanged
                     """
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Course retrieved successfully",
                     content = @Content(schema = @Schema(implementation = CourseResource.class))),
+            @ApiResponse(responseCode = "304", description = "Course not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Course not found or not accessible")
     })
     public ResponseEntity<CourseResource> getCourseById(
             @io.swagger.v3.oas.annotations.Parameter(description = "Course UUID", required = true)
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            WebRequest webRequest
     ) {
-        var query = new GetCourseByIdQuery(id);
-        Course course = courseQueryService.handle(query)
+        // Conditional GET from version columns only; non-PUBLISHED courses get no validators
+        var version = courseQueryService.handle(new GetCourseVersionQuery(id))
+                .filter(found -> found.status() == EntityStatus.PUBLISHED)
+                .orElse(null);
+        if (version != null) {
+            String eTag = EntityTags.strong("course", id, version.version(), version.authorsCount(),
+                    version.authorsIdSum(), version.guidesVersionSum(), version.guidesLikesSum(),
+                    version.guidesUpdatedAt(), version.topicsUpdatedAt());
+            // No Last-Modified: guide likes have no timestamp, so a date-only revalidation could
+            // answer 304 over a changed body
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+        }
+        
+        var query = new GetCourseDetailQuery(id);
+        CourseDetail course = courseQueryService.handle(query)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
-        return ResponseEntity.ok(assembler.toResourceFromEntity(course));
+        return ResponseEntity.ok(assembler.toResourceFromDetail(course));
     }
     
     @PostMapping
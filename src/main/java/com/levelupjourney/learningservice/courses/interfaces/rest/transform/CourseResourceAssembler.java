@@ -2,7 +2,9 @@ package com.levelupjourney.learningservice.courses.interfaces.rest.transform;
 
 import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
 import com.levelupjourney.learningservice.courses.domain.model.commands.*;
+import com.levelupjourney.learningservice.courses.domain.model.projections.CourseDetail;
 import com.levelupjourney.learningservice.courses.interfaces.rest.resources.*;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.GuideSummaryResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.TopicSummaryResource;
 import org.springframework.stereotype.Component;
@@ -16,12 +18,6 @@ import java.util.stream.Collectors;
 public class CourseResourceAssembler {
     
     public CourseResource toResourceFromEntity(Course course) {
-        Set<TopicSummaryResource> topicResources = course.getTopics().stream()
-                .map(topic -> new TopicSummaryResource(
-                        topic.getId(),
-                        topic.getName()))
-                .collect(Collectors.toSet());
-        
         List<GuideSummaryResource> guideResources = course.getGuides().stream()
                 .map(guide -> new GuideSummaryResource(
                         guide.getId(),
@@ -35,6 +31,40 @@ public class CourseResourceAssembler {
                         guide.getCreatedAt()))
                 .collect(Collectors.toList());
         
+        return toResource(course, guideResources);
+    }
+    
+    /**
+     * Same resource as {@link #toResourceFromEntity}, with guides taken from the summaries instead of the entity
+     */
+    public CourseResource toResourceFromDetail(CourseDetail detail) {
+        List<GuideSummaryResource> guideResources = detail.guides().stream()
+                .map(CourseResourceAssembler::toGuideSummaryResource)
+                .collect(Collectors.toList());
+        
+        return toResource(detail.course(), guideResources);
+    }
+    
+    private static GuideSummaryResource toGuideSummaryResource(GuideSummary guide) {
+        return new GuideSummaryResource(
+                guide.id(),
+                guide.title(),
+                guide.description(),
+                guide.coverImage(),
+                guide.status(),
+                guide.likesCount(),
+                guide.pagesCount(),
+                guide.authorIds(),
+                guide.createdAt());
+    }
+    
+    private CourseResource toResource(Course course, List<GuideSummaryResource> guideResources) {
+        Set<TopicSummaryResource> topicResources = course.getTopics().stream()
+                .map(topic -> new TopicSummaryResource(
+                        topic.getId(),
+                        topic.getName()))
+                .collect(Collectors.toSet());
+        
         return new CourseResource(
                 course.getId(),
                 course.getTitle(),
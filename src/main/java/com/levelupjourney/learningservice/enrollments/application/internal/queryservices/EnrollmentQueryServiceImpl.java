@@ -1,30 +1,51 @@
 package com.levelupjourney.learningservice.enrollments.application.internal.queryservices;
 
 import com.levelupjourney.learningservice.enrollments.domain.model.aggregates.Enrollment;
+import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetCourseEnrollmentsPageQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetCourseEnrollmentsQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetEnrollmentByUserAndCourseQuery;
+import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetUserEnrollmentsPageQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetUserEnrollmentsQuery;
 import com.levelupjourney.learningservice.enrollments.domain.services.EnrollmentQueryService;
 import com.levelupjourney.learningservice.enrollments.infrastructure.persistence.jpa.repositories.EnrollmentRepository;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.UnauthorizedException;
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.count.ApproximateCountCache;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class EnrollmentQueryServiceImpl implements EnrollmentQueryService {
     
+    // Newest first; id keeps pages stable when enrollments share a timestamp
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    
     private final EnrollmentRepository enrollmentRepository;
     private final SecurityContextHelper securityHelper;
+    private final ApproximateCountCache approximateCountCache;
+    
+    @Value("${application.pagination.default-page-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${application.pagination.max-page-size:100}")
+    private int maxPageSize;
     
     public EnrollmentQueryServiceImpl(
             EnrollmentRepository enrollmentRepository,
-            SecurityContextHelper securityHelper) {
+            SecurityContextHelper securityHelper,
+            ApproximateCountCache approximateCountCache) {
         this.enrollmentRepository = enrollmentRepository;
         this.securityHelper = securityHelper;
+        this.approximateCountCache = approximateCountCache;
     }
     
     @Override
@@ -60,4 +81,40 @@ public class EnrollmentQueryServiceImpl implements EnrollmentQueryService {
         
         return enrollmentRepository.findByCourseId(query.courseId());
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public OffsetPage<Enrollment> handle(GetUserEnrollmentsPageQuery query) {
+        // Users can only view their own enrollments unless admin
+        String currentUserId = securityHelper.getCurrentUserId();
+        if (!query.userId().equals(currentUserId) && !securityHelper.isAdmin()) {
+            throw new UnauthorizedException("You can only view your own enrollments");
+        }
+        
+        Slice<Enrollment> slice = enrollmentRepository.findSliceByUserId(
+                query.userId(), pageRequest(query.page(), query.size()));
+        String userId = query.userId();
+        return OffsetPage.of(slice, approximateCountCache.total(query.total(), slice,
+                "enrollments.user|" + userId, () -> enrollmentRepository.countByUserId(userId)));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public OffsetPage<Enrollment> handle(GetCourseEnrollmentsPageQuery query) {
+        // Only admin or course authors can view enrollments
+        securityHelper.requireAuthentication();
+        
+        Slice<Enrollment> slice = enrollmentRepository.findSliceByCourseId(
+                query.courseId(), pageRequest(query.page(), query.size()));
+        UUID courseId = query.courseId();
+        return OffsetPage.of(slice, approximateCountCache.total(query.total(), slice,
+                "enrollments.course|" + courseId, () -> enrollmentRepository.countByCourseId(courseId)));
+    }
+    
+    private PageRequest pageRequest(Integer page, Integer size) {
+        return PageRequest.of(
+                page != null ? page : 0,
+                size != null ? Math.min(size, maxPageSize) : defaultPageSize,
+                NEWEST_FIRST);
+    }
 }
@@ -24,7 +24,7 @@ public class Enrollment extends AuditableModel {
     @Column(name = "user_id", nullable = false)
     private String userId;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
     
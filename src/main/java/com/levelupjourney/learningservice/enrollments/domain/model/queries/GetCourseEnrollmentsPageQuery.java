@@ -0,0 +1,28 @@
+package com.levelupjourney.learningservice.enrollments.domain.model.queries;
+
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
+
+import java.util.UUID;
+
+/**
+ * One page of a course's enrollments, newest first.
+ * page defaults to 0 and size to the configured default page size; total defaults to NONE.
+ */
+public record GetCourseEnrollmentsPageQuery(
+        UUID courseId,
+        Integer page,
+        Integer size,
+        TotalCountMode total
+) {
+    public GetCourseEnrollmentsPageQuery {
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("Page number cannot be negative");
+        }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+        if (total == null) {
+            total = TotalCountMode.NONE;
+        }
+    }
+}
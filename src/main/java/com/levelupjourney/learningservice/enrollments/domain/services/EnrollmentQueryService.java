@@ -1,9 +1,12 @@
 package com.levelupjourney.learningservice.enrollments.domain.services;
 
 import com.levelupjourney.learningservice.enrollments.domain.model.aggregates.Enrollment;
+import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetCourseEnrollmentsPageQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetCourseEnrollmentsQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetEnrollmentByUserAndCourseQuery;
+import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetUserEnrollmentsPageQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetUserEnrollmentsQuery;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,6 @@ public interface EnrollmentQueryService {
     Optional<Enrollment> handle(GetEnrollmentByUserAndCourseQuery query);
     List<Enrollment> handle(GetUserEnrollmentsQuery query);
     List<Enrollment> handle(GetCourseEnrollmentsQuery query);
+    OffsetPage<Enrollment> handle(GetUserEnrollmentsPageQuery query);
+    OffsetPage<Enrollment> handle(GetCourseEnrollmentsPageQuery query);
 }
@@ -2,6 +2,9 @@ package com.levelupjourney.learningservice.enrollments.infrastructure.persistenc
 
 import com.levelupjourney.learningservice.enrollments.domain.model.aggregates.Enrollment;
 import com.levelupjourney.learningservice.enrollments.domain.model.valueobjects.EnrollmentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,8 +14,22 @@ import java.util.UUID;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, UUID> {
+    @EntityGraph(attributePaths = "course")
     Optional<Enrollment> findByUserIdAndCourseId(String userId, UUID courseId);
+    @EntityGraph(attributePaths = "course")
     List<Enrollment> findByUserId(String userId);
+    @EntityGraph(attributePaths = "course")
     List<Enrollment> findByCourseId(UUID courseId);
+    
+    /**
+     * Page without a count query; reads one row past the page for hasNext
+     */
+    @EntityGraph(attributePaths = "course")
+    Slice<Enrollment> findSliceByUserId(String userId, Pageable pageable);
+    @EntityGraph(attributePaths = "course")
+    Slice<Enrollment> findSliceByCourseId(UUID courseId, Pageable pageable);
+    long countByUserId(String userId);
+    long countByCourseId(UUID courseId);
+    
     boolean existsByUserIdAndCourseIdAndStatus(String userId, UUID courseId, EnrollmentStatus status);
 }
@@ -3,14 +3,17 @@ package com.levelupjourney.learningservice.enrollments.interfaces.rest;
 import com.levelupjourney.learningservice.enrollments.domain.model.aggregates.Enrollment;
 import com.levelupjourney.learningservice.enrollments.domain.model.commands.CancelEnrollmentCommand;
 import com.levelupjourney.learningservice.enrollments.domain.model.commands.EnrollUserCommand;
+import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetCourseEnrollmentsPageQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetCourseEnrollmentsQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetEnrollmentByUserAndCourseQuery;
+import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetUserEnrollmentsPageQuery;
 import com.levelupjourney.learningservice.enrollments.domain.model.queries.GetUserEnrollmentsQuery;
 import com.levelupjourney.learningservice.enrollments.domain.services.EnrollmentCommandService;
 import com.levelupjourney.learningservice.enrollments.domain.services.EnrollmentQueryService;
 import com.levelupjourney.learningservice.enrollments.interfaces.rest.resources.EnrollUserResource;
 import com.levelupjourney.learningservice.enrollments.interfaces.rest.resources.EnrollmentResource;
 import com.levelupjourney.learningservice.enrollments.interfaces.rest.transform.EnrollmentResourceAssembler;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -117,6 +120,9 @@ public class EnrollmentsController {
                     - ADMIN can view any user's enrollments
                     - Includes enrollment status and progress information
                     - Returns only ACTIVE enrollments (excludes CANCELLED)
+                    - Paged when `page`, `size` or `total` is given: `{content, page, size, hasNext, total}`,
+                      newest first, without a count query unless `total=EXACT` (`total=APPROXIMATE` serves a
+                      cached count, `total.exact` tells which one was returned)
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
@@ -125,10 +131,22 @@ public class EnrollmentsController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - no valid JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - cannot view other users' enrollments without ADMIN role")
     })
-    public ResponseEntity<List<EnrollmentResource>> getUserEnrollments(
+    public ResponseEntity<?> getUserEnrollments(
             @io.swagger.v3.oas.annotations.Parameter(description = "User ID", required = true)
-            @PathVariable String userId
+            @PathVariable String userId,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page number (0-based); enables paging")
+            @RequestParam(required = false) Integer page,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page size; enables paging")
+            @RequestParam(required = false) Integer size,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Total to report: NONE, APPROXIMATE or EXACT; enables paging")
+            @RequestParam(required = false) TotalCountMode total
     ) {
+        if (page != null || size != null || total != null) {
+            return ResponseEntity.ok(enrollmentQueryService
+                    .handle(new GetUserEnrollmentsPageQuery(userId, page, size, total))
+                    .map(assembler::toResourceFromEntity));
+        }
+        
         GetUserEnrollmentsQuery query = new GetUserEnrollmentsQuery(userId);
         List<Enrollment> enrollments = enrollmentQueryService.handle(query);
         
@@ -148,6 +166,9 @@ public class EnrollmentsController {
                     - Includes student progress information
                     - Useful for instructors to track student engagement
                     - Returns only ACTIVE enrollments (excludes CANCELLED)
+                    - Paged when `page`, `size` or `total` is given: `{content, page, size, hasNext, total}`,
+                      newest first, without a count query unless `total=EXACT` (`total=APPROXIMATE` serves a
+                      cached count, `total.exact` tells which one was returned)
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
@@ -157,10 +178,22 @@ public class EnrollmentsController {
             @ApiResponse(responseCode = "403", description = "Forbidden - requires ADMIN or course author permission"),
             @ApiResponse(responseCode = "404", description = "Course not found")
     })
-    public ResponseEntity<List<EnrollmentResource>> getCourseEnrollments(
+    public ResponseEntity<?> getCourseEnrollments(
             @io.swagger.v3.oas.annotations.Parameter(description = "Course UUID", required = true)
-            @PathVariable UUID courseId
+            @PathVariable UUID courseId,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page number (0-based); enables paging")
+            @RequestParam(required = false) Integer page,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page size; enables paging")
+            @RequestParam(required = false) Integer size,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Total to report: NONE, APPROXIMATE or EXACT; enables paging")
+            @RequestParam(required = false) TotalCountMode total
     ) {
+        if (page != null || size != null || total != null) {
+            return ResponseEntity.ok(enrollmentQueryService
+                    .handle(new GetCourseEnrollmentsPageQuery(courseId, page, size, total))
+                    .map(assembler::toResourceFromEntity));
+        }
+        
         GetCourseEnrollmentsQuery query = new GetCourseEnrollmentsQuery(courseId);
         List<Enrollment> enrollments = enrollmentQueryService.handle(query);
         
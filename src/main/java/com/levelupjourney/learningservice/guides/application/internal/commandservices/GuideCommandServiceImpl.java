@@ -2,10 +2,9 @@ package com.levelupjourney.learningservice.guides.application.internal.commandse
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
 import com.levelupjourney.learningservice.guides.domain.model.commands.*;
-import com.levelupjourney.learningservice.guides.domain.model.entities.GuideLike;
 import com.levelupjourney.learningservice.guides.domain.model.events.GuideChallengeAddedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
 import com.levelupjourney.learningservice.guides.domain.services.GuideCommandService;
-import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
 import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.BusinessException;
@@ -13,9 +12,10 @@ import com.levelupjourney.learningservice.shared.infrastructure.exception.Resour
 import com.levelupjourney.learningservice.shared.infrastructure.exception.UnauthorizedException;
 import com.levelupjourney.learningservice.shared.infrastructure.messaging.KafkaEventPublisher;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
-import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
+import com.levelupjourney.learningservice.topics.application.internal.catalog.TopicCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,10 +29,11 @@ import java.util.stream.Collectors;
 public class GuideCommandServiceImpl implements GuideCommandService {
 
     private final GuideRepository guideRepository;
-    private final TopicRepository topicRepository;
-    private final GuideLikeRepository guideLikeRepository;
+    private final TopicCatalog topicCatalog;
+    private final GuideLikeEngine guideLikeEngine;
     private final SecurityContextHelper securityHelper;
     private final KafkaEventPublisher kafkaEventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Value("${application.guides.max-authors}")
     private int maxAuthors;
@@ -40,8 +41,8 @@ public class GuideCommandServiceImpl implements GuideCommandService {
     @Override
     @Transactional
     public Optional<Guide> handle(CreateGuideCommand command) {
-        // Validate topics exist
-        var topics = topicRepository.findAllById(command.topicIds())
+        // Validate topics exist (served from the in-memory topic catalog)
+        var topics = topicCatalog.findAllById(command.topicIds())
                 .stream().collect(Collectors.toSet());
 
         if (topics.size() != command.topicIds().size()) {
@@ -73,7 +74,7 @@ public class GuideCommandServiceImpl implements GuideCommandService {
     @Override
     @Transactional
     public Optional<Guide> handle(UpdateGuideCommand command) {
-        var guide = guideRepository.findById(command.guideId())
+        var guide = guideRepository.findWithTopicsById(command.guideId())
                 .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
 
         // Check authorization
@@ -91,7 +92,7 @@ public class GuideCommandServiceImpl implements GuideCommandService {
         }
 
         if (command.topicIds() != null && !command.topicIds().isEmpty()) {
-            var topics = topicRepository.findAllById(command.topicIds())
+            var topics = topicCatalog.findAllById(command.topicIds())
                     .stream().collect(Collectors.toSet());
             if (topics.size() != command.topicIds().size()) {
                 throw new BusinessException("Some topics not found", HttpStatus.BAD_REQUEST);
@@ -99,25 +100,27 @@ public class GuideCommandServiceImpl implements GuideCommandService {
             guide.setTopics(topics);
         }
 
+        applicationEventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
         return Optional.of(guideRepository.save(guide));
     }
 
     @Override
     @Transactional
     public Optional<Guide> handle(UpdateGuideStatusCommand command) {
-        var guide = guideRepository.findById(command.guideId())
+        var guide = guideRepository.findHeaderById(command.guideId())
                 .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
 
         checkAuthorization(guide);
 
         guide.updateStatus(command.status());
+        applicationEventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
         return Optional.of(guideRepository.save(guide));
     }
 
     @Override
     @Transactional
     public Optional<Guide> handle(UpdateGuideAuthorsCommand command) {
-        var guide = guideRepository.findById(command.guideId())
+        var guide = guideRepository.findHeaderById(command.guideId())
                 .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
 
         checkAuthorization(guide);
@@ -127,13 +130,14 @@ public class GuideCommandServiceImpl implements GuideCommandService {
         }
 
         guide.setAuthors(command.authorIds(), maxAuthors);
+        applicationEventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
         return Optional.of(guideRepository.save(guide));
     }
 
     @Override
     @Transactional
     public void handle(DeleteGuideCommand command) {
-        var guide = guideRepository.findById(command.guideId())
+        var guide = guideRepository.findHeaderById(command.guideId())
                 .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
 
         checkAuthorization(guide);
@@ -141,12 +145,13 @@ public class GuideCommandServiceImpl implements GuideCommandService {
         // Soft delete
         guide.updateStatus(EntityStatus.DELETED);
         guideRepository.save(guide);
+        applicationEventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
     }
     
     @Override
     @Transactional
     public Optional<Guide> handle(AddChallengeToGuideCommand command) {
-        var guide = guideRepository.findById(command.guideId())
+        var guide = guideRepository.findWithChallengesById(command.guideId())
                 .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
 
         checkAuthorization(guide);
@@ -159,6 +164,7 @@ public class GuideCommandServiceImpl implements GuideCommandService {
         // Add challenge to guide
         guide.addChallenge(command.challengeId());
         var savedGuide = guideRepository.save(guide);
+        applicationEventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
 
         // Publish event to Kafka
         var event = new GuideChallengeAddedEvent(guide.getId(), command.challengeId());
@@ -174,7 +180,7 @@ public class GuideCommandServiceImpl implements GuideCommandService {
     @Override
     @Transactional
     public Optional<Guide> handle(RemoveChallengeFromGuideCommand command) {
-        var guide = guideRepository.findById(command.guideId())
+        var guide = guideRepository.findWithChallengesById(command.guideId())
                 .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
 
         checkAuthorization(guide);
@@ -186,46 +192,30 @@ public class GuideCommandServiceImpl implements GuideCommandService {
 
         // Remove challenge from guide
         guide.removeChallenge(command.challengeId());
+        applicationEventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
         return Optional.of(guideRepository.save(guide));
     }
 
     @Override
     @Transactional
-    public void handle(LikeGuideCommand command) {
-        // Verify guide exists
-        var guide = guideRepository.findById(command.guideId())
-                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+    public int handle(LikeGuideCommand command) {
+        var result = guideLikeEngine.like(command.guideId(), command.userId());
 
-        // Check if user already liked this guide
-        if (guideLikeRepository.existsByGuideIdAndUserId(command.guideId(), command.userId())) {
+        if (!result.changed()) {
             throw new BusinessException("You already liked this guide", HttpStatus.BAD_REQUEST);
         }
-
-        // Create like
-        var like = new GuideLike(guide, command.userId());
-        guideLikeRepository.save(like);
-
-        // Update likes count in guide
-        guide.incrementLikes();
-        guideRepository.save(guide);
+        return result.likesCount();
     }
 
     @Override
     @Transactional
-    public void handle(UnlikeGuideCommand command) {
-        // Verify guide exists
-        var guide = guideRepository.findById(command.guideId())
-                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+    public int handle(UnlikeGuideCommand command) {
+        var result = guideLikeEngine.unlike(command.guideId(), command.userId());
 
-        // Find and delete like
-        var like = guideLikeRepository.findByGuideIdAndUserId(command.guideId(), command.userId())
-                .orElseThrow(() -> new BusinessException("You haven't liked this guide", HttpStatus.BAD_REQUEST));
-
-        guideLikeRepository.delete(like);
-
-        // Update likes count in guide
-        guide.decrementLikes();
-        guideRepository.save(guide);
+        if (!result.changed()) {
+            throw new BusinessException("You haven't liked this guide", HttpStatus.BAD_REQUEST);
+        }
+        return result.likesCount();
     }
 
     private void checkAuthorization(Guide guide) {
@@ -0,0 +1,84 @@
+package com.levelupjourney.learningservice.guides.application.internal.commandservices;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeReconciliationJob;
+import com.levelupjourney.learningservice.guides.application.internal.likes.LikedGuidesCache;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikesCountChangedEvent;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Like/unlike path that never loads the Guide aggregate.
+ * The like row is inserted or deleted conditionally and the counter is moved with a
+ * relative UPDATE (or buffered in {@link GuideLikeCounterAggregator} when write-behind is on),
+ * so repeated or concurrent requests cannot double count.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuideLikeEngine {
+
+    private final GuideLikeRepository guideLikeRepository;
+    private final GuideRepository guideRepository;
+    private final GuideLikeCounterAggregator counterAggregator;
+    private final GuideLikeReconciliationJob reconciliationJob;
+    private final LikedGuidesCache likedGuidesCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Outcome of a like or unlike
+     * @param changed false when the request was a no-op (already liked / not liked)
+     * @param likesCount the guide's likes count after the operation
+     */
+    public record LikeResult(boolean changed, int likesCount) {
+    }
+
+    @Transactional
+    public LikeResult like(UUID guideId, String userId) {
+        boolean inserted = guideLikeRepository.insertIfAbsent(UUID.randomUUID(), guideId, userId) > 0;
+        if (inserted) {
+            applyDelta(guideId, 1);
+            likedGuidesCache.recordLike(userId, guideId);
+        }
+        return new LikeResult(inserted, readLikesCount(guideId));
+    }
+
+    @Transactional
+    public LikeResult unlike(UUID guideId, String userId) {
+        boolean deleted = guideLikeRepository.deleteLike(guideId, userId) > 0;
+        if (deleted) {
+            applyDelta(guideId, -1);
+            likedGuidesCache.recordUnlike(userId, guideId);
+        }
+        return new LikeResult(deleted, readLikesCount(guideId));
+    }
+
+    private void applyDelta(UUID guideId, int delta) {
+        reconciliationJob.markTouched(guideId);
+        if (counterAggregator.isEnabled()) {
+            counterAggregator.add(guideId, delta);
+        } else if (delta > 0) {
+            guideRepository.incrementLikesCount(guideId);
+        } else {
+            guideRepository.decrementLikesCount(guideId);
+        }
+        if (!counterAggregator.isEnabled()) {
+            // The persisted count changed directly, so cached views of it are stale
+            eventPublisher.publishEvent(new GuideLikesCountChangedEvent(guideId));
+        }
+        eventPublisher.publishEvent(new GuideLikedEvent(guideId, delta));
+    }
+
+    private int readLikesCount(UUID guideId) {
+        Integer persisted = guideRepository.findLikesCountById(guideId)
+                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+        return counterAggregator.merge(guideId, persisted);
+    }
+}
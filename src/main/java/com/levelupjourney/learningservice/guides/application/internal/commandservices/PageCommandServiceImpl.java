@@ -3,20 +3,38 @@ package com.levelupjourney.learningservice.guides.application.internal.commandse
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
 import com.levelupjourney.learningservice.guides.domain.model.commands.CreatePageCommand;
 import com.levelupjourney.learningservice.guides.domain.model.commands.DeletePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.ReplaceGuidePagesCommand;
 import com.levelupjourney.learningservice.guides.domain.model.commands.UpdatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.events.PageChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageOrderRow;
 import com.levelupjourney.learningservice.guides.domain.services.PageCommandService;
 import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc.PageBatchRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc.PageBatchRepository.NeighbourKeys;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc.PageBatchRepository.PageWrite;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.PageContentRepository;
 import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.PageRepository;
-import com.levelupjourney.learningservice.shared.infrastructure.exception.BusinessException;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.UnauthorizedException;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,41 +43,54 @@ public class PageCommandServiceImpl implements PageCommandService {
     private final PageRepository pageRepository;
     private final GuideRepository guideRepository;
     private final SecurityContextHelper securityHelper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PageBatchRepository pageBatchRepository;
+    private final PageContentRepository pageContentRepository;
+
+    @Value("${application.guides.pages.bulk-max-pages:500}")
+    private int bulkMaxPages;
 
     @Override
     @Transactional
     public Optional<Page> handle(CreatePageCommand command) {
-        var guide = guideRepository.findById(command.guideId())
-                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+        validateOrder(command.orderNumber());
 
-        // Check authorization
+        // Check authorization without loading the guide
         String userId = securityHelper.getCurrentUserId();
-        if (!guide.isAuthor(userId) && !securityHelper.isAdmin()) {
+        if (!securityHelper.isAdmin() && !guideRepository.existsByIdAndAuthorIdsContaining(command.guideId(), userId)) {
+            if (!guideRepository.existsById(command.guideId())) {
+                throw new ResourceNotFoundException("Guide not found");
+            }
             throw new UnauthorizedException("You don't have permission to add pages to this guide");
         }
 
-        // Check if order already exists
-        if (pageRepository.existsByGuideIdAndOrderNumber(command.guideId(), command.orderNumber())) {
-            throw new BusinessException("A page with order " + command.orderNumber() + " already exists", 
-                    HttpStatus.CONFLICT);
+        // Counted in the database first, which also holds the guide's row lock while the key is chosen
+        if (guideRepository.incrementPagesCount(command.guideId()) == 0) {
+            throw new ResourceNotFoundException("Guide not found");
         }
 
-        var page = new Page(command.content(), command.orderNumber());
-        guide.addPage(page);
-        var savedGuide = guideRepository.save(guide);
-        
-        // Find the newly created page with ID assigned
-        var savedPage = savedGuide.getPages().stream()
-                .filter(p -> p.getOrderNumber().equals(command.orderNumber()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Failed to retrieve created page"));
+        // Inserting before an existing page shifts it and the pages after it down by one
+        var placement = placeAt(command.guideId(), null,
+                pageBatchRepository.findNeighbourKeys(command.guideId(), null, command.orderNumber()));
+        var page = pageRepository.save(new Page(
+                guideRepository.getReferenceById(command.guideId()),
+                command.content(),
+                placement.orderNumber(),
+                placement.sortKey()));
 
-        return Optional.of(savedPage);
+        eventPublisher.publishEvent(new GuideChangedEvent(command.guideId()));
+        eventPublisher.publishEvent(new PageChangedEvent(command.guideId(), page.getId()));
+        return Optional.of(page);
     }
 
     @Override
     @Transactional
     public Optional<Page> handle(UpdatePageCommand command) {
+        UUID guideId = pageRepository.findGuideIdById(command.pageId())
+                .orElseThrow(() -> new ResourceNotFoundException("Page not found"));
+        // Row lock on the guide before the page is read: inserts, moves and bulk replaces that may
+        // rewrite its key have either committed already or wait for this transaction
+        pageBatchRepository.lockGuide(guideId);
         var page = pageRepository.findById(command.pageId())
                 .orElseThrow(() -> new ResourceNotFoundException("Page not found"));
 
@@ -71,21 +102,35 @@ public class PageCommandServiceImpl implements PageCommandService {
             throw new UnauthorizedException("You don't have permission to update this page");
         }
 
+        // A new body row replaces the current one, which is deleted after the page points away from it
+        UUID replacedContentId = null;
         if (command.content() != null && !command.content().isBlank()) {
+            replacedContentId = page.getContentId();
             page.updateContent(command.content());
         }
 
         if (command.orderNumber() != null) {
-            // Check if new order conflicts with existing page
-            if (!page.getOrderNumber().equals(command.orderNumber()) && 
-                pageRepository.existsByGuideIdAndOrderNumber(guide.getId(), command.orderNumber())) {
-                throw new BusinessException("A page with order " + command.orderNumber() + " already exists", 
-                        HttpStatus.CONFLICT);
+            validateOrder(command.orderNumber());
+            var neighbours = pageBatchRepository.findNeighbourKeys(guideId, page.getId(), command.orderNumber());
+            if (page.isBetween(neighbours.before(), neighbours.after())) {
+                page.assignPosition(neighbours.orderNumber());
+            } else {
+                // Only the moved page gets a new key; the pages in between shift by one on read
+                var placement = placeAt(guideId, page.getId(), neighbours);
+                page.moveTo(placement.orderNumber(), placement.sortKey());
             }
-            page.updateOrder(command.orderNumber());
+        } else {
+            page.assignPosition(pageBatchRepository.findPosition(guideId, page.getId()));
+        }
+
+        var savedPage = pageRepository.save(page);
+        if (replacedContentId != null) {
+            pageContentRepository.deleteContentById(replacedContentId);
         }
 
-        return Optional.of(pageRepository.save(page));
+        eventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
+        eventPublisher.publishEvent(new PageChangedEvent(guide.getId(), page.getId()));
+        return Optional.of(savedPage);
     }
 
     @Override
@@ -102,8 +147,142 @@ public class PageCommandServiceImpl implements PageCommandService {
             throw new UnauthorizedException("You don't have permission to delete this page");
         }
 
-        guide.removePage(page);
-        pageRepository.delete(page);
-        guideRepository.save(guide);
+        // The remaining pages keep their keys and move up on read; the body is deleted unread
+        UUID contentId = page.getContentId();
+        pageRepository.deletePageById(page.getId());
+        if (contentId != null) {
+            pageContentRepository.deleteContentById(contentId);
+        }
+        guideRepository.decrementPagesCount(guide.getId());
+        eventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
+        eventPublisher.publishEvent(new PageChangedEvent(guide.getId(), page.getId()));
+    }
+
+    @Override
+    @Transactional
+    public List<Page> handle(ReplaceGuidePagesCommand command) {
+        var guide = guideRepository.findHeaderById(command.guideId())
+                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+
+        // Check authorization
+        String userId = securityHelper.getCurrentUserId();
+        if (!guide.isAuthor(userId) && !securityHelper.isAdmin()) {
+            throw new UnauthorizedException("You don't have permission to edit the pages of this guide");
+        }
+
+        List<ReplaceGuidePagesCommand.PageDraft> drafts = command.pages();
+        validateDrafts(drafts);
+
+        // Row lock on the guide first: concurrent page edits of this guide wait for this transaction
+        LocalDateTime now = LocalDateTime.now();
+        pageBatchRepository.updatePagesCount(guide.getId(), drafts.size());
+        Map<UUID, PageOrderRow> current = pageBatchRepository.findOrders(guide.getId()).stream()
+                .collect(Collectors.toMap(PageOrderRow::pageId, Function.identity()));
+
+        List<PageWrite> inserts = new ArrayList<>();
+        List<PageWrite> updates = new ArrayList<>();
+        List<PageWrite> moves = new ArrayList<>();
+        Set<UUID> kept = new HashSet<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            var draft = drafts.get(i);
+            // The whole order is rewritten anyway, so keys are spread evenly again
+            int sortKey = (i + 1) * Page.SORT_KEY_GAP;
+            if (draft.pageId() == null) {
+                inserts.add(new PageWrite(UUID.randomUUID(), null, draft.content(), sortKey));
+                continue;
+            }
+            PageOrderRow currentRow = current.get(draft.pageId());
+            if (currentRow == null) {
+                throw new ResourceNotFoundException("Page " + draft.pageId() + " not found in this guide");
+            }
+            kept.add(draft.pageId());
+            var write = new PageWrite(draft.pageId(), currentRow.contentId(), draft.content(), sortKey);
+            if (currentRow.sortKey() != sortKey) {
+                moves.add(write);
+            }
+            if (currentRow.sortKey() != sortKey || draft.content() != null) {
+                updates.add(write);
+            }
+        }
+        List<PageOrderRow> deletes = current.values().stream()
+                .filter(row -> !kept.contains(row.pageId()))
+                .toList();
+
+        // Deletes and parked moves free every final sort key before it is written
+        if (!deletes.isEmpty()) {
+            pageBatchRepository.deleteAll(deletes);
+        }
+        if (!moves.isEmpty()) {
+            pageBatchRepository.park(moves);
+        }
+        if (!updates.isEmpty()) {
+            pageBatchRepository.updateAll(updates, now);
+        }
+        if (!inserts.isEmpty()) {
+            pageBatchRepository.insertAll(guide.getId(), inserts, now);
+        }
+
+        eventPublisher.publishEvent(new GuideChangedEvent(guide.getId()));
+        deletes.forEach(row -> eventPublisher.publishEvent(new PageChangedEvent(guide.getId(), row.pageId())));
+        updates.forEach(page -> eventPublisher.publishEvent(new PageChangedEvent(guide.getId(), page.pageId())));
+        inserts.forEach(page -> eventPublisher.publishEvent(new PageChangedEvent(guide.getId(), page.pageId())));
+        return Page.numberInOrder(pageRepository.findWithBodyByGuideIdOrderBySortKeyAsc(guide.getId()));
+    }
+
+    /**
+     * Position and free sort key for a page placed between the given neighbours among the guide's
+     * other pages. When the neighbours' keys are adjacent, the guide's keys are rebalanced first, the
+     * only case in which other pages are written; a moved page then gets its new key written right
+     * away, since its entity would not write a key equal to the one it was loaded with. Callers hold
+     * the guide's row lock.
+     * @param pageId the page being moved; null for a new page
+     */
+    private Placement placeAt(UUID guideId, UUID pageId, NeighbourKeys neighbours) {
+        OptionalInt sortKey = Page.sortKeyBetween(neighbours.before(), neighbours.after());
+        if (sortKey.isEmpty()) {
+            int orderNumber = neighbours.orderNumber();
+            pageBatchRepository.rebalance(guideId, pageId);
+            neighbours = pageBatchRepository.findNeighbourKeys(guideId, pageId, orderNumber);
+            sortKey = Page.sortKeyBetween(neighbours.before(), neighbours.after());
+            if (pageId != null && sortKey.isPresent()) {
+                pageBatchRepository.move(pageId, sortKey.getAsInt());
+            }
+        }
+        int orderNumber = neighbours.orderNumber();
+        return new Placement(orderNumber, sortKey
+                .orElseThrow(() -> new IllegalStateException("No sort key left for page position " + orderNumber)));
+    }
+
+    private record Placement(int orderNumber, int sortKey) {
+    }
+
+    private void validateOrder(Integer orderNumber) {
+        if (orderNumber == null || orderNumber < 1) {
+            throw new IllegalArgumentException("Page order must be a positive number");
+        }
+    }
+
+    /**
+     * Checks the request on its own, before any row is read or written
+     */
+    private void validateDrafts(List<ReplaceGuidePagesCommand.PageDraft> drafts) {
+        if (drafts.size() > bulkMaxPages) {
+            throw new IllegalArgumentException("A guide can be saved with at most " + bulkMaxPages + " pages at once");
+        }
+        Set<UUID> seen = new HashSet<>();
+        for (var draft : drafts) {
+            if (draft == null) {
+                throw new IllegalArgumentException("Pages cannot contain null entries");
+            }
+            if (draft.pageId() == null && draft.content() == null) {
+                throw new IllegalArgumentException("New pages require content");
+            }
+            if (draft.content() != null && draft.content().isBlank()) {
+                throw new IllegalArgumentException("Page content cannot be null or empty");
+            }
+            if (draft.pageId() != null && !seen.add(draft.pageId())) {
+                throw new IllegalArgumentException("Page " + draft.pageId() + " is listed more than once");
+            }
+        }
     }
 }
@@ -0,0 +1,161 @@
+package com.levelupjourney.learningservice.guides.application.internal.likes;
+
+import jakarta.annotation.PreDestroy;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikesCountChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for guides.likes_count.
+ * Likes and unlikes add to an in-memory delta per guide; a scheduler flushes the accumulated
+ * deltas in one JDBC batch, so a viral guide costs one row update per flush instead of one per
+ * like. guide_likes rows remain the source of truth.
+ * <p>
+ * A delta that returns to zero is removed from the map in the same atomic update, so the map only
+ * holds guides with unflushed activity instead of every guide ever liked.
+ * <p>
+ * A flush moves each guide's delta to an in-flight part of the same entry, in one atomic update, and
+ * only drops it once the batch has committed. Merged counts keep adding it in the meantime, so they
+ * never dip below the committed likes while a flush is running.
+ */
+@Slf4j
+@Component
+public class GuideLikeCounterAggregator {
+
+    private static final String FLUSH_SQL =
+            "UPDATE guides SET likes_count = GREATEST(COALESCE(likes_count, 0) + ?, 0) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final ConcurrentHashMap<UUID, Delta> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Unflushed likes of one guide: recorded since the last flush, and drained by a flush that has
+     * not committed yet
+     */
+    private record Delta(long pending, long inFlight) {
+
+        long total() {
+            return pending + inFlight;
+        }
+
+        // Null removes the entry from the map
+        Delta orNull() {
+            return pending != 0 || inFlight != 0 ? this : null;
+        }
+    }
+
+    public GuideLikeCounterAggregator(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${application.guides.likes.write-behind.enabled:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a delta for a guide. When called inside a transaction the delta is reverted
+     * if that transaction rolls back, so only committed likes reach the database.
+     */
+    public void add(UUID guideId, long delta) {
+        record(guideId, delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        record(guideId, -delta);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Deltas not committed to likes_count yet, including those of a flush in progress
+     */
+    public long pendingDelta(UUID guideId) {
+        Delta delta = pending.get(guideId);
+        return delta != null ? delta.total() : 0;
+    }
+
+    /**
+     * Persisted count plus the deltas not flushed yet, never below zero
+     */
+    public int merge(UUID guideId, Integer persistedCount) {
+        long merged = (persistedCount != null ? persistedCount : 0) + pendingDelta(guideId);
+        return (int) Math.max(merged, 0);
+    }
+
+    /**
+     * Writes all pending deltas in one batch. Only the drained part of each entry is cleared after
+     * the commit, so likes recorded while flushing are kept for the next run; on any failure it is
+     * moved back to pending and retried.
+     */
+    @Scheduled(fixedDelayString = "${application.guides.likes.write-behind.flush-interval-ms:500}")
+    public synchronized void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (UUID guideId : pending.keySet()) {
+            pending.computeIfPresent(guideId, (id, delta) -> {
+                if (delta.pending() != 0) {
+                    batchArgs.add(new Object[]{delta.pending(), id});
+                }
+                return new Delta(0, delta.total()).orNull();
+            });
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        List<UUID> drained = batchArgs.stream().map(args -> (UUID) args[1]).toList();
+        try {
+            // Connections are not auto-commit, so the batch needs its own transaction
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (RuntimeException e) {
+            // Includes transaction failures such as pool exhaustion, which are not DataAccessExceptions
+            drained.forEach(guideId -> pending.computeIfPresent(guideId,
+                    (id, delta) -> new Delta(delta.total(), 0).orNull()));
+            log.warn("Failed to flush like deltas for {} guides, will retry: {}", drained.size(), e.getMessage());
+            return;
+        }
+        drained.forEach(guideId -> pending.computeIfPresent(guideId,
+                (id, delta) -> new Delta(delta.pending(), 0).orNull()));
+        log.debug("Flushed like deltas for {} guides", drained.size());
+        drained.forEach(guideId -> eventPublisher.publishEvent(new GuideLikesCountChangedEvent(guideId)));
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    private void record(UUID guideId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        pending.merge(guideId, new Delta(delta, 0),
+                (current, added) -> new Delta(current.pending() + added.pending(), current.inFlight()).orNull());
+    }
+}
@@ -0,0 +1,332 @@
+package com.levelupjourney.learningservice.guides.application.internal.likes;
+
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikesCountChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideLikeCountRow;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Recomputes guides.likes_count from guide_likes and fixes drift.
+ * Guides are processed in chunks: one grouped COUNT per chunk and one JDBC batch of
+ * compare-and-set updates, so a concurrent like always wins over the job.
+ * The scheduled run is incremental (guides touched in this instance plus guides with likes
+ * created since the previous run); a full keyset walk can be triggered through actuator.
+ * <p>
+ * Other instances may hold like deltas that are committed in guide_likes but not flushed to
+ * likes_count yet, which this instance cannot see. Drifted guides liked within the settle window
+ * (a few flush intervals) are therefore skipped and retried later. Unlikes leave no timestamp,
+ * so a recount can still race another instance's pending unlike. That instance marks the guide
+ * touched and reconciles it again after its own flush, so the count converges.
+ */
+@Slf4j
+@Component
+public class GuideLikeReconciliationJob {
+
+    private static final String FIX_SQL =
+            "UPDATE guides SET likes_count = ? WHERE id = ? AND COALESCE(likes_count, 0) = ?";
+
+    // Tolerates clock differences between the application and the database
+    private static final Duration SINCE_SAFETY_MARGIN = Duration.ofMinutes(1);
+
+    public enum Mode { FULL, INCREMENTAL }
+
+    /**
+     * Outcome of one reconciliation run
+     */
+    public record Report(
+            Mode mode,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            long guidesScanned,
+            long chunks,
+            long driftedGuides,
+            long fixedGuides,
+            long absoluteDrift,
+            long skippedPending
+    ) {
+    }
+
+    /**
+     * A run that ended with an exception
+     */
+    public record Failure(Mode mode, LocalDateTime failedAt, String message) {
+    }
+
+    /**
+     * Current state exposed through actuator
+     */
+    public record Status(
+            boolean enabled,
+            boolean running,
+            Mode currentMode,
+            long currentGuidesScanned,
+            long pendingTouchedGuides,
+            long totalFixedGuides,
+            Report lastReport,
+            Failure lastFailure
+    ) {
+    }
+
+    private final GuideRepository guideRepository;
+    private final GuideLikeRepository guideLikeRepository;
+    private final GuideLikeCounterAggregator counterAggregator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration settleWindow;
+
+    private final Set<UUID> touchedGuides = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong currentGuidesScanned = new AtomicLong();
+    private final AtomicLong totalFixedGuides = new AtomicLong();
+    private volatile Mode currentMode;
+    private volatile Report lastReport;
+    private volatile Failure lastFailure;
+    private volatile LocalDateTime lastIncrementalStartedAt = LocalDateTime.now();
+
+    public GuideLikeReconciliationJob(
+            GuideRepository guideRepository,
+            GuideLikeRepository guideLikeRepository,
+            GuideLikeCounterAggregator counterAggregator,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${application.guides.likes.reconciliation.enabled:true}") boolean enabled,
+            @Value("${application.guides.likes.reconciliation.chunk-size:500}") int chunkSize,
+            @Value("${application.guides.likes.reconciliation.settle-window:5s}") Duration settleWindow
+    ) {
+        this.guideRepository = guideRepository;
+        this.guideLikeRepository = guideLikeRepository;
+        this.counterAggregator = counterAggregator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * Marks a guide for the next incremental run
+     */
+    public void markTouched(UUID guideId) {
+        touchedGuides.add(guideId);
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.guides.likes.reconciliation.interval-ms:300000}",
+            fixedDelayString = "${application.guides.likes.reconciliation.interval-ms:300000}"
+    )
+    public void scheduledIncrementalRun() {
+        if (enabled) {
+            runIncremental();
+        }
+    }
+
+    @Scheduled(cron = "${application.guides.likes.reconciliation.full-cron:-}")
+    public void scheduledFullRun() {
+        if (enabled) {
+            runFull();
+        }
+    }
+
+    /**
+     * Walks every guide in keyset order
+     * @return the report, or empty when another run is in progress
+     */
+    public Optional<Report> runFull() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            var accumulator = start(Mode.FULL);
+            UUID afterId = null;
+            List<GuideLikeCountRow> chunk;
+            do {
+                chunk = guideRepository.findStoredLikeCountsAfter(afterId, Limit.of(chunkSize));
+                if (!chunk.isEmpty()) {
+                    reconcileChunk(chunk, accumulator);
+                    afterId = chunk.get(chunk.size() - 1).guideId();
+                }
+            } while (chunk.size() == chunkSize);
+            return Optional.of(finish(accumulator));
+        } catch (RuntimeException e) {
+            throw failed(Mode.FULL, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Reconciles only guides touched since the previous incremental run
+     * @return the report, or empty when another run is in progress
+     */
+    public Optional<Report> runIncremental() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            var accumulator = start(Mode.INCREMENTAL);
+            LocalDateTime since = lastIncrementalStartedAt.minus(SINCE_SAFETY_MARGIN);
+            lastIncrementalStartedAt = accumulator.startedAt;
+
+            Set<UUID> candidates = new HashSet<>(guideLikeRepository.findGuideIdsLikedSince(since));
+            for (UUID guideId : List.copyOf(touchedGuides)) {
+                touchedGuides.remove(guideId);
+                candidates.add(guideId);
+            }
+
+            List<UUID> ordered = candidates.stream().sorted().toList();
+            for (int from = 0; from < ordered.size(); from += chunkSize) {
+                var ids = ordered.subList(from, Math.min(from + chunkSize, ordered.size()));
+                reconcileChunk(guideRepository.findStoredLikeCountsByIdIn(ids), accumulator);
+            }
+            return Optional.of(finish(accumulator));
+        } catch (RuntimeException e) {
+            throw failed(Mode.INCREMENTAL, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Status status() {
+        return new Status(
+                enabled,
+                running.get(),
+                running.get() ? currentMode : null,
+                currentGuidesScanned.get(),
+                touchedGuides.size(),
+                totalFixedGuides.get(),
+                lastReport,
+                lastFailure
+        );
+    }
+
+    private void reconcileChunk(List<GuideLikeCountRow> storedCounts, RunAccumulator accumulator) {
+        accumulator.chunks++;
+        accumulator.scanned += storedCounts.size();
+        currentGuidesScanned.addAndGet(storedCounts.size());
+        if (storedCounts.isEmpty()) {
+            return;
+        }
+
+        var ids = storedCounts.stream().map(GuideLikeCountRow::guideId).toList();
+        Map<UUID, Long> actualCounts = guideLikeRepository.countByGuideIds(ids).stream()
+                .collect(Collectors.toMap(GuideLikeCountRow::guideId, GuideLikeCountRow::count));
+
+        List<GuideLikeCountRow> drifted = storedCounts.stream()
+                .filter(stored -> actualCounts.getOrDefault(stored.guideId(), 0L) != stored.count())
+                .toList();
+        if (drifted.isEmpty()) {
+            return;
+        }
+        // Likes this recent may still be buffered, unflushed, in another instance
+        Set<UUID> unsettled = guideLikeRepository.findGuideIdsLikedSinceIn(
+                drifted.stream().map(GuideLikeCountRow::guideId).toList(),
+                LocalDateTime.now().minus(settleWindow));
+
+        List<Object[]> fixes = new ArrayList<>();
+        for (var stored : drifted) {
+            long actual = actualCounts.getOrDefault(stored.guideId(), 0L);
+            // Deltas still buffered in memory will be flushed on top of the stored value
+            if (counterAggregator.pendingDelta(stored.guideId()) != 0 || unsettled.contains(stored.guideId())) {
+                accumulator.skippedPending++;
+                markTouched(stored.guideId());
+                continue;
+            }
+            accumulator.drifted++;
+            accumulator.absoluteDrift += Math.abs(actual - stored.count());
+            fixes.add(new Object[]{actual, stored.guideId(), stored.count()});
+        }
+
+        if (!fixes.isEmpty()) {
+            // Connections are not auto-commit, so the batch needs its own transaction
+            int[] results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FIX_SQL, fixes));
+            for (int i = 0; i < results.length; i++) {
+                // SUCCESS_NO_INFO (-2) means the driver applied the row without reporting a count
+                if (results[i] != 0) {
+                    accumulator.fixed++;
+                    eventPublisher.publishEvent(new GuideLikesCountChangedEvent((UUID) fixes.get(i)[1]));
+                }
+            }
+        }
+    }
+
+    private RuntimeException failed(Mode mode, RuntimeException e) {
+        lastFailure = new Failure(mode, LocalDateTime.now(), e.getMessage());
+        log.error("Likes reconciliation ({}) failed", mode, e);
+        return e;
+    }
+
+    private RunAccumulator start(Mode mode) {
+        currentMode = mode;
+        currentGuidesScanned.set(0);
+        return new RunAccumulator(mode, LocalDateTime.now());
+    }
+
+    private Report finish(RunAccumulator accumulator) {
+        var report = new Report(
+                accumulator.mode,
+                accumulator.startedAt,
+                LocalDateTime.now(),
+                accumulator.scanned,
+                accumulator.chunks,
+                accumulator.drifted,
+                accumulator.fixed,
+                accumulator.absoluteDrift,
+                accumulator.skippedPending
+        );
+        totalFixedGuides.addAndGet(accumulator.fixed);
+        lastReport = report;
+        if (report.driftedGuides() > 0) {
+            log.info("Likes reconciliation ({}) fixed {}/{} drifted guides out of {} scanned, absolute drift {}",
+                    report.mode(), report.fixedGuides(), report.driftedGuides(), report.guidesScanned(),
+                    report.absoluteDrift());
+        }
+        return report;
+    }
+
+    private static final class RunAccumulator {
+        private final Mode mode;
+        private final LocalDateTime startedAt;
+        private long scanned;
+        private long chunks;
+        private long drifted;
+        private long fixed;
+        private long absoluteDrift;
+        private long skippedPending;
+
+        private RunAccumulator(Mode mode, LocalDateTime startedAt) {
+            this.mode = mode;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.levelupjourney.learningservice.guides.application.internal.likes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Size-bounded cache of the guide IDs each user has liked, used to decorate likedByRequester.
+ * A user's set is loaded from guide_likes and then kept current by the like and unlike commands
+ * handled here, so decorating a page of guides costs no queries on a hit. Sets are immutable and
+ * replaced on change.
+ * <p>
+ * Likes handled by other instances do not reach this cache, so every set expires a fixed time
+ * after it was loaded. Neither reads nor local changes extend that, which bounds how long a set
+ * can stay stale. Hit/miss statistics are published as the "guides.liked-sets" cache metrics.
+ */
+@Component
+public class LikedGuidesCache {
+
+    private final GuideLikeRepository guideLikeRepository;
+    private final Cache<String, Set<UUID>> likedByUser;
+
+    public LikedGuidesCache(
+            GuideLikeRepository guideLikeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.guides.likes.liked-cache.max-users:10000}") long maxUsers,
+            @Value("${application.guides.likes.liked-cache.expire-after-load:60s}") Duration expireAfterLoad
+    ) {
+        this.guideLikeRepository = guideLikeRepository;
+        this.likedByUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfter(expireAfterLoad(expireAfterLoad))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, likedByUser, "guides.liked-sets");
+    }
+
+    public boolean hasLiked(String userId, UUID guideId) {
+        return likedGuides(userId).contains(guideId);
+    }
+
+    /**
+     * Guide IDs liked by the user; loaded from guide_likes on a miss
+     */
+    public Set<UUID> likedGuides(String userId) {
+        return likedByUser.get(userId, this::load);
+    }
+
+    /**
+     * Applies a like to the cached set, if the user is cached. Reverted if the surrounding
+     * transaction rolls back.
+     */
+    public void recordLike(String userId, UUID guideId) {
+        apply(userId, guideId, true);
+        onRollback(() -> apply(userId, guideId, false));
+    }
+
+    public void recordUnlike(String userId, UUID guideId) {
+        apply(userId, guideId, false);
+        onRollback(() -> apply(userId, guideId, true));
+    }
+
+    private Set<UUID> load(String userId) {
+        return Set.copyOf(guideLikeRepository.findGuideIdsByUserId(userId));
+    }
+
+    private void apply(String userId, UUID guideId, boolean liked) {
+        // computeIfPresent waits for an in-flight load of the same user, so the change is never lost
+        likedByUser.asMap().computeIfPresent(userId, (id, guides) -> {
+            if (guides.contains(guideId) == liked) {
+                return guides;
+            }
+            Set<UUID> next = new HashSet<>(guides);
+            if (liked) {
+                next.add(guideId);
+            } else {
+                next.remove(guideId);
+            }
+            return Set.copyOf(next);
+        });
+    }
+
+    /**
+     * Expires entries a fixed time after they were loaded; updates and reads keep the remaining time
+     */
+    private static Expiry<String, Set<UUID>> expireAfterLoad(Duration ttl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String userId, Set<UUID> guides, long currentTime) {
+                return ttl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String userId, Set<UUID> guides, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String userId, Set<UUID> guides, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private void onRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+}
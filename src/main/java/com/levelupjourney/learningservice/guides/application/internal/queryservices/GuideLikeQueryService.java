@@ -1,11 +1,13 @@
 package com.levelupjourney.learningservice.guides.application.internal.queryservices;
 
-import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.application.internal.likes.LikedGuidesCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service to check if a user has liked guides
@@ -14,7 +16,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class GuideLikeQueryService {
     
-    private final GuideLikeRepository guideLikeRepository;
+    private final LikedGuidesCache likedGuidesCache;
+    private final GuideLikeCounterAggregator counterAggregator;
+    
+    /**
+     * Likes count as users should see it: persisted value plus likes not flushed yet
+     */
+    public int getLikesCount(UUID guideId, Integer persistedCount) {
+        return counterAggregator.merge(guideId, persistedCount);
+    }
     
     /**
      * Check if a user has liked a specific guide
@@ -23,7 +33,7 @@ public class GuideLikeQueryService {
         if (userId == null) {
             return false;
         }
-        return guideLikeRepository.existsByGuideIdAndUserId(guideId, userId);
+        return likedGuidesCache.hasLiked(userId, guideId);
     }
     
     /**
@@ -33,6 +43,7 @@ public class GuideLikeQueryService {
         if (userId == null || guideIds.isEmpty()) {
             return Set.of();
         }
-        return guideLikeRepository.findGuideIdsLikedByUser(guideIds, userId);
+        Set<UUID> liked = likedGuidesCache.likedGuides(userId);
+        return guideIds.stream().filter(liked::contains).collect(Collectors.toSet());
     }
 }
@@ -1,63 +1,333 @@
 package com.levelupjourney.learningservice.guides.application.internal.queryservices;
 
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.application.internal.trending.TrendingGuidesTracker;
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideAuthorRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideTopicRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion;
+import com.levelupjourney.learningservice.guides.domain.model.projections.TrendingGuide;
 import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideByIdQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideSearchFacetsQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideVersionQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuidesPageQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetTrendingGuidesQuery;
 import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesByFiltersQuery;
-import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesSliceQuery;
 import com.levelupjourney.learningservice.guides.domain.services.GuideQueryService;
 import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.search.GuideFullTextSearchRepository;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetCatalogFacetsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSpellingCorrectionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchCatalogQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.DocumentType;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.search.domain.services.CatalogSearchQueryService;
+import com.levelupjourney.learningservice.search.domain.services.SuggestionQueryService;
+import com.levelupjourney.learningservice.shared.domain.model.CursorPage;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCount;
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.count.ApproximateCountCache;
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.search.FullTextSearchSupport;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GuideQueryServiceImpl implements GuideQueryService {
 
     private final GuideRepository guideRepository;
+    private final GuideLikeCounterAggregator counterAggregator;
+    private final GuideFullTextSearchRepository guideFullTextSearchRepository;
+    private final FullTextSearchSupport fullTextSearchSupport;
+    private final CatalogSearchQueryService catalogSearchQueryService;
+    private final SuggestionQueryService suggestionQueryService;
+    private final TrendingGuidesTracker trendingGuidesTracker;
+    private final ApproximateCountCache approximateCountCache;
+
+    @Value("${application.pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${application.pagination.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${application.search.fuzzy.enabled:true}")
+    private boolean fuzzyEnabled;
+
+    @Value("${application.search.fuzzy.word-similarity-threshold:0.5}")
+    private double wordSimilarityThreshold;
+
+    @Value("${application.guides.trending.default-limit:10}")
+    private int trendingDefaultLimit;
+
+    @Value("${application.guides.trending.max-limit:50}")
+    private int trendingMaxLimit;
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Guide> handle(GetGuideByIdQuery query) {
-        return guideRepository.findByIdWithDetails(query.guideId());
+        // Pages come with the entity graph; topics and challenges are two small extra selects
+        // instead of a cartesian product with the pages
+        Optional<Guide> guide = guideRepository.findWithPagesById(query.guideId());
+        guide.ifPresent(found -> {
+            Hibernate.initialize(found.getTopics());
+            Hibernate.initialize(found.getRelatedChallenges());
+        });
+        return guide;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GuideVersion> handle(GetGuideVersionQuery query) {
+        return guideRepository.findVersionById(query.guideId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<GuideSummary> handle(GetGuidesPageQuery query) {
+        int size = query.size() != null ? Math.min(query.size(), maxPageSize) : defaultPageSize;
+        KeysetCursor cursor = query.cursor();
+        LocalDateTime cursorCreatedAt = cursor != null ? cursor.createdAt() : null;
+        UUID cursorId = cursor != null ? cursor.id() : null;
+
+        // Phase 1: page over the (status, createdAt, id) index selecting IDs only.
+        // One extra row is requested to know whether another page exists.
+        Limit limit = Limit.of(size + 1);
+        List<UUID> ids = query.authorId() != null
+                ? guideRepository.findPageIdsByAuthor(query.status(), query.authorId(), cursorCreatedAt, cursorId, limit)
+                : guideRepository.findPageIdsByStatus(query.status(), cursorCreatedAt, cursorId, limit);
+
+        if (ids.isEmpty()) {
+            return CursorPage.empty(size);
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        // Phase 2: hydrate only the rows of this page, in keyset order, without touching pages
+        List<GuideSummary> guides = loadSummaries(pageIds);
+
+        String nextCursor = null;
+        if (hasNext) {
+            GuideSummary last = guides.get(guides.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return new CursorPage<>(guides, size, nextCursor, hasNext);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Guide> handle(SearchGuidesQuery query) {
-        // Determine filtering based on the query parameters
-        EntityStatus status = query.status();
-        String userId = query.userId();
-        
-        // If userId is provided (teacher dashboard), filter by author and ignore status filter
-        if (userId != null) {
-            // Teacher dashboard: ALL guides belonging to this user (DRAFT and PUBLISHED)
-            return guideRepository.findByStatusAndAuthorId(null, userId, query.pageable());
-        }
-        
-        // If status is provided, filter by status only (usually PUBLISHED)
-        if (status != null) {
-            // Public view: Only guides with specific status (usually PUBLISHED)
-            return guideRepository.findByStatusWithDetails(status, query.pageable());
-        }
-        
-        // Fallback: return all guides (should not happen in normal flow)
-        return guideRepository.findAllWithDetails(query.pageable());
+    public Page<GuideSummary> handle(SearchGuidesByFiltersQuery query) {
+        Page<UUID> ids = searchGuideIds(query);
+        if (ids.getTotalElements() == 0 && fuzzyEnabled && query.hasText()) {
+            ids = fuzzySearchGuideIds(query).orElse(ids);
+        }
+        return new PageImpl<>(loadSummaries(ids.getContent()), ids.getPageable(), ids.getTotalElements());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Guide> handle(SearchGuidesByFiltersQuery query) {
-        return guideRepository.searchGuidesByFilters(
+    public OffsetPage<GuideSummary> handle(SearchGuidesSliceQuery query) {
+        SearchGuidesByFiltersQuery search = query.search();
+        // The catalog index knows its totals for free, so they are always exact
+        Optional<Page<UUID>> indexed = catalogSearchQueryService.handle(toCatalogQuery(search));
+        if (indexed.isPresent()) {
+            return OffsetPage.of(loadSummaries(indexed.get()), TotalCount.exact(indexed.get().getTotalElements()));
+        }
+
+        Slice<UUID> ids = sliceGuideIdsInDatabase(search);
+        if (!ids.hasContent() && ids.isFirst() && fuzzyEnabled && search.hasText()) {
+            Optional<Page<UUID>> fuzzy = fuzzySearchGuideIds(search);
+            if (fuzzy.isPresent()) {
+                return OffsetPage.of(loadSummaries(fuzzy.get()), TotalCount.exact(fuzzy.get().getTotalElements()));
+            }
+        }
+
+        TotalCount total = approximateCountCache.total(query.total(), ids, searchCountKey(search),
+                () -> countGuideIdsInDatabase(search));
+        return OffsetPage.of(loadSummaries(ids), total);
+    }
+
+    @Override
+    public Optional<SearchFacets> handle(GetGuideSearchFacetsQuery query) {
+        // Only the catalog index can count facets without a GROUP BY per facet
+        return catalogSearchQueryService.handle(new GetCatalogFacetsQuery(toCatalogQuery(query.search())));
+    }
+
+    @Override
+    public List<TrendingGuide> handle(GetTrendingGuidesQuery query) {
+        // Served from the leaderboard published in memory, never from the database
+        int limit = Math.min(query.limit() != null ? query.limit() : trendingDefaultLimit, trendingMaxLimit);
+        return trendingGuidesTracker.top(query.window(), limit);
+    }
+
+    private Page<UUID> searchGuideIds(SearchGuidesByFiltersQuery query) {
+        // The in-memory catalog index answers when enabled and built; otherwise the database does
+        return catalogSearchQueryService.handle(toCatalogQuery(query))
+                .orElseGet(() -> searchGuideIdsInDatabase(query));
+    }
+
+    private static SearchCatalogQuery toCatalogQuery(SearchGuidesByFiltersQuery query) {
+        return new SearchCatalogQuery(
+                DocumentType.GUIDE,
+                EntityStatus.PUBLISHED,
                 query.title(),
                 query.authorIds(),
-                query.minLikesCount(),
                 query.topicIds(),
-                query.pageable()
-        );
+                query.minLikesCount(),
+                query.pageable());
+    }
+
+    /**
+     * Typo-tolerant retry for text that matched nothing: pg_trgm similarity on titles and topic
+     * names when the trigram indexes exist, otherwise the exact search again with the best
+     * spelling correction from the in-memory vocabulary
+     */
+    private Optional<Page<UUID>> fuzzySearchGuideIds(SearchGuidesByFiltersQuery query) {
+        if (fullTextSearchSupport.isTrigramAvailable()) {
+            return Optional.of(guideFullTextSearchRepository.fuzzySearchIds(
+                    query.title(),
+                    wordSimilarityThreshold,
+                    query.authorIds(),
+                    query.minLikesCount(),
+                    query.topicIds(),
+                    query.pageable()));
+        }
+        return suggestionQueryService.handle(new GetSpellingCorrectionsQuery(query.title(), 1)).stream()
+                .findFirst()
+                .map(correction -> searchGuideIds(query.withTitle(correction.text())));
+    }
+
+    private Page<UUID> searchGuideIdsInDatabase(SearchGuidesByFiltersQuery query) {
+        String tsQuery = FullTextSearchSupport.toPrefixTsQuery(query.title());
+        return tsQuery != null && fullTextSearchSupport.isAvailable()
+                ? guideFullTextSearchRepository.searchIds(
+                        tsQuery,
+                        query.authorIds(),
+                        query.minLikesCount(),
+                        query.topicIds(),
+                        query.pageable())
+                : guideRepository.searchGuideIdsByFilters(
+                        query.title(),
+                        query.authorIds(),
+                        query.minLikesCount(),
+                        query.topicIds(),
+                        withoutRelevanceSort(query.pageable()));
+    }
+
+    private Slice<UUID> sliceGuideIdsInDatabase(SearchGuidesByFiltersQuery query) {
+        String tsQuery = FullTextSearchSupport.toPrefixTsQuery(query.title());
+        return tsQuery != null && fullTextSearchSupport.isAvailable()
+                ? guideFullTextSearchRepository.searchIdSlice(
+                        tsQuery,
+                        query.authorIds(),
+                        query.minLikesCount(),
+                        query.topicIds(),
+                        query.pageable())
+                : guideRepository.sliceGuideIdsByFilters(
+                        query.title(),
+                        query.authorIds(),
+                        query.minLikesCount(),
+                        query.topicIds(),
+                        withoutRelevanceSort(query.pageable()));
+    }
+
+    private long countGuideIdsInDatabase(SearchGuidesByFiltersQuery query) {
+        String tsQuery = FullTextSearchSupport.toPrefixTsQuery(query.title());
+        return tsQuery != null && fullTextSearchSupport.isAvailable()
+                ? guideFullTextSearchRepository.countIds(
+                        tsQuery, query.authorIds(), query.minLikesCount(), query.topicIds())
+                : guideRepository.countGuideIdsByFilters(
+                        query.title(), query.authorIds(), query.minLikesCount(), query.topicIds());
+    }
+
+    /**
+     * Identifies the rows matched by a search regardless of page and sort, for cached counts
+     */
+    private static String searchCountKey(SearchGuidesByFiltersQuery query) {
+        return "guides.search|" + (query.hasText() ? query.title().toLowerCase(Locale.ROOT) : "")
+                + "|" + sorted(query.authorIds()) + "|" + query.minLikesCount() + "|" + sorted(query.topicIds());
+    }
+
+    private static List<String> sorted(Set<?> values) {
+        return values == null ? List.of() : values.stream().map(String::valueOf).sorted().toList();
+    }
+
+    /**
+     * The LIKE fallback has no rank, so sort=relevance falls back to the most liked guides first
+     */
+    private Pageable withoutRelevanceSort(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(GuideFullTextSearchRepository.RELEVANCE) == null) {
+            return pageable;
+        }
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> GuideFullTextSearchRepository.RELEVANCE.equals(order.getProperty())
+                        ? Sort.Order.desc("likesCount")
+                        : order)
+                .toList());
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+
+    private Slice<GuideSummary> loadSummaries(Slice<UUID> ids) {
+        return new SliceImpl<>(loadSummaries(ids.getContent()), ids.getPageable(), ids.hasNext());
+    }
+
+    /**
+     * Loads guide summaries for the given IDs with three bulk queries (columns, authors, topics),
+     * preserving the order of the ID list. Likes counts include deltas not flushed yet.
+     */
+    private List<GuideSummary> loadSummaries(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, GuideSummary> summariesById = guideRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(GuideSummary::id, Function.identity()));
+
+        Map<UUID, Set<String>> authorsByGuide = guideRepository.findAuthorRowsByGuideIds(ids).stream()
+                .collect(Collectors.groupingBy(GuideAuthorRow::guideId,
+                        Collectors.mapping(GuideAuthorRow::authorId, Collectors.toSet())));
+
+        Map<UUID, List<GuideSummary.TopicRef>> topicsByGuide = guideRepository.findTopicRowsByGuideIds(ids).stream()
+                .collect(Collectors.groupingBy(GuideTopicRow::guideId,
+                        Collectors.mapping(row -> new GuideSummary.TopicRef(row.topicId(), row.topicName()),
+                                Collectors.toList())));
+
+        return ids.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .map(summary -> summary
+                        .withCollections(
+                                authorsByGuide.getOrDefault(summary.id(), Set.of()),
+                                topicsByGuide.getOrDefault(summary.id(), List.of()))
+                        .withLikesCount(counterAggregator.merge(summary.id(), summary.likesCount())))
+                .toList();
     }
 }
@@ -1,9 +1,16 @@
 package com.levelupjourney.learningservice.guides.application.internal.queryservices;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageBody;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPageBodyQuery;
 import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
 import com.levelupjourney.learningservice.guides.domain.services.PageQueryService;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc.PageBatchRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc.PageBodyRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
 import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.PageRepository;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,16 +24,40 @@ import java.util.UUID;
 public class PageQueryServiceImpl implements PageQueryService {
 
     private final PageRepository pageRepository;
+    private final GuideRepository guideRepository;
+    private final PageBodyRepository pageBodyRepository;
+    private final PageBatchRepository pageBatchRepository;
+    private final SecurityContextHelper securityHelper;
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Page> handle(UUID pageId) {
-        return pageRepository.findById(pageId);
+        return pageRepository.findById(pageId).map(page -> {
+            page.assignPosition(pageBatchRepository.findPosition(page.getGuide().getId(), page.getId()));
+            return page;
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Page> handle(GetPagesByGuideIdQuery query) {
-        return pageRepository.findByGuideIdOrderByOrderNumberAsc(query.guideId());
+        return Page.numberInOrder(query.includeContent()
+                ? pageRepository.findWithBodyByGuideIdOrderBySortKeyAsc(query.guideId())
+                : pageRepository.findByGuideIdOrderBySortKeyAsc(query.guideId()));
+    }
+
+    /**
+     * Empty when the page is not in the guide, or the guide is not PUBLISHED and the requester is not one of its authors
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PageBody> handle(GetPageBodyQuery query) {
+        boolean published = !guideRepository
+                .findIdsByIdInAndStatus(List.of(query.guideId()), EntityStatus.PUBLISHED).isEmpty();
+        if (!published && !(securityHelper.isAuthenticated()
+                && guideRepository.existsByIdAndAuthorIdsContaining(query.guideId(), securityHelper.getCurrentUserId()))) {
+            return Optional.empty();
+        }
+        return pageBodyRepository.findBufferedBody(query.guideId(), query.pageId());
     }
 }
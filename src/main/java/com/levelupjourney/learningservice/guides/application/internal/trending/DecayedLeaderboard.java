@@ -0,0 +1,137 @@
+package com.levelupjourney.learningservice.guides.application.internal.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Exponentially decayed scores kept in rank order.
+ * Instead of decaying every score as time passes, new activity is inflated by 2^((t - epoch) / halfLife):
+ * all scores share the same decay factor, so the ordering never changes by itself and only the guide
+ * that received activity is re-positioned (O(log n) per update). Scores are divided by the factor when
+ * read, and re-based onto a new epoch before the factor can overflow.
+ * Not thread-safe on its own; callers synchronize.
+ */
+final class DecayedLeaderboard {
+
+    // Re-base once inflated scores reach 2^32 times their real value
+    private static final double MAX_EXPONENT = 32;
+
+    // Scores below this (in real units) are dropped on re-base
+    private static final double MIN_SCORE = 1e-3;
+
+    private record Entry(UUID guideId, double score) {
+    }
+
+    /**
+     * A guide with its decayed score as of the read time
+     */
+    record Score(UUID guideId, double score) {
+    }
+
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::guideId);
+
+    private final double halfLifeMillis;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranking = new TreeSet<>(RANK_ORDER);
+    private long epochMillis;
+
+    /**
+     * @param halfLifeMillis half-life of the decay; 0 or less disables decay
+     */
+    DecayedLeaderboard(double halfLifeMillis, long nowMillis) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.epochMillis = nowMillis;
+    }
+
+    /**
+     * Adds weight (negative to retract) to a guide's score at the given time.
+     * Scores never go below zero; a guide whose score reaches zero leaves the leaderboard.
+     */
+    void add(UUID guideId, double weight, long nowMillis) {
+        if (exponent(nowMillis) > MAX_EXPONENT) {
+            rebase(nowMillis);
+        }
+        Entry previous = entries.remove(guideId);
+        double score = weight * factor(nowMillis);
+        if (previous != null) {
+            ranking.remove(previous);
+            score += previous.score();
+        }
+        if (score <= 0) {
+            return;
+        }
+        Entry entry = new Entry(guideId, score);
+        entries.put(guideId, entry);
+        ranking.add(entry);
+    }
+
+    void remove(UUID guideId) {
+        Entry previous = entries.remove(guideId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    /**
+     * The highest scores, best first
+     */
+    List<Score> top(int limit, long nowMillis) {
+        double factor = factor(nowMillis);
+        List<Score> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            Entry entry = iterator.next();
+            top.add(new Score(entry.guideId(), entry.score() / factor));
+        }
+        return top;
+    }
+
+    /**
+     * All scores as of the given time, used for persistence
+     */
+    List<Score> scores(long nowMillis) {
+        return top(ranking.size(), nowMillis);
+    }
+
+    /**
+     * Moves the epoch to now, dividing every score by the current factor and dropping negligible ones
+     */
+    void rebase(long nowMillis) {
+        double factor = factor(nowMillis);
+        List<Entry> rebased = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            double score = entry.score() / factor;
+            if (score >= MIN_SCORE) {
+                rebased.add(new Entry(entry.guideId(), score));
+            }
+        }
+        entries.clear();
+        ranking.clear();
+        for (Entry entry : rebased) {
+            entries.put(entry.guideId(), entry);
+            ranking.add(entry);
+        }
+        epochMillis = nowMillis;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private double exponent(long nowMillis) {
+        return halfLifeMillis > 0 ? (nowMillis - epochMillis) / halfLifeMillis : 0;
+    }
+
+    private double factor(long nowMillis) {
+        return Math.pow(2, exponent(nowMillis));
+    }
+}
@@ -0,0 +1,371 @@
+package com.levelupjourney.learningservice.guides.application.internal.trending;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.domain.model.entities.GuideTrendingScore;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideTopicRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.TrendingGuide;
+import com.levelupjourney.learningservice.guides.domain.model.valueobjects.TrendingWindow;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideTrendingScoreRepository;
+import com.levelupjourney.learningservice.learningprogress.domain.model.events.LearningProgressRecordedEvent;
+import com.levelupjourney.learningservice.learningprogress.domain.model.valueobjects.LearningEntityType;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the trending guides leaderboards (one {@link DecayedLeaderboard} per {@link TrendingWindow})
+ * from like/unlike and reading progress events, without touching the database on the write path.
+ * <p>
+ * A scheduled publish hydrates the top entries of every window with two bulk queries, keeps PUBLISHED
+ * guides only and swaps in an immutable result, so reads are served from memory.
+ * <p>
+ * guide_trending_scores is shared by every instance, and each instance only sees its own events. Activity is
+ * therefore also kept as pending deltas; a scheduled snapshot (and one on shutdown) merges them into the
+ * shared rows in one JDBC batch of upserts, decaying the stored score to the snapshot time first, and then
+ * reloads the leaderboards from the merged rows. Between snapshots each instance ranks on the shared scores
+ * as of its last snapshot plus its own activity since.
+ */
+@Slf4j
+@Component
+public class TrendingGuidesTracker {
+
+    // Decays the stored score from its computed_at to the snapshot time, then adds the delta (halfLife 0: no decay)
+    private static final String MERGE_SQL = """
+            INSERT INTO guide_trending_scores AS s (id, guide_id, trending_window, score, computed_at)
+            VALUES (?, ?, ?, GREATEST(?, 0), ?)
+            ON CONFLICT (guide_id, trending_window) DO UPDATE SET
+                score = GREATEST(s.score * COALESCE(power(0.5,
+                        GREATEST(EXTRACT(EPOCH FROM (EXCLUDED.computed_at - s.computed_at)), 0) * 1000
+                        / NULLIF(CAST(? AS double precision), 0)), 1) + ?, 0),
+                computed_at = GREATEST(s.computed_at, EXCLUDED.computed_at)
+            """;
+    // Rows whose score, decayed to now, is negligible
+    private static final String PURGE_SQL = """
+            DELETE FROM guide_trending_scores
+            WHERE trending_window = ?
+              AND score * power(0.5, EXTRACT(EPOCH FROM (CAST(? AS timestamp with time zone) - computed_at)) * 1000
+                  / CAST(? AS double precision)) < ?
+            """;
+    private static final String PURGE_EMPTY_SQL = "DELETE FROM guide_trending_scores WHERE score <= 0";
+    private static final double MIN_SCORE = 1e-3;
+
+    // Candidates fetched per window on publish; leaves room for guides that turn out not to be published
+    private static final int CANDIDATE_FACTOR = 2;
+
+    private final GuideRepository guideRepository;
+    private final GuideTrendingScoreRepository trendingScoreRepository;
+    private final GuideLikeCounterAggregator counterAggregator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock = Clock.systemUTC();
+    private final boolean enabled;
+    private final double likeWeight;
+    private final double pageReadWeight;
+    private final int topSize;
+    private final Timer publishTimer;
+
+    // Guarded by itself, as is pending
+    private final Map<TrendingWindow, DecayedLeaderboard> leaderboards = new EnumMap<>(TrendingWindow.class);
+    private PendingDeltas pending;
+    private volatile Map<TrendingWindow, List<TrendingGuide>> published = Map.of();
+    private volatile boolean ready;
+
+    public TrendingGuidesTracker(
+            GuideRepository guideRepository,
+            GuideTrendingScoreRepository trendingScoreRepository,
+            GuideLikeCounterAggregator counterAggregator,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.guides.trending.enabled:true}") boolean enabled,
+            @Value("${application.guides.trending.like-weight:3}") double likeWeight,
+            @Value("${application.guides.trending.page-read-weight:1}") double pageReadWeight,
+            @Value("${application.guides.trending.max-limit:50}") int topSize
+    ) {
+        this.guideRepository = guideRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.counterAggregator = counterAggregator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.likeWeight = likeWeight;
+        this.pageReadWeight = pageReadWeight;
+        this.topSize = topSize;
+
+        long now = clock.millis();
+        this.pending = new PendingDeltas(now);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            leaderboards.put(window, new DecayedLeaderboard(halfLifeMillis(window), now));
+            Gauge.builder("guides.trending.entries", this, tracker -> tracker.size(window))
+                    .description("Guides with a score on the trending leaderboard")
+                    .tag("window", window.name())
+                    .register(meterRegistry);
+        }
+        this.publishTimer = Timer.builder("guides.trending.publish")
+                .description("Time to hydrate and publish the trending leaderboards")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * The published leaderboard of a window, best first; at most the configured maximum size
+     */
+    public List<TrendingGuide> top(TrendingWindow window, int limit) {
+        List<TrendingGuide> guides = published.getOrDefault(window, List.of());
+        return guides.size() <= limit ? guides : guides.subList(0, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuideLiked(GuideLikedEvent event) {
+        record(event.guideId(), event.delta() * likeWeight);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLearningProgressRecorded(LearningProgressRecordedEvent event) {
+        if (event.entityType() == LearningEntityType.GUIDE) {
+            record(event.entityId(), event.itemsCompleted() * pageReadWeight);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        int rows = reload();
+        ready = true;
+        publish();
+        log.info("Trending leaderboards restored from {} snapshot rows", rows);
+    }
+
+    @Scheduled(fixedDelayString = "${application.guides.trending.publish-interval-ms:10000}")
+    public void publish() {
+        if (!isReady()) {
+            return;
+        }
+        publishTimer.record(() -> {
+            long now = clock.millis();
+            Map<TrendingWindow, List<DecayedLeaderboard.Score>> candidates = new EnumMap<>(TrendingWindow.class);
+            synchronized (leaderboards) {
+                leaderboards.forEach((window, leaderboard) ->
+                        candidates.put(window, leaderboard.top(topSize * CANDIDATE_FACTOR, now)));
+            }
+
+            Set<UUID> guideIds = new HashSet<>();
+            candidates.values().forEach(scores -> scores.forEach(score -> guideIds.add(score.guideId())));
+            Map<UUID, GuideSummary> summaries = loadPublishedSummaries(guideIds);
+
+            Map<TrendingWindow, List<TrendingGuide>> next = new EnumMap<>(TrendingWindow.class);
+            candidates.forEach((window, scores) -> {
+                List<TrendingGuide> ranked = new ArrayList<>(Math.min(topSize, scores.size()));
+                for (DecayedLeaderboard.Score score : scores) {
+                    GuideSummary summary = summaries.get(score.guideId());
+                    if (summary != null) {
+                        ranked.add(new TrendingGuide(ranked.size() + 1, score.score(), summary));
+                        if (ranked.size() == topSize) {
+                            break;
+                        }
+                    }
+                }
+                next.put(window, List.copyOf(ranked));
+            });
+            published = Collections.unmodifiableMap(next);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${application.guides.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!isReady()) {
+            return;
+        }
+        long now = clock.millis();
+        PendingDeltas flushed;
+        synchronized (leaderboards) {
+            flushed = pending;
+            pending = new PendingDeltas(now);
+        }
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp computedAt = Timestamp.from(Instant.ofEpochMilli(now));
+        flushed.forEach(now, (window, guideId, delta) -> rows.add(new Object[]{
+                UUID.randomUUID(), guideId, window.name(), delta, computedAt, halfLifeMillis(window), delta}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(MERGE_SQL, rows);
+                purge(computedAt);
+            });
+        } catch (RuntimeException e) {
+            // Keep the deltas for the next snapshot
+            synchronized (leaderboards) {
+                flushed.forEach(now, (window, guideId, delta) -> pending.add(window, guideId, delta, now));
+            }
+            throw e;
+        }
+        int loaded = reload();
+        log.debug("Trending snapshot merged {} deltas, reloaded {} rows", rows.size(), loaded);
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("Trending snapshot on shutdown failed: {}", e.getMessage());
+        }
+    }
+
+    private void record(UUID guideId, double weight) {
+        if (!enabled || weight == 0) {
+            return;
+        }
+        long now = clock.millis();
+        synchronized (leaderboards) {
+            leaderboards.values().forEach(leaderboard -> leaderboard.add(guideId, weight, now));
+            for (TrendingWindow window : TrendingWindow.values()) {
+                pending.add(window, guideId, weight, now);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the leaderboards from the shared rows plus the activity not yet merged into them
+     *
+     * @return the number of rows loaded
+     */
+    private int reload() {
+        List<GuideTrendingScore> rows = trendingScoreRepository.findAll();
+        synchronized (leaderboards) {
+            long now = clock.millis();
+            Map<TrendingWindow, DecayedLeaderboard> rebuilt = new EnumMap<>(TrendingWindow.class);
+            for (TrendingWindow window : TrendingWindow.values()) {
+                rebuilt.put(window, new DecayedLeaderboard(halfLifeMillis(window), now));
+            }
+            // Adding at computedAt decays each score for the time since it was merged
+            rows.forEach(row -> rebuilt.get(row.getWindow())
+                    .add(row.getGuideId(), row.getScore(), row.getComputedAt().toEpochMilli()));
+            pending.forEach(now, (window, guideId, delta) -> rebuilt.get(window).add(guideId, delta, now));
+            leaderboards.putAll(rebuilt);
+        }
+        return rows.size();
+    }
+
+    /**
+     * Drops rows that decayed to nothing, so the table stays bounded like the leaderboards
+     */
+    private void purge(Timestamp now) {
+        for (TrendingWindow window : TrendingWindow.values()) {
+            if (halfLifeMillis(window) > 0) {
+                jdbcTemplate.update(PURGE_SQL, window.name(), now, halfLifeMillis(window), MIN_SCORE);
+            }
+        }
+        jdbcTemplate.update(PURGE_EMPTY_SQL);
+    }
+
+    private static double halfLifeMillis(TrendingWindow window) {
+        return window.halfLife().map(halfLife -> (double) halfLife.toMillis()).orElse(0d);
+    }
+
+    private int size(TrendingWindow window) {
+        synchronized (leaderboards) {
+            return leaderboards.get(window).size();
+        }
+    }
+
+    /**
+     * PUBLISHED guides among the given IDs with their topics and up-to-date likes counts
+     */
+    private Map<UUID, GuideSummary> loadPublishedSummaries(Set<UUID> guideIds) {
+        if (guideIds.isEmpty()) {
+            return Map.of();
+        }
+        List<GuideSummary> summaries = guideRepository.findSummariesByIdIn(guideIds).stream()
+                .filter(summary -> summary.status() == EntityStatus.PUBLISHED)
+                .toList();
+        if (summaries.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<GuideSummary.TopicRef>> topicsByGuide = guideRepository
+                .findTopicRowsByGuideIds(summaries.stream().map(GuideSummary::id).toList()).stream()
+                .collect(Collectors.groupingBy(GuideTopicRow::guideId,
+                        Collectors.mapping(row -> new GuideSummary.TopicRef(row.topicId(), row.topicName()),
+                                Collectors.toList())));
+        return summaries.stream()
+                .map(summary -> summary
+                        .withCollections(Set.of(), topicsByGuide.getOrDefault(summary.id(), List.of()))
+                        .withLikesCount(counterAggregator.merge(summary.id(), summary.likesCount())))
+                .collect(Collectors.toMap(GuideSummary::id, Function.identity()));
+    }
+
+    /**
+     * Signed activity since the last snapshot, per window. Like {@link DecayedLeaderboard}, deltas are inflated
+     * relative to an epoch so they can be read back decayed to the snapshot time; unlike it, they may be negative
+     * (an unlike retracts weight that an earlier snapshot already merged). Guarded by the leaderboards lock.
+     */
+    private static final class PendingDeltas {
+
+        @FunctionalInterface
+        interface DeltaConsumer {
+            void accept(TrendingWindow window, UUID guideId, double delta);
+        }
+
+        private final long epochMillis;
+        private final Map<TrendingWindow, Map<UUID, Double>> deltas = new EnumMap<>(TrendingWindow.class);
+
+        PendingDeltas(long epochMillis) {
+            this.epochMillis = epochMillis;
+        }
+
+        void add(TrendingWindow window, UUID guideId, double weight, long nowMillis) {
+            deltas.computeIfAbsent(window, key -> new HashMap<>())
+                    .merge(guideId, weight * factor(window, nowMillis), Double::sum);
+        }
+
+        void forEach(long nowMillis, DeltaConsumer consumer) {
+            deltas.forEach((window, byGuide) -> {
+                double factor = factor(window, nowMillis);
+                byGuide.forEach((guideId, inflated) -> {
+                    if (inflated != 0) {
+                        consumer.accept(window, guideId, inflated / factor);
+                    }
+                });
+            });
+        }
+
+        private double factor(TrendingWindow window, long nowMillis) {
+            double halfLifeMillis = halfLifeMillis(window);
+            return halfLifeMillis > 0 ? Math.pow(2, (nowMillis - epochMillis) / halfLifeMillis) : 1;
+        }
+    }
+}
@@ -9,8 +9,27 @@ import lombok.NoArgsConstructor;
 
 import java.util.*;
 
+/**
+ * All collections are lazy; handlers pick one of the named entity graphs below
+ * so that each use case loads only what it touches.
+ */
 @Entity
-@Table(name = "guides")
+@NamedEntityGraph(name = "Guide.header", attributeNodes = @NamedAttributeNode("authorIds"))
+@NamedEntityGraph(name = "Guide.withTopics", attributeNodes = {
+        @NamedAttributeNode("authorIds"),
+        @NamedAttributeNode("topics")
+})
+@NamedEntityGraph(name = "Guide.withChallenges", attributeNodes = {
+        @NamedAttributeNode("authorIds"),
+        @NamedAttributeNode("relatedChallenges")
+})
+@NamedEntityGraph(name = "Guide.withPages", attributeNodes = {
+        @NamedAttributeNode("authorIds"),
+        @NamedAttributeNode(value = "pages", subgraph = "pages.body")
+}, subgraphs = @NamedSubgraph(name = "pages.body", attributeNodes = @NamedAttributeNode("body")))
+@Table(name = "guides", indexes = {
+        @Index(name = "idx_guides_status_created_at_id", columnList = "status, createdAt, id")
+})
 @Getter
 @NoArgsConstructor
 public class Guide extends AuditableModel {
@@ -38,7 +57,7 @@ public class Guide extends AuditableModel {
     @Column(name = "pages_count")
     private Integer pagesCount = 0;
     
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
     @CollectionTable(
         name = "guide_authors",
         joinColumns = @JoinColumn(name = "guide_id")
@@ -46,7 +65,7 @@ public class Guide extends AuditableModel {
     @Column(name = "author_id", nullable = false)
     private Set<String> authorIds = new HashSet<>();
     
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
     @JoinTable(
             name = "guide_topics",
             joinColumns = @JoinColumn(name = "guide_id"),
@@ -54,14 +73,14 @@ public class Guide extends AuditableModel {
     )
     private Set<Topic> topics = new HashSet<>();
     
-    @OneToMany(mappedBy = "guide", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @OrderBy("orderNumber ASC")
+    @OneToMany(mappedBy = "guide", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortKey ASC")
     private List<Page> pages = new ArrayList<>();
     
     @Column(name = "course_id")
     private UUID courseId;
     
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
     @CollectionTable(
         name = "guide_challenges",
         joinColumns = @JoinColumn(name = "guide_id")
@@ -160,22 +179,6 @@ public class Guide extends AuditableModel {
     public void removePage(Page page) {
         this.pages.remove(page);
         this.pagesCount = this.pages.size();
-        // Reorder remaining pages
-        reorderPages();
-    }
-    
-    public void updatePage(UUID pageId, String content) {
-        Page page = this.pages.stream()
-                .filter(p -> p.getId().equals(pageId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Page not found"));
-        page.updateContent(content);
-    }
-    
-    public void reorderPages() {
-        for (int i = 0; i < this.pages.size(); i++) {
-            this.pages.get(i).updateOrder(i + 1);
-        }
     }
     
     // Likes management
@@ -1,12 +1,23 @@
 package com.levelupjourney.learningservice.guides.domain.model.aggregates;
 
+import com.levelupjourney.learningservice.guides.domain.model.entities.PageContent;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentConverter;
 import com.levelupjourney.learningservice.shared.domain.model.AuditableModel;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.UUID;
 
+/**
+ * A page of a guide. Pages are kept in order by a sparse {@code sortKey}: inserting or moving a page
+ * writes that page's key only, picking a value between its new neighbours. {@code orderNumber} is the
+ * dense 1-based position exposed by the API; it is not stored but numbered in memory by whoever reads
+ * the pages in key order, see {@link #numberInOrder(List)}.
+ */
 @Entity
 @Table(name = "pages", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"guide_id", "order_number"})
@@ -15,6 +26,11 @@ import java.util.UUID;
 @NoArgsConstructor
 public class Page extends AuditableModel {
     
+    /**
+     * Distance between the keys of consecutive pages when a guide's keys are (re)assigned
+     */
+    public static final int SORT_KEY_GAP = 1024;
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -23,28 +39,70 @@ public class Page extends AuditableModel {
     @JoinColumn(name = "guide_id", nullable = false)
     private Guide guide;
     
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // Loaded only when the content is read; listings, reorders and deletes never touch page_contents
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "content_id")
+    @Getter(AccessLevel.NONE)
+    private PageContent body;
+    
+    // Inline bodies of pages written before page_contents, read until PageContentMigration moves them:
+    // encoded in pages.body, or plain TEXT in pages.content from before that
+    @Convert(converter = PageContentConverter.class)
+    @Column(name = "body", columnDefinition = "bytea", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    private String legacyBody;
+    
+    @Column(name = "content", columnDefinition = "TEXT", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    private String legacyContent;
     
+    // Keeps the order_number column so existing rows are already valid (if tightly packed) keys
     @Column(name = "order_number", nullable = false)
+    private Integer sortKey;
+    
+    @Transient
     private Integer orderNumber;
     
-    public Page(Guide guide, String content, Integer orderNumber) {
+    /**
+     * @param orderNumber position the page is inserted at, reported until the page is read again
+     * @param sortKey key placing the page between its neighbours at that position
+     */
+    public Page(Guide guide, String content, Integer orderNumber, Integer sortKey) {
         validateGuide(guide);
         validateContent(content);
         validateOrder(orderNumber);
+        validateSortKey(sortKey);
         
         this.guide = guide;
-        this.content = content;
+        this.body = new PageContent(content);
         this.orderNumber = orderNumber;
+        this.sortKey = sortKey;
     }
     
+    /**
+     * A page at the given position of a guide whose pages are built in order
+     */
     public Page(String content, Integer orderNumber) {
         validateContent(content);
         validateOrder(orderNumber);
         
-        this.content = content;
+        this.body = new PageContent(content);
         this.orderNumber = orderNumber;
+        this.sortKey = orderNumber * SORT_KEY_GAP;
+    }
+    
+    public String getContent() {
+        if (body != null) {
+            return body.getContent();
+        }
+        return legacyBody != null ? legacyBody : legacyContent;
+    }
+    
+    /**
+     * ID of the current body row, read without loading the body
+     */
+    public UUID getContentId() {
+        return body != null ? body.getId() : null;
     }
     
     public void setGuide(Guide guide) {
@@ -52,14 +110,65 @@ public class Page extends AuditableModel {
         this.guide = guide;
     }
     
+    /**
+     * Points the page at a new body row; the previous row, see {@link #getContentId()}, is left for the caller to delete
+     */
     public void updateContent(String content) {
         validateContent(content);
-        this.content = content;
+        this.body = new PageContent(content);
+    }
+    
+    /**
+     * Sets the position of a page read on its own, counted by the caller from the keys
+     */
+    public void assignPosition(int orderNumber) {
+        validateOrder(orderNumber);
+        this.orderNumber = orderNumber;
+    }
+    
+    /**
+     * Numbers the pages of one guide read in sort key order with their positions, 1 to n
+     */
+    public static List<Page> numberInOrder(List<Page> pagesInOrder) {
+        for (int i = 0; i < pagesInOrder.size(); i++) {
+            pagesInOrder.get(i).orderNumber = i + 1;
+        }
+        return pagesInOrder;
     }
     
-    public void updateOrder(Integer orderNumber) {
+    /**
+     * Moves the page to a position; only this page's key changes
+     */
+    public void moveTo(Integer orderNumber, Integer sortKey) {
         validateOrder(orderNumber);
+        validateSortKey(sortKey);
         this.orderNumber = orderNumber;
+        this.sortKey = sortKey;
+    }
+    
+    /**
+     * Whether the page's key already lies strictly between two neighbouring keys, so it is at that position
+     * @param before key of the preceding page, null at the front
+     * @param after key of the following page, null at the end
+     */
+    public boolean isBetween(Integer before, Integer after) {
+        return (before == null || before < sortKey) && (after == null || sortKey < after);
+    }
+    
+    /**
+     * A key strictly between two neighbouring keys, or empty when they leave no room and the
+     * guide's keys must be rebalanced first
+     * @param before key of the page that will precede, null at the front
+     * @param after key of the page that will follow, null at the end
+     */
+    public static OptionalInt sortKeyBetween(Integer before, Integer after) {
+        long low = before != null ? before : 0;
+        long high = after != null ? after : low + 2L * SORT_KEY_GAP;
+        if (high - low < 2 || low + (high - low) / 2 > Integer.MAX_VALUE) {
+            return OptionalInt.empty();
+        }
+        // Appending takes a full gap; inserting halves the gap between the neighbours
+        return OptionalInt.of((int) (low + (high - low) / 2));
     }
     
     private void validateGuide(Guide guide) {
@@ -79,4 +188,10 @@ public class Page extends AuditableModel {
             throw new IllegalArgumentException("Page order must be a positive number");
         }
     }
+    
+    private void validateSortKey(Integer sortKey) {
+        if (sortKey == null || sortKey < 1) {
+            throw new IllegalArgumentException("Page sort key must be a positive number");
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package com.levelupjourney.learningservice.guides.domain.model.commands;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replaces the page list of a guide in one go.
+ * pages is the complete list in reading order: entries with a pageId keep that page (content
+ * updated when given), entries without one create a page, and pages left out are deleted.
+ * Order numbers are assigned from the list position, starting at 1.
+ */
+public record ReplaceGuidePagesCommand(
+        @NotNull(message = "Guide ID is required")
+        UUID guideId,
+
+        @NotNull(message = "Pages are required")
+        List<PageDraft> pages
+) {
+    public record PageDraft(UUID pageId, String content) {
+    }
+}
@@ -14,7 +14,11 @@ import java.util.UUID;
 @Entity
 @Table(
     name = "guide_likes",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"guide_id", "user_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"guide_id", "user_id"}),
+    indexes = {
+        @Index(name = "idx_guide_likes_created_at", columnList = "created_at"),
+        @Index(name = "idx_guide_likes_user_id", columnList = "user_id")
+    }
 )
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,39 @@
+package com.levelupjourney.learningservice.guides.domain.model.entities;
+
+import com.levelupjourney.learningservice.guides.domain.model.valueobjects.TrendingWindow;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Trending leaderboard score shared by every instance, so a restart does not lose the leaderboard.
+ * Each snapshot merges an instance's activity into its rows with an upsert; score is the decayed value as of computedAt.
+ */
+@Entity
+@Table(
+    name = "guide_trending_scores",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"guide_id", "trending_window"})
+)
+@Getter
+@NoArgsConstructor
+public class GuideTrendingScore {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "guide_id", nullable = false)
+    private UUID guideId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trending_window", nullable = false, length = 16)
+    private TrendingWindow window;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+}
@@ -0,0 +1,33 @@
+package com.levelupjourney.learningservice.guides.domain.model.entities;
+
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Body of a page, kept apart from the pages row so that listings, reorders and deletes never read it.
+ * Rows are never updated through JPA: editing a page's content references a new row, which also
+ * bumps the page's version, and the previous row is deleted.
+ */
+@Entity
+@Table(name = "page_contents")
+@Getter
+@NoArgsConstructor
+public class PageContent {
+
+    @Id
+    private UUID id;
+
+    // Encoded by PageContentCodec; may be deflated
+    @Convert(converter = PageContentConverter.class)
+    @Column(name = "body", nullable = false, columnDefinition = "bytea")
+    private String content;
+
+    public PageContent(String content) {
+        this.id = UUID.randomUUID();
+        this.content = content;
+    }
+}
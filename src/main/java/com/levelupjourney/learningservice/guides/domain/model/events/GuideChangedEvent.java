@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.guides.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published whenever data shown in a guide's detail view changes
+ * (guide fields, status, authors, topics, challenges, pages or course association).
+ * Likes count changes are published separately as {@link GuideLikesCountChangedEvent}.
+ * Read-side caches listen to it; it is not sent to Kafka.
+ */
+public record GuideChangedEvent(UUID guideId) {
+}
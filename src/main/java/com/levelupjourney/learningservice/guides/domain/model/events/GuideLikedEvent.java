@@ -0,0 +1,10 @@
+package com.levelupjourney.learningservice.guides.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published when a like is added (delta 1) or removed (delta -1).
+ * The trending leaderboard listens to it; it is not sent to Kafka.
+ */
+public record GuideLikedEvent(UUID guideId, int delta) {
+}
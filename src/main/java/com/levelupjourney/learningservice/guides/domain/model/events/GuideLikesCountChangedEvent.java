@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.guides.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published when a guide's persisted likes count changes
+ * (write-behind flush, direct update or reconciliation fix).
+ * Search indexes listen to it; the guide detail cache does not, since likes are overlaid per request.
+ * It is not sent to Kafka.
+ */
+public record GuideLikesCountChangedEvent(UUID guideId) {
+}
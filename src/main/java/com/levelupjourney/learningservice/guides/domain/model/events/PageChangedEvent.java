@@ -0,0 +1,10 @@
+package com.levelupjourney.learningservice.guides.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published when a page is created, edited or deleted.
+ * The page content search index listens to it; it is not sent to Kafka.
+ */
+public record PageChangedEvent(UUID guideId, UUID pageId) {
+}
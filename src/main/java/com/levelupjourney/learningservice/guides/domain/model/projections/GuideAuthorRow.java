@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * One (guide, author) pair read in bulk for a page of guide summaries.
+ */
+public record GuideAuthorRow(UUID guideId, String authorId) {
+}
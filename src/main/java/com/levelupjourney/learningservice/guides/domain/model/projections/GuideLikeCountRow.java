@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * A likes count for one guide, either the stored guides.likes_count or a COUNT over guide_likes.
+ */
+public record GuideLikeCountRow(UUID guideId, Long count) {
+}
@@ -0,0 +1,49 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read model used by guide listings.
+ * Holds the guide columns plus author IDs and topic names, never pages or page content.
+ */
+public record GuideSummary(
+        UUID id,
+        String title,
+        String description,
+        String coverImage,
+        EntityStatus status,
+        Integer likesCount,
+        Integer pagesCount,
+        Set<String> authorIds,
+        List<TopicRef> topics,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Constructor used by JPQL constructor expressions; collections are attached afterwards
+     */
+    public GuideSummary(UUID id, String title, String description, String coverImage, EntityStatus status,
+                        Integer likesCount, Integer pagesCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, coverImage, status, likesCount, pagesCount,
+                Set.of(), List.of(), createdAt, updatedAt);
+    }
+
+    public GuideSummary withCollections(Set<String> authorIds, List<TopicRef> topics) {
+        return new GuideSummary(id, title, description, coverImage, status, likesCount, pagesCount,
+                authorIds, topics, createdAt, updatedAt);
+    }
+
+    public GuideSummary withLikesCount(Integer likesCount) {
+        return new GuideSummary(id, title, description, coverImage, status, likesCount, pagesCount,
+                authorIds, topics, createdAt, updatedAt);
+    }
+
+    public record TopicRef(UUID id, String name) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * One (guide, topic) pair read in bulk for a page of guide summaries.
+ */
+public record GuideTopicRow(UUID guideId, UUID topicId, String topicName) {
+}
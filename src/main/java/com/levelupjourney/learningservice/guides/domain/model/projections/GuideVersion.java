@@ -0,0 +1,25 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Version-only view of a guide used to answer conditional GETs without loading it.
+ * The guide's own version covers its fields, authors, topics membership and challenges;
+ * pages and topic renames live in other rows, so they are summarised separately.
+ * likesCount is the persisted count, which changes without bumping the guide version.
+ */
+public record GuideVersion(
+        UUID id,
+        EntityStatus status,
+        Long version,
+        LocalDateTime updatedAt,
+        Integer likesCount,
+        Long pagesCount,
+        Long pagesVersionSum,
+        LocalDateTime pagesUpdatedAt,
+        LocalDateTime topicsUpdatedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * UTF-8 text of one page, decoded from its stored form while it is read.
+ * The stored form is held in memory, so it holds no database resources and can be consumed
+ * after the transaction ends.
+ */
+public record PageBody(UUID pageId, InputStream content) {
+}
@@ -0,0 +1,18 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * Page body with its sort key, read in bulk for the page content search index and its snippets.
+ * The key orders a guide's pages; positions are numbered separately, see {@code PageSequenceRow}.
+ */
+public record PageContentRow(UUID pageId, UUID guideId, Integer sortKey, String content) {
+
+    /**
+     * Takes the body from page_contents, or from the page's inline columns while it has not been migrated
+     */
+    public PageContentRow(UUID pageId, UUID guideId, Integer sortKey, String content, String legacyBody,
+                          String legacyContent) {
+        this(pageId, guideId, sortKey, content != null ? content : legacyBody != null ? legacyBody : legacyContent);
+    }
+}
@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * Sort key and body row of one page of a guide, read without its content.
+ */
+public record PageOrderRow(UUID pageId, int sortKey, UUID contentId) {
+}
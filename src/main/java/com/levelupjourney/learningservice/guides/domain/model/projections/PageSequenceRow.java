@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+import java.util.UUID;
+
+/**
+ * A page ID with its guide, read in key order so positions can be numbered without loading the pages.
+ */
+public record PageSequenceRow(UUID pageId, UUID guideId) {
+}
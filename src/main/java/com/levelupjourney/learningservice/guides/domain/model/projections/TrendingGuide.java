@@ -0,0 +1,8 @@
+package com.levelupjourney.learningservice.guides.domain.model.projections;
+
+/**
+ * A PUBLISHED guide on the trending leaderboard with its decayed score at publication time.
+ * rank starts at 1.
+ */
+public record TrendingGuide(int rank, double score, GuideSummary guide) {
+}
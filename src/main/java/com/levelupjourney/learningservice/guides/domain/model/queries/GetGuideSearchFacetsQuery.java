@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.guides.domain.model.queries;
+
+/**
+ * Facet counts (topics, status, likes buckets) over every guide the search matches.
+ */
+public record GetGuideSearchFacetsQuery(SearchGuidesByFiltersQuery search) {
+    public GetGuideSearchFacetsQuery {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+    }
+}
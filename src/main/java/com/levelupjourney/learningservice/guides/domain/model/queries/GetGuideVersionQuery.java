@@ -0,0 +1,11 @@
+package com.levelupjourney.learningservice.guides.domain.model.queries;
+
+import java.util.UUID;
+
+public record GetGuideVersionQuery(UUID guideId) {
+    public GetGuideVersionQuery {
+        if (guideId == null) {
+            throw new IllegalArgumentException("Guide ID cannot be null");
+        }
+    }
+}
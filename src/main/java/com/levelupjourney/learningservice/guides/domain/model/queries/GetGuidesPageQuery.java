@@ -0,0 +1,22 @@
+package com.levelupjourney.learningservice.guides.domain.model.queries;
+
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
+
+/**
+ * Query for one keyset page of guides ordered by newest first.
+ * status and authorId are optional filters; cursor is null for the first page
+ * and size falls back to the configured default page size when null.
+ */
+public record GetGuidesPageQuery(
+        EntityStatus status,
+        String authorId,
+        KeysetCursor cursor,
+        Integer size
+) {
+    public GetGuidesPageQuery {
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+    }
+}
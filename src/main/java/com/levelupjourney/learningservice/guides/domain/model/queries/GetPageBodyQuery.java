@@ -0,0 +1,14 @@
+package com.levelupjourney.learningservice.guides.domain.model.queries;
+
+import java.util.UUID;
+
+public record GetPageBodyQuery(UUID guideId, UUID pageId) {
+    public GetPageBodyQuery {
+        if (guideId == null) {
+            throw new IllegalArgumentException("Guide ID cannot be null");
+        }
+        if (pageId == null) {
+            throw new IllegalArgumentException("Page ID cannot be null");
+        }
+    }
+}
@@ -2,10 +2,17 @@ package com.levelupjourney.learningservice.guides.domain.model.queries;
 
 import java.util.UUID;
 
-public record GetPagesByGuideIdQuery(UUID guideId) {
+/**
+ * @param includeContent false to list page metadata only; bodies are then not read at all
+ */
+public record GetPagesByGuideIdQuery(UUID guideId, boolean includeContent) {
     public GetPagesByGuideIdQuery {
         if (guideId == null) {
             throw new IllegalArgumentException("Guide ID cannot be null");
         }
     }
+
+    public GetPagesByGuideIdQuery(UUID guideId) {
+        this(guideId, true);
+    }
 }
@@ -0,0 +1,18 @@
+package com.levelupjourney.learningservice.guides.domain.model.queries;
+
+import com.levelupjourney.learningservice.guides.domain.model.valueobjects.TrendingWindow;
+
+/**
+ * Query for the top trending guides of a window.
+ * limit falls back to the configured default when null and is capped by the configured maximum.
+ */
+public record GetTrendingGuidesQuery(TrendingWindow window, Integer limit) {
+    public GetTrendingGuidesQuery {
+        if (window == null) {
+            throw new IllegalArgumentException("Trending window is required");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+    }
+}
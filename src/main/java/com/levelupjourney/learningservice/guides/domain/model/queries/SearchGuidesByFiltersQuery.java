@@ -20,9 +20,17 @@ public record SearchGuidesByFiltersQuery(
      * Validates that at least one search parameter is provided
      */
     public boolean hasSearchCriteria() {
-        return (title != null && !title.isBlank()) ||
+        return hasText() ||
                (authorIds != null && !authorIds.isEmpty()) ||
                minLikesCount != null ||
                (topicIds != null && !topicIds.isEmpty());
     }
+
+    public boolean hasText() {
+        return title != null && !title.isBlank();
+    }
+
+    public SearchGuidesByFiltersQuery withTitle(String title) {
+        return new SearchGuidesByFiltersQuery(title, authorIds, minLikesCount, topicIds, pageable);
+    }
 }
@@ -0,0 +1,20 @@
+package com.levelupjourney.learningservice.guides.domain.model.queries;
+
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
+
+/**
+ * A guide search answered as a slice: no count query unless total asks for an exact one.
+ */
+public record SearchGuidesSliceQuery(
+        SearchGuidesByFiltersQuery search,
+        TotalCountMode total
+) {
+    public SearchGuidesSliceQuery {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+        if (total == null) {
+            total = TotalCountMode.NONE;
+        }
+    }
+}
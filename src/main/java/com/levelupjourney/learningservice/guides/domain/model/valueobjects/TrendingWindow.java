@@ -0,0 +1,26 @@
+package com.levelupjourney.learningservice.guides.domain.model.valueobjects;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Time windows of the trending guides leaderboard.
+ * Windows are not hard cut-offs: each one decays activity exponentially with the given half-life,
+ * chosen so that activity older than the window weighs 1/16 or less (four half-lives).
+ * ALL_TIME never decays.
+ */
+public enum TrendingWindow {
+    DAY(Duration.ofHours(6)),
+    WEEK(Duration.ofHours(42)),
+    ALL_TIME(null);
+
+    private final Duration halfLife;
+
+    TrendingWindow(Duration halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    public Optional<Duration> halfLife() {
+        return Optional.ofNullable(halfLife);
+    }
+}
@@ -1,15 +1,30 @@
 package com.levelupjourney.learningservice.guides.domain.services;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion;
+import com.levelupjourney.learningservice.guides.domain.model.projections.TrendingGuide;
 import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideByIdQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideSearchFacetsQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideVersionQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuidesPageQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetTrendingGuidesQuery;
 import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesByFiltersQuery;
-import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesSliceQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.shared.domain.model.CursorPage;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GuideQueryService {
     Optional<Guide> handle(GetGuideByIdQuery query);
-    Page<Guide> handle(SearchGuidesQuery query);
-    Page<Guide> handle(SearchGuidesByFiltersQuery query);
+    Optional<GuideVersion> handle(GetGuideVersionQuery query);
+    CursorPage<GuideSummary> handle(GetGuidesPageQuery query);
+    Page<GuideSummary> handle(SearchGuidesByFiltersQuery query);
+    OffsetPage<GuideSummary> handle(SearchGuidesSliceQuery query);
+    Optional<SearchFacets> handle(GetGuideSearchFacetsQuery query);
+    List<TrendingGuide> handle(GetTrendingGuidesQuery query);
 }
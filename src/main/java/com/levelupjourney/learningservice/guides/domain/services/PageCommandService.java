@@ -3,12 +3,15 @@ package com.levelupjourney.learningservice.guides.domain.services;
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
 import com.levelupjourney.learningservice.guides.domain.model.commands.CreatePageCommand;
 import com.levelupjourney.learningservice.guides.domain.model.commands.DeletePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.ReplaceGuidePagesCommand;
 import com.levelupjourney.learningservice.guides.domain.model.commands.UpdatePageCommand;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PageCommandService {
     Optional<Page> handle(CreatePageCommand command);
     Optional<Page> handle(UpdatePageCommand command);
     void handle(DeletePageCommand command);
+    List<Page> handle(ReplaceGuidePagesCommand command);
 }
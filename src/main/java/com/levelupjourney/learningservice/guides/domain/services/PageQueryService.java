@@ -1,6 +1,8 @@
 package com.levelupjourney.learningservice.guides.domain.services;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageBody;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPageBodyQuery;
 import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
 
 import java.util.List;
@@ -10,4 +12,5 @@ import java.util.UUID;
 public interface PageQueryService {
     Optional<Page> handle(UUID pageId);
     List<Page> handle(GetPagesByGuideIdQuery query);
+    Optional<PageBody> handle(GetPageBodyQuery query);
 }
@@ -0,0 +1,129 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.codec;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Storage format of page bodies in the page_contents.body column: one format byte followed by the payload.
+ * <ul>
+ *     <li>{@link #FORMAT_PLAIN}: UTF-8 text as is</li>
+ *     <li>{@link #FORMAT_DEFLATE}: UTF-8 text compressed with zlib deflate</li>
+ * </ul>
+ * Bodies are deflated when compression is enabled, they are at least {@code min-size} bytes long
+ * and deflating actually makes them smaller; everything else is stored plain. Both formats are
+ * always readable, so compression can be switched on or off without rewriting existing rows.
+ */
+@Component
+public class PageContentCodec {
+
+    public static final byte FORMAT_PLAIN = 0;
+    public static final byte FORMAT_DEFLATE = 1;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int level;
+    private final Counter rawBytes;
+    private final Counter storedBytes;
+    private final DistributionSummary ratio;
+
+    public PageContentCodec(
+            MeterRegistry meterRegistry,
+            @Value("${application.guides.pages.content-codec.enabled:true}") boolean enabled,
+            @Value("${application.guides.pages.content-codec.min-size:512}") int minSize,
+            @Value("${application.guides.pages.content-codec.level:6}") int level
+    ) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.level = level;
+        this.rawBytes = Counter.builder("pages.content.bytes")
+                .description("UTF-8 size of page bodies written")
+                .baseUnit("bytes")
+                .tag("form", "raw")
+                .register(meterRegistry);
+        this.storedBytes = Counter.builder("pages.content.bytes")
+                .description("Stored size of page bodies written, format byte included")
+                .baseUnit("bytes")
+                .tag("form", "stored")
+                .register(meterRegistry);
+        this.ratio = DistributionSummary.builder("pages.content.compression.ratio")
+                .description("Raw to stored size of each page body written")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
+    public byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = null;
+        if (enabled && raw.length >= minSize) {
+            stored = deflate(raw);
+            if (stored.length >= raw.length + 1) {
+                stored = null;
+            }
+        }
+        if (stored == null) {
+            stored = new byte[raw.length + 1];
+            stored[0] = FORMAT_PLAIN;
+            System.arraycopy(raw, 0, stored, 1, raw.length);
+        }
+        rawBytes.increment(raw.length);
+        storedBytes.increment(stored.length);
+        ratio.record((double) raw.length / stored.length);
+        return stored;
+    }
+
+    public String decode(byte[] stored) {
+        try (InputStream in = open(stored)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable page body", e);
+        }
+    }
+
+    /**
+     * The UTF-8 text of a stored body, already in memory, as a stream inflated while it is read, so it
+     * can be copied to a response without building the whole string
+     */
+    public InputStream open(byte[] stored) {
+        if (stored.length == 0) {
+            throw new IllegalStateException("Page body without format byte");
+        }
+        var payload = new ByteArrayInputStream(stored, 1, stored.length - 1);
+        return switch (stored[0]) {
+            case FORMAT_PLAIN -> payload;
+            case FORMAT_DEFLATE -> new InflaterInputStream(payload);
+            default -> throw new IllegalStateException("Unknown page body format " + stored[0]);
+        };
+    }
+
+    private byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            var out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            out.write(FORMAT_DEFLATE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.codec;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps {@code PageContent.content} to the encoded page_contents.body column, and decodes the inline
+ * pages.body column of pages not yet migrated; instantiated by Hibernate through the Spring bean
+ * container, so the codec settings and metrics apply to JPA writes as well.
+ */
+@Converter
+public class PageContentConverter implements AttributeConverter<String, byte[]> {
+
+    private final PageContentCodec codec;
+
+    public PageContentConverter(PageContentCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return content != null ? codec.encode(content) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return stored != null ? codec.decode(stored) : null;
+    }
+}
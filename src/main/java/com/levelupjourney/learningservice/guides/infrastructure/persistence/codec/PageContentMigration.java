@@ -0,0 +1,188 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves page bodies stored inline in the pages table (the plain legacy pages.content column, or the
+ * encoded pages.body column) into their own page_contents rows, linked through pages.content_id.
+ * <p>
+ * Hibernate adds page_contents and content_id but cannot relax the old column; page_contents_schema.sql
+ * drops its NOT NULL. Neither step runs on startup: the application only warns when the script is
+ * missing or pages are still inline. The move is a one-off run, triggered through the
+ * pagecontentmigration actuator endpoint: in chunks, one transaction each, clearing the inline copy
+ * as it goes, so it can be interrupted and re-run. Versions and updated_at are left alone, since the
+ * text does not change. Until it completes, pages still inline are served from their inline column.
+ */
+@Slf4j
+@Component
+public class PageContentMigration {
+
+    private static final String INSERT_CONTENT_SQL = "INSERT INTO page_contents (id, body) VALUES (?, ?)";
+    private static final String COUNT_INLINE_SQL = "SELECT COUNT(*) FROM pages WHERE content_id IS NULL";
+
+    private record InlineRow(UUID id, byte[] body, String content) {
+    }
+
+    public record Status(
+            boolean running,
+            long inlinePages,
+            long lastMigrated,
+            LocalDateTime lastFinishedAt,
+            String lastFailure
+    ) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PageContentCodec contentCodec;
+    private final int chunkSize;
+
+    private volatile boolean running;
+    private volatile long lastMigrated;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile String lastFailure;
+
+    public PageContentMigration(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PageContentCodec contentCodec,
+            @Value("${application.guides.pages.content-codec.migration.chunk-size:200}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.contentCodec = contentCodec;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectInlinePages() {
+        if (Boolean.FALSE.equals(isNullable("content"))) {
+            log.warn("pages.content is still NOT NULL, so new pages cannot be inserted; run page_contents_schema.sql");
+        }
+        long inline = countInlinePages();
+        if (inline > 0) {
+            log.warn("{} pages still store their body inline and are served from it; "
+                    + "run the migration with POST /actuator/pagecontentmigration", inline);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Status status() {
+        return new Status(running, countInlinePages(), lastMigrated, lastFinishedAt, lastFailure);
+    }
+
+    /**
+     * Moves every inline body; pages already moved are skipped, so a second run finds nothing to do
+     *
+     * @return pages moved to page_contents
+     */
+    public synchronized long run() {
+        running = true;
+        try {
+            long migrated = migrate();
+            lastMigrated = migrated;
+            lastFailure = null;
+            return migrated;
+        } catch (RuntimeException e) {
+            log.error("Page content migration failed", e);
+            lastFailure = e.getMessage();
+            throw e;
+        } finally {
+            lastFinishedAt = LocalDateTime.now();
+            running = false;
+        }
+    }
+
+    private long migrate() {
+        boolean hasContent = hasColumn("content");
+        boolean hasBody = hasColumn("body");
+        if (!hasContent && !hasBody) {
+            return 0;
+        }
+        String findSql = "SELECT id" + (hasBody ? ", body" : "") + (hasContent ? ", content" : "")
+                + " FROM pages WHERE content_id IS NULL ORDER BY id LIMIT ?";
+        String linkSql = "UPDATE pages SET content_id = ?" + (hasBody ? ", body = NULL" : "")
+                + (hasContent ? ", content = NULL" : "") + " WHERE id = ? AND content_id IS NULL";
+
+        long started = System.nanoTime();
+        long migrated = 0;
+        List<InlineRow> chunk;
+        do {
+            chunk = jdbcTemplate.query(findSql, (rs, rowNum) -> new InlineRow(
+                    rs.getObject("id", UUID.class),
+                    hasBody ? rs.getBytes("body") : null,
+                    hasContent ? rs.getString("content") : null), chunkSize);
+            if (!chunk.isEmpty()) {
+                List<Object[]> contents = new ArrayList<>(chunk.size());
+                List<Object[]> links = new ArrayList<>(chunk.size());
+                for (InlineRow row : chunk) {
+                    UUID contentId = UUID.randomUUID();
+                    // An encoded body is already in the page_contents format; plain text still needs encoding
+                    byte[] stored = row.body() != null
+                            ? row.body()
+                            : contentCodec.encode(row.content() != null ? row.content() : "");
+                    contents.add(new Object[]{contentId, stored});
+                    links.add(new Object[]{contentId, row.id()});
+                }
+                // Connections are not auto-commit, so each batch needs its own transaction
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(INSERT_CONTENT_SQL, contents);
+                    jdbcTemplate.batchUpdate(linkSql, links);
+                });
+                migrated += chunk.size();
+            }
+        } while (chunk.size() == chunkSize);
+        if (migrated > 0) {
+            log.info("Page content migration moved {} pages to page_contents in {} ms",
+                    migrated, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        }
+        return migrated;
+    }
+
+    private long countInlinePages() {
+        Long count = jdbcTemplate.queryForObject(COUNT_INLINE_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private boolean hasColumn(String column) {
+        return isNullable(column) != null;
+    }
+
+    /**
+     * Whether a column of pages accepts NULL; null when the column does not exist
+     */
+    private Boolean isNullable(String column) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // Unquoted identifiers are lower case on PostgreSQL and upper case on H2
+            for (String table : List.of("pages", "PAGES")) {
+                for (String name : List.of(column, column.toUpperCase())) {
+                    try (ResultSet columns = metaData.getColumns(null, null, table, name)) {
+                        if (columns.next()) {
+                            return columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls;
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,243 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc;
+
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageOrderRow;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based page writes for bulk edits, one JDBC batch per kind of change, and the sort key
+ * lookups and rebalancing behind single page inserts and moves.
+ * Bypasses the persistence context: callers must not have the affected pages (or the guide's
+ * pages collection) loaded, and must keep version and updated_at moving as JPA would, since
+ * conditional GETs are derived from them. Bodies live in page_contents, encoded with the same codec as JPA writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PageBatchRepository {
+
+    private static final String UPDATE_PAGES_COUNT_SQL = """
+            UPDATE guides SET pages_count = ? WHERE id = ?
+            """;
+    private static final String LOCK_GUIDE_SQL = "SELECT id FROM guides WHERE id = ? FOR UPDATE";
+    private static final String FIND_ORDERS_SQL = "SELECT id, order_number, content_id FROM pages WHERE guide_id = ?";
+    private static final String FIND_IDS_IN_ORDER_SQL = "SELECT id FROM pages WHERE guide_id = ? ORDER BY order_number";
+    private static final String FIND_NEIGHBOUR_KEYS_SQL = """
+            SELECT order_number FROM pages WHERE guide_id = ?
+            ORDER BY order_number LIMIT ? OFFSET ?
+            """;
+    private static final String FIND_NEIGHBOUR_KEYS_EXCLUDING_SQL = """
+            SELECT order_number FROM pages WHERE guide_id = ? AND id <> ?
+            ORDER BY order_number LIMIT ? OFFSET ?
+            """;
+    private static final String FIND_LAST_KEY_SQL = "SELECT COUNT(*), MAX(order_number) FROM pages WHERE guide_id = ?";
+    private static final String FIND_LAST_KEY_EXCLUDING_SQL = """
+            SELECT COUNT(*), MAX(order_number) FROM pages WHERE guide_id = ? AND id <> ?
+            """;
+    private static final String PARK_ALL_SQL = "UPDATE pages SET order_number = -order_number WHERE guide_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM pages WHERE id = ?";
+    private static final String DELETE_CONTENT_SQL = "DELETE FROM page_contents WHERE id = ?";
+    private static final String MOVE_SQL = "UPDATE pages SET order_number = ? WHERE id = ?";
+    private static final String REBALANCE_SQL = "UPDATE pages SET order_number = ?, version = version + 1 WHERE id = ?";
+    private static final String UPDATE_SQL = """
+            UPDATE pages SET order_number = ?, updated_at = ?, version = version + 1 WHERE id = ?
+            """;
+    private static final String UPDATE_CONTENT_SQL = "UPDATE page_contents SET body = ? WHERE id = ?";
+    private static final String LINK_CONTENT_SQL = "UPDATE pages SET content_id = ? WHERE id = ?";
+    private static final String INSERT_CONTENT_SQL = "INSERT INTO page_contents (id, body) VALUES (?, ?)";
+    private static final String INSERT_SQL = """
+            INSERT INTO pages (id, guide_id, content_id, order_number, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    /**
+     * A page to write with its final sort key; content null keeps the current content
+     * @param contentId the page's current body row; null for new pages and pages whose body is still inline
+     */
+    public record PageWrite(UUID pageId, UUID contentId, String content, int sortKey) {
+    }
+
+    /**
+     * Sort keys of the pages around a position; null past either end of the guide
+     * @param orderNumber the position itself, moved back to just past the last page when it was beyond it
+     */
+    public record NeighbourKeys(Integer before, Integer after, int orderNumber) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PageContentCodec contentCodec;
+
+    /**
+     * Sets the guide's pages count. Like single page inserts and deletes, it leaves the guide's version and
+     * updated_at alone: page changes reach the validators through the pages count and the pages' own
+     * versions and timestamps. Also takes the guide's row lock, so concurrent page edits of the same guide
+     * wait for this transaction.
+     */
+    public void updatePagesCount(UUID guideId, int pagesCount) {
+        jdbcTemplate.update(UPDATE_PAGES_COUNT_SQL, pagesCount, guideId);
+    }
+
+    /**
+     * Takes the guide's row lock without changing it, so a move cannot pick the same sort key as a
+     * concurrent insert or move in the same guide
+     */
+    public void lockGuide(UUID guideId) {
+        jdbcTemplate.queryForList(LOCK_GUIDE_SQL, UUID.class, guideId);
+    }
+
+    /**
+     * Keys of the pages that will surround a page placed at the given position. A position past
+     * the end appends, so callers need not know how many pages the guide has.
+     * @param excludedPageId the page being moved, left out of the positions; null for a new page
+     * @param orderNumber 1-based position
+     */
+    public NeighbourKeys findNeighbourKeys(UUID guideId, UUID excludedPageId, int orderNumber) {
+        int limit = orderNumber > 1 ? 2 : 1;
+        int offset = Math.max(orderNumber - 2, 0);
+        List<Integer> keys = excludedPageId == null
+                ? jdbcTemplate.queryForList(FIND_NEIGHBOUR_KEYS_SQL, Integer.class, guideId, limit, offset)
+                : jdbcTemplate.queryForList(FIND_NEIGHBOUR_KEYS_EXCLUDING_SQL, Integer.class,
+                        guideId, excludedPageId, limit, offset);
+        if (orderNumber == 1) {
+            return new NeighbourKeys(null, keys.isEmpty() ? null : keys.get(0), orderNumber);
+        }
+        if (keys.isEmpty()) {
+            return findLastKey(guideId, excludedPageId);
+        }
+        return new NeighbourKeys(keys.get(0), keys.size() > 1 ? keys.get(1) : null, orderNumber);
+    }
+
+    /**
+     * 1-based position of a page, numbered in memory from the IDs of its guide's pages in key order;
+     * 0 when the page is not in the guide
+     */
+    public int findPosition(UUID guideId, UUID pageId) {
+        return jdbcTemplate.queryForList(FIND_IDS_IN_ORDER_SQL, UUID.class, guideId).indexOf(pageId) + 1;
+    }
+
+    /**
+     * Spreads the guide's sort keys {@link Page#SORT_KEY_GAP} apart again, keeping the order.
+     * Rewritten pages get a new version, so a copy of one loaded before the rebalance fails its
+     * optimistic check instead of writing its old key back over the new one.
+     * @param movedPageId page the caller is about to give a new key through its loaded entity, left at
+     *                    its version so that save succeeds; null when no page is being moved
+     */
+    public void rebalance(UUID guideId, UUID movedPageId) {
+        List<UUID> pageIds = jdbcTemplate.queryForList(FIND_IDS_IN_ORDER_SQL, UUID.class, guideId);
+        jdbcTemplate.update(PARK_ALL_SQL, guideId);
+        List<Object[]> rewrites = new ArrayList<>(pageIds.size());
+        for (int i = 0; i < pageIds.size(); i++) {
+            UUID pageId = pageIds.get(i);
+            int sortKey = (i + 1) * Page.SORT_KEY_GAP;
+            if (pageId.equals(movedPageId)) {
+                jdbcTemplate.update(MOVE_SQL, sortKey, pageId);
+            } else {
+                rewrites.add(new Object[]{sortKey, pageId});
+            }
+        }
+        jdbcTemplate.batchUpdate(REBALANCE_SQL, rewrites);
+    }
+
+    /**
+     * Writes one page's sort key, leaving its version to the caller's entity save
+     */
+    public void move(UUID pageId, int sortKey) {
+        jdbcTemplate.update(MOVE_SQL, sortKey, pageId);
+    }
+
+    private NeighbourKeys findLastKey(UUID guideId, UUID excludedPageId) {
+        RowMapper<NeighbourKeys> mapper = (rs, rowNum) ->
+                new NeighbourKeys(rs.getObject(2, Integer.class), null, rs.getInt(1) + 1);
+        return excludedPageId == null
+                ? jdbcTemplate.queryForObject(FIND_LAST_KEY_SQL, mapper, guideId)
+                : jdbcTemplate.queryForObject(FIND_LAST_KEY_EXCLUDING_SQL, mapper, guideId, excludedPageId);
+    }
+
+    public List<PageOrderRow> findOrders(UUID guideId) {
+        return jdbcTemplate.query(FIND_ORDERS_SQL,
+                (rs, rowNum) -> new PageOrderRow(
+                        rs.getObject("id", UUID.class), rs.getInt("order_number"), rs.getObject("content_id", UUID.class)),
+                guideId);
+    }
+
+    /**
+     * Deletes pages and then their body rows, without reading the bodies
+     */
+    public void deleteAll(List<PageOrderRow> pages) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, pages.stream().map(page -> new Object[]{page.pageId()}).toList());
+        List<Object[]> contentIds = pages.stream()
+                .filter(page -> page.contentId() != null)
+                .map(page -> new Object[]{page.contentId()})
+                .toList();
+        if (!contentIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_CONTENT_SQL, contentIds);
+        }
+    }
+
+    /**
+     * Moves pages to temporary negative sort keys, so the final keys can be written in any
+     * order without tripping the (guide_id, order_number) unique constraint
+     */
+    public void park(List<PageWrite> pages) {
+        jdbcTemplate.batchUpdate(MOVE_SQL, pages.stream()
+                .map(page -> new Object[]{-page.sortKey(), page.pageId()})
+                .toList());
+    }
+
+    /**
+     * Writes the final sort keys and bumps the page versions; pages with new content also get their body
+     * rewritten, or a body row inserted and linked when theirs is still inline, as {@link Page#updateContent} does
+     */
+    public void updateAll(List<PageWrite> pages, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPDATE_SQL, pages.stream()
+                .map(page -> new Object[]{page.sortKey(), timestamp, page.pageId()})
+                .toList());
+        List<Object[]> rewrites = new ArrayList<>();
+        List<Object[]> contents = new ArrayList<>();
+        List<Object[]> links = new ArrayList<>();
+        for (PageWrite page : pages) {
+            if (page.content() == null) {
+                continue;
+            }
+            byte[] stored = contentCodec.encode(page.content());
+            if (page.contentId() != null) {
+                rewrites.add(new Object[]{stored, page.contentId()});
+            } else {
+                UUID contentId = UUID.randomUUID();
+                contents.add(new Object[]{contentId, stored});
+                links.add(new Object[]{contentId, page.pageId()});
+            }
+        }
+        if (!rewrites.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CONTENT_SQL, rewrites);
+        }
+        if (!contents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CONTENT_SQL, contents);
+            jdbcTemplate.batchUpdate(LINK_CONTENT_SQL, links);
+        }
+    }
+
+    public void insertAll(UUID guideId, List<PageWrite> pages, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> contents = new ArrayList<>(pages.size());
+        List<Object[]> rows = new ArrayList<>(pages.size());
+        for (PageWrite page : pages) {
+            UUID contentId = UUID.randomUUID();
+            contents.add(new Object[]{contentId, contentCodec.encode(page.content())});
+            rows.add(new Object[]{page.pageId(), guideId, contentId, page.sortKey(), timestamp, timestamp});
+        }
+        // Bodies first: pages reference them
+        jdbcTemplate.batchUpdate(INSERT_CONTENT_SQL, contents);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
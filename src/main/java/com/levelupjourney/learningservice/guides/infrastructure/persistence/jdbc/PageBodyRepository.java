@@ -0,0 +1,52 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc;
+
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageBody;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads a page body in its stored form, without loading the page entity, so it can be
+ * inflated straight into a response instead of being decoded into a String first.
+ * <p>
+ * The stored bytes are buffered: the row is read within the query, before the response is written,
+ * and the PostgreSQL driver fetches a bytea value in full even through getBinaryStream. Only the
+ * decoded text is produced incrementally.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PageBodyRepository {
+
+    // Pages not migrated yet have no page_contents row and keep their body inline
+    private static final String FIND_BODY_SQL = """
+            SELECT c.body, p.body AS legacy_body, p.content AS legacy_content
+            FROM pages p LEFT JOIN page_contents c ON c.id = p.content_id
+            WHERE p.id = ? AND p.guide_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PageContentCodec contentCodec;
+
+    public Optional<PageBody> findBufferedBody(UUID guideId, UUID pageId) {
+        return jdbcTemplate.query(FIND_BODY_SQL, (rs, rowNum) -> {
+            byte[] stored = rs.getBytes("body");
+            if (stored == null) {
+                stored = rs.getBytes("legacy_body");
+            }
+            if (stored != null) {
+                return new PageBody(pageId, contentCodec.open(stored));
+            }
+            String legacyContent = rs.getString("legacy_content");
+            return legacyContent != null
+                    ? new PageBody(pageId, new ByteArrayInputStream(legacyContent.getBytes(StandardCharsets.UTF_8)))
+                    : null;
+        }, pageId, guideId).stream().filter(Objects::nonNull).findFirst();
+    }
+}
@@ -1,11 +1,16 @@
 package com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories;
 
 import com.levelupjourney.learningservice.guides.domain.model.entities.GuideLike;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideLikeCountRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -21,6 +26,45 @@ public interface GuideLikeRepository extends JpaRepository<GuideLike, UUID> {
     
     long countByGuideId(UUID guideId);
     
-    @Query("SELECT gl.guide.id FROM GuideLike gl WHERE gl.guide.id IN :guideIds AND gl.userId = :userId")
-    Set<UUID> findGuideIdsLikedByUser(@Param("guideIds") Set<UUID> guideIds, @Param("userId") String userId);
+    /**
+     * Inserts the like only when the guide exists and the user has not liked it yet.
+     * @return 1 when a like was inserted, 0 when the guide is missing or already liked
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO guide_likes (id, guide_id, user_id, created_at, updated_at, version)
+            SELECT :id, g.id, :userId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+            FROM guides g
+            WHERE g.id = :guideId
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("guideId") UUID guideId, @Param("userId") String userId);
+    
+    /**
+     * @return number of likes removed (0 or 1)
+     */
+    @Modifying
+    @Query("DELETE FROM GuideLike gl WHERE gl.guide.id = :guideId AND gl.userId = :userId")
+    int deleteLike(@Param("guideId") UUID guideId, @Param("userId") String userId);
+    
+    /**
+     * Actual likes per guide for one reconciliation chunk; guides without likes are absent.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideLikeCountRow(
+                gl.guide.id, COUNT(gl))
+            FROM GuideLike gl
+            WHERE gl.guide.id IN :guideIds
+            GROUP BY gl.guide.id
+            """)
+    List<GuideLikeCountRow> countByGuideIds(@Param("guideIds") Collection<UUID> guideIds);
+    
+    @Query("SELECT DISTINCT gl.guide.id FROM GuideLike gl WHERE gl.createdAt >= :since")
+    Set<UUID> findGuideIdsLikedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT DISTINCT gl.guide.id FROM GuideLike gl WHERE gl.guide.id IN :guideIds AND gl.createdAt >= :since")
+    Set<UUID> findGuideIdsLikedSinceIn(@Param("guideIds") Collection<UUID> guideIds, @Param("since") LocalDateTime since);
+    
+    @Query("SELECT gl.guide.id FROM GuideLike gl WHERE gl.userId = :userId")
+    Set<UUID> findGuideIdsByUserId(@Param("userId") String userId);
 }
@@ -1,14 +1,26 @@
 package com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideAuthorRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideLikeCountRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideTopicRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -23,46 +35,228 @@ public interface GuideRepository extends JpaRepository<Guide, UUID> {
     @Query("SELECT COUNT(g) > 0 FROM Guide g WHERE g.id = :id AND :userId MEMBER OF g.authorIds")
     boolean existsByIdAndAuthorIdsContaining(@Param("id") UUID id, @Param("userId") String userId);
     
-    @Query("SELECT DISTINCT g FROM Guide g LEFT JOIN FETCH g.topics LEFT JOIN FETCH g.pages")
-    Page<Guide> findAllWithDetails(Pageable pageable);
+    /**
+     * Guide row plus author IDs, for authorization checks and simple field updates.
+     */
+    @EntityGraph("Guide.header")
+    Optional<Guide> findHeaderById(UUID id);
     
-    @Query("SELECT DISTINCT g FROM Guide g LEFT JOIN FETCH g.topics LEFT JOIN FETCH g.pages WHERE g.status = :status")
-    Page<Guide> findByStatusWithDetails(@Param("status") EntityStatus status, Pageable pageable);
+    @EntityGraph("Guide.withTopics")
+    Optional<Guide> findWithTopicsById(UUID id);
     
-    @Query("SELECT g FROM Guide g LEFT JOIN FETCH g.topics LEFT JOIN FETCH g.pages WHERE g.id = :id")
-    Optional<Guide> findByIdWithDetails(@Param("id") UUID id);
+    @EntityGraph("Guide.withChallenges")
+    Optional<Guide> findWithChallengesById(UUID id);
+    
+    /**
+     * Guide with author IDs and ordered pages, for the detail view and page management.
+     */
+    @EntityGraph("Guide.withPages")
+    Optional<Guide> findWithPagesById(UUID id);
     
     Optional<Guide> findByCourseId(UUID courseId);
     
+    /**
+     * Keyset chunk of stored likes counts ordered by guide ID, used by the likes reconciliation walk.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideLikeCountRow(
+                g.id, CAST(COALESCE(g.likesCount, 0) AS Long))
+            FROM Guide g
+            WHERE (:afterId IS NULL OR g.id > :afterId)
+            ORDER BY g.id
+            """)
+    List<GuideLikeCountRow> findStoredLikeCountsAfter(@Param("afterId") UUID afterId, Limit limit);
+    
+    /**
+     * IDs of non-deleted guides in ID order, for walking the table in chunks (catalog index build).
+     */
+    @Query("""
+            SELECT g.id FROM Guide g
+            WHERE g.status <> com.levelupjourney.learningservice.shared.domain.model.EntityStatus.DELETED
+            AND (:afterId IS NULL OR g.id > :afterId)
+            ORDER BY g.id
+            """)
+    List<UUID> findIndexableIdsAfter(@Param("afterId") UUID afterId, Limit limit);
+    
+    @Query("SELECT g.id FROM Guide g WHERE g.id IN :ids AND g.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") EntityStatus status);
+    
+    /**
+     * Guides with authors and topics (both sets, so one joined select), for the catalog index.
+     */
+    @EntityGraph(attributePaths = {"authorIds", "topics"})
+    List<Guide> findWithAuthorsAndTopicsByIdIn(Collection<UUID> ids);
+    
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideLikeCountRow(
+                g.id, CAST(COALESCE(g.likesCount, 0) AS Long))
+            FROM Guide g
+            WHERE g.id IN :ids
+            ORDER BY g.id
+            """)
+    List<GuideLikeCountRow> findStoredLikeCountsByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT g.likesCount FROM Guide g WHERE g.id = :id")
+    Optional<Integer> findLikesCountById(@Param("id") UUID id);
+    
+    /**
+     * Relative counter update executed in the database, so concurrent likes neither
+     * read-modify-write the row nor bump the optimistic lock version.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Guide g SET g.likesCount = COALESCE(g.likesCount, 0) + 1 WHERE g.id = :id")
+    int incrementLikesCount(@Param("id") UUID id);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Guide g
+            SET g.likesCount = CASE WHEN COALESCE(g.likesCount, 0) > 0 THEN g.likesCount - 1 ELSE 0 END
+            WHERE g.id = :id
+            """)
+    int decrementLikesCount(@Param("id") UUID id);
+    
+    /**
+     * Pages counter updates for single page inserts and deletes, executed in the database like the likes
+     * counter. Neither bumps the guide's version: page validators use the pages count and page versions.
+     * The increment also takes the guide's row lock, serializing page inserts and moves per guide.
+     * @return rows updated; 0 when the guide does not exist
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Guide g SET g.pagesCount = COALESCE(g.pagesCount, 0) + 1 WHERE g.id = :id")
+    int incrementPagesCount(@Param("id") UUID id);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Guide g
+            SET g.pagesCount = CASE WHEN COALESCE(g.pagesCount, 0) > 0 THEN g.pagesCount - 1 ELSE 0 END
+            WHERE g.id = :id
+            """)
+    int decrementPagesCount(@Param("id") UUID id);
+    
+    /**
+     * Keyset page of guide IDs ordered by (createdAt DESC, id DESC).
+     * Only IDs are selected so the database can page on the index without touching collections.
+     */
+    @Query("""
+            SELECT g.id FROM Guide g
+            WHERE (:status IS NULL OR g.status = :status)
+            AND (:cursorCreatedAt IS NULL
+                 OR g.createdAt < :cursorCreatedAt
+                 OR (g.createdAt = :cursorCreatedAt AND g.id < :cursorId))
+            ORDER BY g.createdAt DESC, g.id DESC
+            """)
+    List<UUID> findPageIdsByStatus(
+            @Param("status") EntityStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
+    );
+    
     @Query("""
-            SELECT DISTINCT g FROM Guide g
-            LEFT JOIN FETCH g.topics
-            LEFT JOIN FETCH g.pages
+            SELECT g.id FROM Guide g
             WHERE (:status IS NULL OR g.status = :status)
-            AND (:authorId IS NULL OR :authorId MEMBER OF g.authorIds)
+            AND :authorId MEMBER OF g.authorIds
+            AND (:cursorCreatedAt IS NULL
+                 OR g.createdAt < :cursorCreatedAt
+                 OR (g.createdAt = :cursorCreatedAt AND g.id < :cursorId))
+            ORDER BY g.createdAt DESC, g.id DESC
             """)
-    Page<Guide> findByStatusAndAuthorId(
+    List<UUID> findPageIdsByAuthor(
             @Param("status") EntityStatus status,
             @Param("authorId") String authorId,
-            Pageable pageable
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
     );
     
+    /**
+     * Summary columns for a page of guides; results come back unordered, callers restore the order of the ID list.
+     * Author IDs and topics are loaded with {@link #findAuthorRowsByGuideIds} and {@link #findTopicRowsByGuideIds}.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary(
+                g.id, g.title, g.description, g.coverImage, g.status, g.likesCount, g.pagesCount, g.createdAt, g.updatedAt)
+            FROM Guide g
+            WHERE g.id IN :ids
+            """)
+    List<GuideSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Validators for conditional GETs: one row of versions and aggregates, no collections loaded.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion(
+                g.id, g.status, g.version, g.updatedAt, g.likesCount,
+                (SELECT COUNT(p) FROM Page p WHERE p.guide.id = g.id),
+                (SELECT COALESCE(SUM(p.version), 0L) FROM Page p WHERE p.guide.id = g.id),
+                (SELECT MAX(p.updatedAt) FROM Page p WHERE p.guide.id = g.id),
+                (SELECT MAX(t.updatedAt) FROM Guide tg JOIN tg.topics t WHERE tg.id = g.id))
+            FROM Guide g
+            WHERE g.id = :id
+            """)
+    Optional<GuideVersion> findVersionById(@Param("id") UUID id);
+    
     @Query("""
-            SELECT DISTINCT g FROM Guide g
-            LEFT JOIN g.topics t
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideAuthorRow(g.id, a)
+            FROM Guide g JOIN g.authorIds a
+            WHERE g.id IN :ids
+            """)
+    List<GuideAuthorRow> findAuthorRowsByGuideIds(@Param("ids") Collection<UUID> ids);
+    
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.GuideTopicRow(g.id, t.id, t.name)
+            FROM Guide g JOIN g.topics t
+            WHERE g.id IN :ids
+            ORDER BY t.name
+            """)
+    List<GuideTopicRow> findTopicRowsByGuideIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * FROM and WHERE clauses shared by the search filter queries below.
+     * Topic filtering uses EXISTS so no DISTINCT over joined rows is needed.
+     */
+    String SEARCH_FILTERS = """
+            FROM Guide g
             WHERE g.status = com.levelupjourney.learningservice.shared.domain.model.EntityStatus.PUBLISHED
             AND (:title IS NULL OR LOWER(g.title) LIKE LOWER(CONCAT('%', :title, '%')))
             AND (:minLikesCount IS NULL OR g.likesCount >= :minLikesCount)
             AND (COALESCE(:authorIds, NULL) IS NULL OR EXISTS (
                 SELECT 1 FROM g.authorIds a WHERE a IN :authorIds
             ))
-            AND (COALESCE(:topicIds, NULL) IS NULL OR t.id IN :topicIds)
-            """)
-    Page<Guide> searchGuidesByFilters(
+            AND (COALESCE(:topicIds, NULL) IS NULL OR EXISTS (
+                SELECT 1 FROM g.topics t WHERE t.id IN :topicIds
+            ))
+            """;
+    
+    /**
+     * Page of IDs of published guides matching the search filters, with its total.
+     */
+    @Query("SELECT g.id " + SEARCH_FILTERS)
+    Page<UUID> searchGuideIdsByFilters(
             @Param("title") String title,
             @Param("authorIds") Set<String> authorIds,
             @Param("minLikesCount") Integer minLikesCount,
             @Param("topicIds") Set<UUID> topicIds,
             Pageable pageable
     );
+    
+    /**
+     * Same as {@link #searchGuideIdsByFilters} without the count query; reads one row past the page for hasNext.
+     */
+    @Query("SELECT g.id " + SEARCH_FILTERS)
+    Slice<UUID> sliceGuideIdsByFilters(
+            @Param("title") String title,
+            @Param("authorIds") Set<String> authorIds,
+            @Param("minLikesCount") Integer minLikesCount,
+            @Param("topicIds") Set<UUID> topicIds,
+            Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(g) " + SEARCH_FILTERS)
+    long countGuideIdsByFilters(
+            @Param("title") String title,
+            @Param("authorIds") Set<String> authorIds,
+            @Param("minLikesCount") Integer minLikesCount,
+            @Param("topicIds") Set<UUID> topicIds
+    );
 }
@@ -0,0 +1,14 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.learningservice.guides.domain.model.entities.GuideTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Read side of the trending snapshot; snapshots are written in one JDBC batch by the tracker
+ */
+@Repository
+public interface GuideTrendingScoreRepository extends JpaRepository<GuideTrendingScore, UUID> {
+}
@@ -0,0 +1,22 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.learningservice.guides.domain.model.entities.PageContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PageContentRepository extends JpaRepository<PageContent, UUID> {
+    
+    /**
+     * Deletes a body row without loading it. Flushes first, so a page pointing at it has already
+     * been deleted or moved to its new body.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PageContent c WHERE c.id = :id")
+    int deleteContentById(@Param("id") UUID id);
+}
@@ -1,10 +1,17 @@
 package com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageContentRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageSequenceRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,12 +19,76 @@ import java.util.UUID;
 @Repository
 public interface PageRepository extends JpaRepository<Page, UUID> {
     
-    List<Page> findByGuideIdOrderByOrderNumberAsc(UUID guideId);
+    /**
+     * Page metadata in order; bodies stay unloaded.
+     */
+    List<Page> findByGuideIdOrderBySortKeyAsc(UUID guideId);
     
-    Optional<Page> findByGuideIdAndOrderNumber(UUID guideId, Integer orderNumber);
+    /**
+     * Pages in order with their bodies, in one statement.
+     */
+    @EntityGraph(attributePaths = "body")
+    List<Page> findWithBodyByGuideIdOrderBySortKeyAsc(UUID guideId);
     
-    @Query("SELECT p FROM Page p WHERE p.guide.id = :guideId ORDER BY p.orderNumber ASC")
+    /**
+     * Deletes a page row without cascading to (and loading) its body.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Page p WHERE p.id = :id")
+    int deletePageById(@Param("id") UUID id);
+    
+    @Query("SELECT p FROM Page p WHERE p.guide.id = :guideId ORDER BY p.sortKey ASC")
     List<Page> findPagesByGuideId(UUID guideId);
     
-    boolean existsByGuideIdAndOrderNumber(UUID guideId, Integer orderNumber);
+    /**
+     * Guide of a page, read without loading the page
+     */
+    @Query("SELECT p.guide.id FROM Page p WHERE p.id = :pageId")
+    Optional<UUID> findGuideIdById(@Param("pageId") UUID pageId);
+    
+    /**
+     * Page IDs of the given guides, grouped by guide and in key order, for numbering positions in memory.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.PageSequenceRow(p.id, p.guide.id)
+            FROM Page p
+            WHERE p.guide.id IN :guideIds
+            ORDER BY p.guide.id, p.sortKey
+            """)
+    List<PageSequenceRow> findSequenceByGuideIdIn(@Param("guideIds") Collection<UUID> guideIds);
+    
+    /**
+     * IDs of pages of published guides in ID order, for walking the table in chunks (content index build).
+     */
+    @Query("""
+            SELECT p.id FROM Page p
+            WHERE p.guide.status = com.levelupjourney.learningservice.shared.domain.model.EntityStatus.PUBLISHED
+            AND (:afterId IS NULL OR p.id > :afterId)
+            ORDER BY p.id
+            """)
+    List<UUID> findIndexableIdsAfter(@Param("afterId") UUID afterId, Limit limit);
+    
+    /**
+     * Bodies of the given pages that belong to published guides.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.PageContentRow(
+                p.id, p.guide.id, p.sortKey, b.content, p.legacyBody, p.legacyContent)
+            FROM Page p LEFT JOIN p.body b
+            WHERE p.id IN :ids
+            AND p.guide.status = com.levelupjourney.learningservice.shared.domain.model.EntityStatus.PUBLISHED
+            """)
+    List<PageContentRow> findPublishedContentRowsByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Bodies of every page of the given guides that are published.
+     */
+    @Query("""
+            SELECT new com.levelupjourney.learningservice.guides.domain.model.projections.PageContentRow(
+                p.id, p.guide.id, p.sortKey, b.content, p.legacyBody, p.legacyContent)
+            FROM Page p LEFT JOIN p.body b
+            WHERE p.guide.id IN :guideIds
+            AND p.guide.status = com.levelupjourney.learningservice.shared.domain.model.EntityStatus.PUBLISHED
+            """)
+    List<PageContentRow> findPublishedContentRowsByGuideIdIn(@Param("guideIds") Collection<UUID> guideIds);
 }
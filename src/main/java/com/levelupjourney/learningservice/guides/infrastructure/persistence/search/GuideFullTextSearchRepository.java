@@ -0,0 +1,185 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.search;
+
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.search.FullTextSearchSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Full-text search over published guides using the search_vector GIN index.
+ * Only used when {@link FullTextSearchSupport#isAvailable()}; the LIKE query in
+ * GuideRepository covers every other database. Typo-tolerant matching uses the
+ * pg_trgm indexes when {@link FullTextSearchSupport#isTrigramAvailable()}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GuideFullTextSearchRepository {
+
+    public static final String RELEVANCE = "relevance";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "title", "g.title",
+            "likesCount", "g.likes_count",
+            "pagesCount", "g.pages_count",
+            "createdAt", "g.created_at",
+            "updatedAt", "g.updated_at"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Page of guide IDs whose title or description match the tsquery, with the same optional
+     * filters as the LIKE search. Unsorted pages are ordered by relevance.
+     */
+    public Page<UUID> searchIds(String tsQuery, Set<String> authorIds, Integer minLikesCount,
+                                Set<UUID> topicIds, Pageable pageable) {
+        var params = new MapSqlParameterSource("tsQuery", tsQuery);
+        String from = searchFrom(params, authorIds, minLikesCount, topicIds);
+        return page(from, orderBy(pageable.getSort()), params, pageable);
+    }
+
+    /**
+     * Same as {@link #searchIds} without the count query; reads one row past the page for hasNext.
+     */
+    public Slice<UUID> searchIdSlice(String tsQuery, Set<String> authorIds, Integer minLikesCount,
+                                     Set<UUID> topicIds, Pageable pageable) {
+        var params = new MapSqlParameterSource("tsQuery", tsQuery);
+        String from = searchFrom(params, authorIds, minLikesCount, topicIds);
+        return slice(from, orderBy(pageable.getSort()), params, pageable);
+    }
+
+    public long countIds(String tsQuery, Set<String> authorIds, Integer minLikesCount, Set<UUID> topicIds) {
+        var params = new MapSqlParameterSource("tsQuery", tsQuery);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) " + searchFrom(params, authorIds, minLikesCount, topicIds), params, Long.class);
+        return total != null ? total : 0;
+    }
+
+    /**
+     * Page of published guide IDs whose title, or one of whose topic names, contains a word
+     * similar to the text (pg_trgm word similarity at or above the threshold), most similar first.
+     * Both candidate sets come from the trigram GIN indexes; must run inside a transaction because
+     * the threshold is set for the current transaction only.
+     */
+    public Page<UUID> fuzzySearchIds(String text, double threshold, Set<String> authorIds,
+                                     Integer minLikesCount, Set<UUID> topicIds, Pageable pageable) {
+        jdbcTemplate.queryForObject(
+                "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)",
+                new MapSqlParameterSource("threshold", String.valueOf(threshold)),
+                String.class);
+
+        var params = new MapSqlParameterSource("text", text);
+        String searchText = FullTextSearchSupport.trigramText(":text");
+        String title = FullTextSearchSupport.trigramText("g.title");
+        String topicName = FullTextSearchSupport.trigramText("tp.name");
+        var from = new StringBuilder("""
+                FROM guides g
+                WHERE g.status = 'PUBLISHED'
+                AND g.id IN (
+                    SELECT g2.id FROM guides g2 WHERE %1$s <%% %2$s
+                    UNION
+                    SELECT gt.guide_id FROM guide_topics gt JOIN topics tp ON tp.id = gt.topic_id
+                    WHERE %1$s <%% %3$s
+                )
+                """.formatted(searchText, FullTextSearchSupport.trigramText("g2.title"), topicName));
+        appendFilters(from, params, authorIds, minLikesCount, topicIds);
+
+        String similarity = """
+                GREATEST(word_similarity(%1$s, %2$s), COALESCE((
+                    SELECT MAX(word_similarity(%1$s, %3$s))
+                    FROM guide_topics gt JOIN topics tp ON tp.id = gt.topic_id
+                    WHERE gt.guide_id = g.id), 0))
+                """.formatted(searchText, title, topicName);
+        return page(from.toString(), similarity + " DESC, g.likes_count DESC, g.id", params, pageable);
+    }
+
+    private static String searchFrom(MapSqlParameterSource params, Set<String> authorIds,
+                                     Integer minLikesCount, Set<UUID> topicIds) {
+        var from = new StringBuilder("""
+                FROM guides g, %s q
+                WHERE g.status = 'PUBLISHED'
+                AND g.search_vector @@ q
+                """.formatted(FullTextSearchSupport.TS_QUERY_SQL));
+        appendFilters(from, params, authorIds, minLikesCount, topicIds);
+        return from.toString();
+    }
+
+    private static void appendFilters(StringBuilder from, MapSqlParameterSource params, Set<String> authorIds,
+                                      Integer minLikesCount, Set<UUID> topicIds) {
+        if (minLikesCount != null) {
+            from.append("AND g.likes_count >= :minLikesCount\n");
+            params.addValue("minLikesCount", minLikesCount);
+        }
+        if (authorIds != null && !authorIds.isEmpty()) {
+            from.append("AND EXISTS (SELECT 1 FROM guide_authors a WHERE a.guide_id = g.id AND a.author_id IN (:authorIds))\n");
+            params.addValue("authorIds", authorIds);
+        }
+        if (topicIds != null && !topicIds.isEmpty()) {
+            from.append("AND EXISTS (SELECT 1 FROM guide_topics t WHERE t.guide_id = g.id AND t.topic_id IN (:topicIds))\n");
+            params.addValue("topicIds", topicIds);
+        }
+    }
+
+    private Page<UUID> page(String from, String orderBy, MapSqlParameterSource params, Pageable pageable) {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + from, params, Long.class);
+        if (total == null || total == 0 || pageable.isPaged() && pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total == null ? 0 : total);
+        }
+
+        String sql = "SELECT g.id " + from + "ORDER BY " + orderBy;
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limit OFFSET :offset";
+            params.addValue("limit", pageable.getPageSize());
+            params.addValue("offset", pageable.getOffset());
+        }
+        List<UUID> ids = jdbcTemplate.queryForList(sql, params, UUID.class);
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    private Slice<UUID> slice(String from, String orderBy, MapSqlParameterSource params, Pageable pageable) {
+        String sql = "SELECT g.id " + from + "ORDER BY " + orderBy;
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(jdbcTemplate.queryForList(sql, params, UUID.class), pageable, false);
+        }
+        params.addValue("limit", pageable.getPageSize() + 1);
+        params.addValue("offset", pageable.getOffset());
+        List<UUID> ids = jdbcTemplate.queryForList(sql + " LIMIT :limit OFFSET :offset", params, UUID.class);
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? ids.subList(0, pageable.getPageSize()) : ids, pageable, hasNext);
+    }
+
+    private String orderBy(Sort sort) {
+        List<String> clauses = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (RELEVANCE.equals(order.getProperty())) {
+                clauses.add("ts_rank(g.search_vector, q) DESC");
+                continue;
+            }
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            clauses.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        if (clauses.isEmpty()) {
+            clauses.add("ts_rank(g.search_vector, q) DESC");
+        }
+        // Deterministic paging for equal ranks
+        clauses.add("g.created_at DESC");
+        clauses.add("g.id");
+        return String.join(", ", clauses);
+    }
+}
@@ -0,0 +1,70 @@
+package com.levelupjourney.learningservice.guides.interfaces.actuator;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeReconciliationJob;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Actuator endpoint for the likes reconciliation job.
+ * GET /actuator/likesreconciliation returns progress, drift statistics and the last failure;
+ * POST with {"mode": "FULL"} or {"mode": "INCREMENTAL"} starts a run on the application task
+ * executor and answers 202. A POST while a run is in progress is rejected with 409.
+ */
+@Component
+@Endpoint(id = "likesreconciliation")
+public class LikesReconciliationEndpoint {
+
+    private final GuideLikeReconciliationJob reconciliationJob;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean triggered = new AtomicBoolean();
+
+    public LikesReconciliationEndpoint(
+            GuideLikeReconciliationJob reconciliationJob,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.reconciliationJob = reconciliationJob;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @ReadOperation
+    public GuideLikeReconciliationJob.Status status() {
+        return reconciliationJob.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<GuideLikeReconciliationJob.Status> run(@Nullable String mode) {
+        if (reconciliationJob.isRunning() || !triggered.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(reconciliationJob.status(), HttpStatus.CONFLICT.value());
+        }
+        boolean full = "FULL".equalsIgnoreCase(mode);
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    if (full) {
+                        reconciliationJob.runFull();
+                    } else {
+                        reconciliationJob.runIncremental();
+                    }
+                } catch (RuntimeException e) {
+                    // Already logged and reported as lastFailure by the job
+                } finally {
+                    triggered.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            triggered.set(false);
+            return new WebEndpointResponse<>(reconciliationJob.status(), WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return new WebEndpointResponse<>(reconciliationJob.status(), HttpStatus.ACCEPTED.value());
+    }
+}
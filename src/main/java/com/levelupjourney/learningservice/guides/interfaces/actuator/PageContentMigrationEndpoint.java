@@ -0,0 +1,64 @@
+package com.levelupjourney.learningservice.guides.interfaces.actuator;
+
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentMigration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Actuator endpoint for the one-off move of inline page bodies into page_contents.
+ * GET /actuator/pagecontentmigration returns the pages still inline and the last run;
+ * POST starts a run on the application task executor and answers 202. A POST while a run
+ * is in progress is rejected with 409.
+ */
+@Component
+@Endpoint(id = "pagecontentmigration")
+public class PageContentMigrationEndpoint {
+
+    private final PageContentMigration migration;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean triggered = new AtomicBoolean();
+
+    public PageContentMigrationEndpoint(
+            PageContentMigration migration,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.migration = migration;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @ReadOperation
+    public PageContentMigration.Status status() {
+        return migration.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<PageContentMigration.Status> run() {
+        if (migration.isRunning() || !triggered.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(migration.status(), HttpStatus.CONFLICT.value());
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    migration.run();
+                } catch (RuntimeException e) {
+                    // Already logged and reported as lastFailure by the migration
+                } finally {
+                    triggered.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            triggered.set(false);
+            return new WebEndpointResponse<>(migration.status(), WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return new WebEndpointResponse<>(migration.status(), HttpStatus.ACCEPTED.value());
+    }
+}
@@ -1,20 +1,40 @@
 package com.levelupjourney.learningservice.guides.interfaces.rest;
 
 import com.levelupjourney.learningservice.guides.domain.model.commands.*;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion;
 import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideByIdQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideSearchFacetsQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideVersionQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuidesPageQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPageBodyQuery;
 import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
-import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetTrendingGuidesQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.SearchGuidesSliceQuery;
+import com.levelupjourney.learningservice.guides.domain.model.valueobjects.TrendingWindow;
 import com.levelupjourney.learningservice.guides.domain.services.GuideCommandService;
 import com.levelupjourney.learningservice.guides.domain.services.GuideQueryService;
 import com.levelupjourney.learningservice.guides.domain.services.PageCommandService;
 import com.levelupjourney.learningservice.guides.domain.services.PageQueryService;
+import com.levelupjourney.learningservice.guides.interfaces.rest.cache.GuideDetailCache;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.*;
 import com.levelupjourney.learningservice.guides.interfaces.rest.transform.GuideResourceAssembler;
 import com.levelupjourney.learningservice.guides.interfaces.rest.transform.PageResourceAssembler;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSpellingCorrectionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchPageContentQuery;
+import com.levelupjourney.learningservice.search.domain.services.PageContentSearchQueryService;
+import com.levelupjourney.learningservice.search.domain.services.SuggestionQueryService;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.FacetedPageResource;
+import com.levelupjourney.learningservice.search.interfaces.rest.transform.SearchFacetsResourceAssembler;
+import com.levelupjourney.learningservice.shared.domain.model.CursorPage;
 import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.domain.model.KeysetCursor;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.InvalidSearchCriteriaException;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
+import com.levelupjourney.learningservice.shared.infrastructure.web.EntityTags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,15 +43,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -43,18 +70,24 @@ import java.util.stream.Collectors;
 @Tag(name = "Guides", description = "Learning guides management")
 public class GuidesController {
 
+    private static final String DID_YOU_MEAN_HEADER = "X-Did-You-Mean";
+    private static final String MARKDOWN_UTF8 = "text/markdown;charset=UTF-8";
+
     private final GuideCommandService guideCommandService;
     private final GuideQueryService guideQueryService;
     private final PageCommandService pageCommandService;
     private final PageQueryService pageQueryService;
     private final SecurityContextHelper securityHelper;
+    private final GuideDetailCache guideDetailCache;
+    private final SuggestionQueryService suggestionQueryService;
+    private final PageContentSearchQueryService pageContentSearchQueryService;
     private final com.levelupjourney.learningservice.guides.application.internal.queryservices.GuideLikeQueryService guideLikeQueryService;
 
     @GetMapping
     @Operation(
-            summary = "Get all guides with optional filters",
+            summary = "Get all guides",
             description = """
-                    Retrieve guides with optional filtering.
+                    Retrieve guides ordered from newest to oldest using cursor pagination.
                     
                     **Authorization Rules:**
                     - **Students (ROLE_STUDENT)**: Only see PUBLISHED guides
@@ -64,34 +97,29 @@ public class GuidesController {
                     
                     **Parameters:**
                     - `for=dashboard`: Special parameter for teachers to see their own guides
-                    - `title`, `topicIds`, `authorIds`: Optional filters
-                    - Standard pagination: page, size, sort
+                    - `cursor`: Opaque cursor returned as `nextCursor` by the previous page (omit for the first page)
+                    - `size`: Page size (defaults to the configured page size)
                     
                     **Examples:**
                     - Public view: `/api/v1/guides`
                     - Teacher dashboard: `/api/v1/guides?for=dashboard`
-                    - Filtered search: `/api/v1/guides?title=Java&page=0&size=20`
+                    - Next page: `/api/v1/guides?cursor={nextCursor}&size=20`
                     """
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Guides retrieved successfully (paginated)",
-                    content = @Content(schema = @Schema(implementation = Page.class)))
+            @ApiResponse(responseCode = "200", description = "Guides retrieved successfully (cursor paginated)",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
-    public ResponseEntity<Page<GuideResource>> getAllGuides(
+    public ResponseEntity<CursorPage<GuideResource>> getAllGuides(
             @Parameter(description = "Special filter: 'dashboard' for teachers to see their own guides")
             @RequestParam(name = "for", required = false) String forParam,
 
-            @Parameter(description = "Filter by title (partial match, case-insensitive)")
-            @RequestParam(required = false) String title,
-
-            @Parameter(description = "Filter by topic IDs (comma-separated UUIDs)")
-            @RequestParam(required = false) Set<UUID> topicIds,
-
-            @Parameter(description = "Filter by author IDs (comma-separated)")
-            @RequestParam(required = false) Set<String> authorIds,
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
 
-            @Parameter(description = "Pagination parameters (page, size, sort)")
-            Pageable pageable
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
         // Default: Everyone sees only PUBLISHED guides
         EntityStatus statusFilter = EntityStatus.PUBLISHED;
@@ -110,42 +138,11 @@ public class GuidesController {
         }
         // CASE 2: Anyone else (students, teachers without for=dashboard, unauthenticated)
         // -> Show ONLY PUBLISHED guides
-        // This includes:
-        // - Students (even if they try for=dashboard, it's ignored)
-        // - Teachers without for=dashboard
-        // - Unauthenticated users
-        
-        // Build query - ignore other filters for now if it's dashboard
-        SearchGuidesQuery query;
-        if (userIdFilter != null) {
-            // Dashboard: only filter by userId
-            query = new SearchGuidesQuery(null, null, null, statusFilter, userIdFilter, pageable);
-        } else {
-            // Public: filter by status (PUBLISHED)
-            query = new SearchGuidesQuery(title, topicIds, authorIds, statusFilter, null, pageable);
-        }
         
+        var query = new GetGuidesPageQuery(statusFilter, userIdFilter, KeysetCursor.decode(cursor), size);
         var guides = guideQueryService.handle(query);
 
-        // Get current user ID if authenticated
-        String currentUserId = securityHelper.isAuthenticated() ? securityHelper.getCurrentUserId() : null;
-        
-        // Get all guide IDs
-        var guideIds = guides.stream().map(com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide::getId)
-                .collect(java.util.stream.Collectors.toSet());
-        
-        // Get liked guides by user
-        var likedGuideIds = guideLikeQueryService.getGuidesLikedByUser(guideIds, currentUserId);
-
-        var resources = guides.map(guide ->
-                GuideResourceAssembler.toResourceFromEntity(
-                        guide, 
-                        likedGuideIds.contains(guide.getId()), 
-                        false
-                )
-        );
-
-        return ResponseEntity.ok(resources);
+        return ResponseEntity.ok(toGuideResourcePage(guides));
     }
 
     @GetMapping("/search")
@@ -156,7 +153,7 @@ public class GuidesController {
                     Returns only PUBLISHED guides with basic information (id, title, description, coverImage).
                     
                     **Available Filters (all optional):**
-                    - `title`: Partial match search (case-insensitive)
+                    - `title`: Full-text match on title and description (case- and accent-insensitive, prefix matching per word)
                     - `authorIds`: Filter by one or more author IDs (comma-separated)
                     - `likesCount`: Minimum number of likes required
                     - `topicIds`: Filter by one or more topic IDs (comma-separated UUIDs)
@@ -172,6 +169,21 @@ public class GuidesController {
                     **Pagination:**
                     - Use `page`, `size`, and `sort` query parameters
                     - Example: `/api/v1/guides/search?title=Java&page=0&size=20&sort=likesCount,desc`
+                    - `sort=relevance` ranks the best title/description matches first
+                    
+                    **Totals:** by default every page counts all matches. With `total` the response is
+                    `{content, page, size, hasNext, total}` instead and skips that count: `total=NONE` only
+                    reports `hasNext`, `total=APPROXIMATE` returns a count cached per filter combination
+                    (refreshed in the background) and `total=EXACT` counts on every request. `total.exact`
+                    tells whether the number is exact; the last page always carries the exact total.
+                    
+                    **Facets:** `facets=true` adds a `facets` block with the number of matching guides per
+                    topic ID, status and likes range, counted in memory over all matches (not just this page).
+                    The block is omitted while the catalog index is disabled or building. Not combinable with `total`.
+                    
+                    **Typos:** when `title` matches nothing, guides with similar titles or topic names are
+                    returned instead, most similar first, and the `X-Did-You-Mean` header carries the
+                    closest known spelling of the text.
                     
                     **Note:** At least one filter parameter must be provided.
                     """
@@ -182,7 +194,7 @@ public class GuidesController {
             @ApiResponse(responseCode = "400", description = "Invalid search criteria - at least one filter must be provided",
                     content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
-    public ResponseEntity<Page<com.levelupjourney.learningservice.guides.interfaces.rest.resources.GuideSearchResource>> searchGuidesByFilters(
+    public ResponseEntity<?> searchGuidesByFilters(
             @Parameter(description = "Filter by title (partial match, case-insensitive)", example = "Java Programming")
             @RequestParam(required = false) String title,
             @Parameter(description = "Filter by author IDs (comma-separated)", example = "author123,author456")
@@ -191,6 +203,10 @@ public class GuidesController {
             @RequestParam(required = false) Integer likesCount,
             @Parameter(description = "Filter by topic IDs (comma-separated UUIDs)", example = "550e8400-e29b-41d4-a716-446655440000")
             @RequestParam(required = false) Set<UUID> topicIds,
+            @Parameter(description = "Include facet counts for all matches", example = "true")
+            @RequestParam(defaultValue = "false") boolean facets,
+            @Parameter(description = "Skip the per-page count: NONE, APPROXIMATE or EXACT", example = "APPROXIMATE")
+            @RequestParam(required = false) TotalCountMode total,
             @Parameter(description = "Pagination parameters (page, size, sort)")
             Pageable pageable
     ) {
@@ -210,13 +226,94 @@ public class GuidesController {
             );
         }
 
+        if (total != null && facets) {
+            throw new InvalidSearchCriteriaException("facets cannot be combined with total");
+        }
+
+        var response = ResponseEntity.ok();
+        if (query.hasText()) {
+            suggestionQueryService.handle(new GetSpellingCorrectionsQuery(title, 1)).stream()
+                    .findFirst()
+                    .ifPresent(correction -> response.header(DID_YOU_MEAN_HEADER, correction.text()));
+        }
+
+        if (total != null) {
+            OffsetPage<GuideSearchResource> slice = guideQueryService
+                    .handle(new SearchGuidesSliceQuery(query, total))
+                    .map(GuideResourceAssembler::toSearchResourceFromSummary);
+            return response.body(slice);
+        }
+
         // Execute the query
         var guides = guideQueryService.handle(query);
 
         // Map to search resources
-        var resources = guides.map(GuideResourceAssembler::toSearchResourceFromEntity);
+        Page<GuideSearchResource> resources = guides.map(GuideResourceAssembler::toSearchResourceFromSummary);
+        if (facets) {
+            var facetCounts = guideQueryService.handle(new GetGuideSearchFacetsQuery(query));
+            if (facetCounts.isPresent()) {
+                resources = new FacetedPageResource<>(resources,
+                        SearchFacetsResourceAssembler.toResourceFromValueObject(facetCounts.get()));
+            }
+        }
+        return response.body(resources);
+    }
 
-        return ResponseEntity.ok(resources);
+    @GetMapping("/search/content")
+    @Operation(
+            summary = "Search inside page content",
+            description = """
+                    Finds pages of PUBLISHED guides whose content contains every word of `q`
+                    (case- and accent-insensitive, prefix matching per word), best matches first.
+                    Each result carries the guide ID, page ID, page order and an HTML-escaped snippet
+                    with the matched words wrapped in `<mark>` tags.
+                    
+                    **Example:** `/api/v1/guides/search/content?q=transactional&page=0&size=20`
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching pages retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "Empty search text",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<Page<PageContentMatchResource>> searchPageContent(
+            @Parameter(description = "Words to find in page content", example = "@Transactional")
+            @RequestParam String q,
+            @Parameter(description = "Pagination parameters (page, size)")
+            Pageable pageable
+    ) {
+        var matches = pageContentSearchQueryService.handle(new SearchPageContentQuery(q, pageable));
+        return ResponseEntity.ok(matches.map(PageResourceAssembler::toResourceFromContentMatch));
+    }
+
+    @GetMapping("/trending")
+    @Operation(
+            summary = "Get trending guides",
+            description = """
+                    Returns the top PUBLISHED guides by a time-decayed score built from likes and pages read.
+                    `window` selects how fast activity fades: DAY (6h half-life), WEEK (42h half-life)
+                    or ALL_TIME (no decay). The leaderboard is served from memory and refreshed every few
+                    seconds, so very recent activity may not be reflected yet.
+                    
+                    **Example:** `/api/v1/guides/trending?window=WEEK&limit=10`
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trending guides retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid window or limit",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<List<TrendingGuideResource>> getTrendingGuides(
+            @Parameter(description = "Time window: DAY, WEEK or ALL_TIME", example = "WEEK")
+            @RequestParam(defaultValue = "WEEK") TrendingWindow window,
+            @Parameter(description = "Number of guides to return (capped by the configured maximum)", example = "10")
+            @RequestParam(required = false) Integer limit
+    ) {
+        var trending = guideQueryService.handle(new GetTrendingGuidesQuery(window, limit));
+        return ResponseEntity.ok(trending.stream()
+                .map(GuideResourceAssembler::toResourceFromTrending)
+                .toList());
     }
 
     @GetMapping("/teachers/{teacherId}")
@@ -231,42 +328,27 @@ public class GuidesController {
                     
                     **Use Case:** Public view of a teacher's published content portfolio
                     
-                    Example: `/api/v1/guides/teachers/teacher123?page=0&size=20&sort=createdAt,desc`
+                    Example: `/api/v1/guides/teachers/teacher123?size=20&cursor={nextCursor}`
                     """
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Teacher's published guides retrieved successfully (paginated)",
-                    content = @Content(schema = @Schema(implementation = Page.class)))
+            @ApiResponse(responseCode = "200", description = "Teacher's published guides retrieved successfully (cursor paginated)",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
-    public ResponseEntity<Page<GuideResource>> getGuidesByTeacherId(
+    public ResponseEntity<CursorPage<GuideResource>> getGuidesByTeacherId(
             @Parameter(description = "Teacher ID", required = true)
             @PathVariable String teacherId,
-            @Parameter(description = "Pagination parameters (page, size, sort)")
-            Pageable pageable
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(required = false) Integer size
     ) {
         // Only show PUBLISHED guides (public portfolio)
-        var query = new SearchGuidesQuery(null, null, Set.of(teacherId), EntityStatus.PUBLISHED, null, pageable);
+        var query = new GetGuidesPageQuery(EntityStatus.PUBLISHED, teacherId, KeysetCursor.decode(cursor), size);
         var guides = guideQueryService.handle(query);
 
-        // Get current user ID if authenticated
-        String currentUserId = securityHelper.isAuthenticated() ? securityHelper.getCurrentUserId() : null;
-        
-        // Get all guide IDs
-        var guideIds = guides.stream().map(com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide::getId)
-                .collect(java.util.stream.Collectors.toSet());
-        
-        // Get liked guides by user
-        var likedGuideIds = guideLikeQueryService.getGuidesLikedByUser(guideIds, currentUserId);
-
-        var resources = guides.map(guide -> 
-                GuideResourceAssembler.toResourceFromEntity(
-                        guide, 
-                        likedGuideIds.contains(guide.getId()), 
-                        false
-                )
-        );
-
-        return ResponseEntity.ok(resources);
+        return ResponseEntity.ok(toGuideResourcePage(guides));
     }
 
     @GetMapping("/{guideId}")
@@ -281,43 +363,81 @@ public class GuidesController {
                     - **Unauthenticated users**: Can only view PUBLISHED guides
                     
                     Returns 404 if guide doesn't exist or user doesn't have permission to view it.
+                    
+                    PUBLISHED guides carry an `ETag`; send `If-None-Match` to get 304 when unchanged.
+                    The body depends on the requester, so it is sent `Cache-Control: private` with
+                    `Vary: Authorization`.
                     """
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Guide found",
                     content = @Content(schema = @Schema(implementation = GuideResource.class))),
+            @ApiResponse(responseCode = "304", description = "Guide not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Guide not found or not accessible")
     })
     public ResponseEntity<GuideResource> getGuideById(
             @Parameter(description = "Guide UUID", required = true)
-            @PathVariable UUID guideId
+            @PathVariable UUID guideId,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
-        var guide = guideQueryService.handle(new GetGuideByIdQuery(guideId))
-                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+        String currentUserId = securityHelper.isAuthenticated() ? securityHelper.getCurrentUserId() : null;
+        boolean hasLiked = guideLikeQueryService.hasUserLikedGuide(guideId, currentUserId);
+        // likedByRequester makes the body and ETag per user: shared caches must neither store it nor
+        // serve it to another token. Set on the response itself so a 304 carries them too
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.empty().cachePrivate().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
 
-        // Authorization check
-        if (guide.getStatus() == EntityStatus.PUBLISHED) {
-            // PUBLISHED guides: anyone can view (just needs authentication)
-            // No additional checks needed
-        } else {
-            // DRAFT or other statuses: only authors can view
-            if (!securityHelper.isAuthenticated()) {
-                throw new ResourceNotFoundException("Guide not found");
+        // Conditional GET from version columns only; DRAFT guides are author-only and get no validators
+        var version = findPublishedVersion(guideId);
+        // Read once, so a flush between the ETag and the body cannot make them disagree
+        Integer likesCount = version != null
+                ? guideLikeQueryService.getLikesCount(guideId, version.likesCount())
+                : null;
+        if (version != null) {
+            String eTag = EntityTags.strong("guide", guideId, version.version(), version.pagesCount(),
+                    version.pagesVersionSum(), version.pagesUpdatedAt(), version.topicsUpdatedAt(),
+                    likesCount, hasLiked);
+            // No Last-Modified: likes and likedByRequester have no timestamp, so a date-only
+            // revalidation could answer 304 over a changed body
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
             }
-            
-            String currentUserId = securityHelper.getCurrentUserId();
-            boolean isAuthor = currentUserId != null && guide.isAuthor(currentUserId);
-            
-            if (!isAuthor) {
-                throw new ResourceNotFoundException("Guide not found");
+        }
+
+        // PUBLISHED guides are served from the detail cache, keyed on the version row the ETag came
+        // from so the body matches it. That row already ruled out missing and DRAFT guides, so those
+        // skip the cache and are loaded once, uncached, for the author-only rules below; the loader
+        // only misses if the status changed in between
+        var detail = version != null ? guideDetailCache.get(version, this::loadPublishedDetail) : null;
+
+        if (detail == null) {
+            var guide = guideQueryService.handle(new GetGuideByIdQuery(guideId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+
+            // Authorization check
+            if (guide.getStatus() != EntityStatus.PUBLISHED) {
+                // DRAFT or other statuses: only authors can view
+                if (!securityHelper.isAuthenticated()) {
+                    throw new ResourceNotFoundException("Guide not found");
+                }
+
+                boolean isAuthor = currentUserId != null && guide.isAuthor(currentUserId);
+
+                if (!isAuthor) {
+                    throw new ResourceNotFoundException("Guide not found");
+                }
             }
+            detail = GuideResourceAssembler.toResourceFromEntity(guide, false, true);
         }
 
-        // Check if current user has liked this guide
-        String currentUserId = securityHelper.isAuthenticated() ? securityHelper.getCurrentUserId() : null;
-        boolean hasLiked = guideLikeQueryService.hasUserLikedGuide(guideId, currentUserId);
+        // Cached entries never supply likes: the count read for the ETag is overlaid so the body
+        // matches it, and likes do not have to evict the cache
+        if (likesCount == null) {
+            likesCount = guideLikeQueryService.getLikesCount(guideId, detail.likesCount());
+        }
 
-        var resource = GuideResourceAssembler.toResourceFromEntity(guide, hasLiked, true);
+        var resource = GuideResourceAssembler.withRequesterState(detail, likesCount, hasLiked);
         return ResponseEntity.ok(resource);
     }
 
@@ -502,40 +622,57 @@ public class GuidesController {
                     - **Unauthenticated users**: Can only view pages of PUBLISHED guides
                     
                     Pages are returned sorted by `order` field.
+                    With `includeContent=false` only page metadata is returned (`content` is null) and
+                    page bodies are not read from the database.
                     Returns 404 if guide not found or user doesn't have permission to view it.
+                    
+                    PUBLISHED guides carry `ETag` and `Last-Modified`; send `If-None-Match` to get 304 when unchanged.
                     """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pages retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Pages not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Guide not found or not accessible")
     })
     public ResponseEntity<List<PageResource>> getGuidePages(
             @io.swagger.v3.oas.annotations.Parameter(description = "Guide UUID", required = true)
-            @PathVariable UUID guideId
+            @PathVariable UUID guideId,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Include page bodies")
+            @RequestParam(defaultValue = "true") boolean includeContent,
+            WebRequest webRequest
     ) {
-        // First, verify guide access using the same logic as getGuideById
-        var guide = guideQueryService.handle(new GetGuideByIdQuery(guideId))
-                .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
-
-        // Authorization check
-        if (guide.getStatus() == EntityStatus.PUBLISHED) {
-            // PUBLISHED guides: anyone can view pages
-        } else {
-            // DRAFT or other statuses: only authors can view
-            if (!securityHelper.isAuthenticated()) {
-                throw new ResourceNotFoundException("Guide not found");
+        // PUBLISHED guides are visible to anyone, so the version row is enough to authorize
+        var version = findPublishedVersion(guideId);
+        if (version != null) {
+            // Listings with and without bodies are different representations
+            String eTag = EntityTags.strong("guide-pages", guideId, includeContent, version.pagesCount(),
+                    version.pagesVersionSum(), version.pagesUpdatedAt());
+            if (webRequest.checkNotModified(eTag, EntityTags.lastModified(version.pagesUpdatedAt()))) {
+                return null;
             }
-            
-            String currentUserId = securityHelper.getCurrentUserId();
-            boolean isAuthor = currentUserId != null && guide.isAuthor(currentUserId);
-            
-            if (!isAuthor) {
-                throw new ResourceNotFoundException("Guide not found");
+        } else {
+            // First, verify guide access using the same logic as getGuideById
+            var guide = guideQueryService.handle(new GetGuideByIdQuery(guideId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Guide not found"));
+
+            // Authorization check
+            if (guide.getStatus() != EntityStatus.PUBLISHED) {
+                // DRAFT or other statuses: only authors can view
+                if (!securityHelper.isAuthenticated()) {
+                    throw new ResourceNotFoundException("Guide not found");
+                }
+
+                String currentUserId = securityHelper.getCurrentUserId();
+                boolean isAuthor = currentUserId != null && guide.isAuthor(currentUserId);
+
+                if (!isAuthor) {
+                    throw new ResourceNotFoundException("Guide not found");
+                }
             }
         }
 
-        var pages = pageQueryService.handle(new GetPagesByGuideIdQuery(guideId));
+        var pages = pageQueryService.handle(new GetPagesByGuideIdQuery(guideId, includeContent));
         var resources = pages.stream()
-                .map(PageResourceAssembler::toResourceFromEntity)
+                .map(page -> PageResourceAssembler.toResourceFromEntity(page, includeContent))
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(resources);
@@ -598,6 +735,40 @@ public class GuidesController {
         return ResponseEntity.ok(resource);
     }
 
+    @GetMapping(value = "/{guideId}/pages/{pageId}/content", produces = MARKDOWN_UTF8)
+    @Operation(
+            summary = "Get page content as Markdown",
+            description = """
+                    Writes the body of a page as text, decompressed while it is copied to the response.
+                    The stored (usually compressed) body is read into memory in full; the decoded text
+                    is not, which keeps long pages lighter than the JSON page resource.
+                    
+                    Same visibility rules as the page details: pages of PUBLISHED guides are public,
+                    other pages are only visible to the guide's authors.
+                    """)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page content"),
+            @ApiResponse(responseCode = "404", description = "Page not found or guide not accessible")
+    })
+    public ResponseEntity<StreamingResponseBody> getPageContent(
+            @io.swagger.v3.oas.annotations.Parameter(description = "Guide UUID", required = true)
+            @PathVariable UUID guideId,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page UUID", required = true)
+            @PathVariable UUID pageId
+    ) {
+        var body = pageQueryService.handle(new GetPageBodyQuery(guideId, pageId))
+                .orElseThrow(() -> new ResourceNotFoundException("Page not found"));
+
+        StreamingResponseBody stream = out -> {
+            try (InputStream content = body.content()) {
+                content.transferTo(out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MARKDOWN_UTF8))
+                .body(stream);
+    }
+
     @PostMapping("/{guideId}/pages")
     @PreAuthorize("isAuthenticated()")
     @Operation(
@@ -605,8 +776,8 @@ public class GuidesController {
             description = """
                     Adds a new page to the guide.
                     - Only guide authors or ADMIN can create pages
-                    - `order` field determines page sequence (1-based)
-                    - Each page must have unique order within guide
+                    - `order` field is the position the page is inserted at (1-based)
+                    - Pages at and after that position move one place down; an order past the end appends
                     - `content` contains the learning material (Markdown/HTML supported)
                     - pagesCount is automatically updated on guide
                     """,
@@ -618,8 +789,7 @@ public class GuidesController {
             @ApiResponse(responseCode = "400", description = "Invalid input or validation error"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - no valid JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - user is not an author or admin"),
-            @ApiResponse(responseCode = "404", description = "Guide not found"),
-            @ApiResponse(responseCode = "409", description = "Page with same order already exists")
+            @ApiResponse(responseCode = "404", description = "Guide not found")
     })
     public ResponseEntity<PageResource> createPage(
             @Parameter(description = "Guide UUID", required = true)
@@ -635,6 +805,41 @@ public class GuidesController {
         return new ResponseEntity<>(pageResource, HttpStatus.CREATED);
     }
 
+    @PutMapping("/{guideId}/pages")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(
+            summary = "Replace all pages of a guide",
+            description = """
+                    Saves the complete page list of a guide in one request and one transaction.
+                    - Only guide authors or ADMIN can edit pages
+                    - `pages` is the full list in reading order; order numbers are assigned from the position (1-based)
+                    - Entries with `id` keep that page (content updated when `content` is given), entries without `id` create a page
+                    - Pages of the guide missing from the list are deleted
+                    - pagesCount is updated once; returns the resulting pages in order
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pages saved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, duplicate page IDs or too many pages"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - no valid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - user is not an author or admin"),
+            @ApiResponse(responseCode = "404", description = "Guide not found, or a page ID that does not belong to it")
+    })
+    public ResponseEntity<List<PageResource>> replacePages(
+            @Parameter(description = "Guide UUID", required = true)
+            @PathVariable UUID guideId,
+            @Parameter(description = "Ordered page list", required = true)
+            @Valid @RequestBody ReplacePagesResource resource
+    ) {
+        var command = PageResourceAssembler.toCommandFromResource(guideId, resource);
+        var resources = pageCommandService.handle(command).stream()
+                .map(PageResourceAssembler::toResourceFromEntity)
+                .toList();
+
+        return ResponseEntity.ok(resources);
+    }
+
     @PutMapping("/{guideId}/pages/{pageId}")
     @PreAuthorize("isAuthenticated()")
     @Operation(
@@ -643,8 +848,8 @@ public class GuidesController {
                     Updates page title, content, or order.
                     - Only guide authors or ADMIN can update pages
                     - Content field accepts Markdown or HTML
-                    - Updating order must maintain uniqueness within guide
-                    - Changes to order automatically reorder other pages
+                    - Updating order moves the page to that position (1-based); an order past the end moves it last
+                    - Other pages shift around it; only the moved page is written
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
@@ -654,8 +859,7 @@ public class GuidesController {
             @ApiResponse(responseCode = "400", description = "Invalid input or validation error"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - no valid JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - user is not an author or admin"),
-            @ApiResponse(responseCode = "404", description = "Page or guide not found"),
-            @ApiResponse(responseCode = "409", description = "Page order conflict")
+            @ApiResponse(responseCode = "404", description = "Page or guide not found")
     })
     public ResponseEntity<PageResource> updatePage(
             @io.swagger.v3.oas.annotations.Parameter(description = "Guide UUID", required = true)
@@ -682,7 +886,7 @@ public class GuidesController {
                     - Only guide authors or ADMIN can delete pages
                     - Page is soft deleted (marked as deleted, data preserved)
                     - Guide's pagesCount is automatically decremented
-                    - Page order gaps are preserved (not auto-reordered)
+                    - Following pages move up one position; no other page is rewritten
                     - Learning progress entries for this page remain intact
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
@@ -828,4 +1032,35 @@ public class GuidesController {
 
     // ==================== HELPER METHODS ====================
 
+    /**
+     * Version row of a PUBLISHED guide, or null when the guide is missing or not published
+     */
+    private GuideVersion findPublishedVersion(UUID guideId) {
+        return guideQueryService.handle(new GetGuideVersionQuery(guideId))
+                .filter(found -> found.status() == EntityStatus.PUBLISHED)
+                .orElse(null);
+    }
+
+    /**
+     * Loader for the detail cache: returns null for missing or non-PUBLISHED guides so they are never cached
+     */
+    private GuideResource loadPublishedDetail(UUID guideId) {
+        return guideQueryService.handle(new GetGuideByIdQuery(guideId))
+                .filter(guide -> guide.getStatus() == EntityStatus.PUBLISHED)
+                .map(guide -> GuideResourceAssembler.toResourceFromEntity(guide, false, true))
+                .orElse(null);
+    }
+
+    private CursorPage<GuideResource> toGuideResourcePage(CursorPage<GuideSummary> guides) {
+        // Get current user ID if authenticated
+        String currentUserId = securityHelper.isAuthenticated() ? securityHelper.getCurrentUserId() : null;
+
+        // Get liked guides by user for this page only
+        var guideIds = guides.content().stream().map(GuideSummary::id).collect(Collectors.toSet());
+        var likedGuideIds = guideLikeQueryService.getGuidesLikedByUser(guideIds, currentUserId);
+
+        return guides.map(guide ->
+                GuideResourceAssembler.toResourceFromSummary(guide, likedGuideIds.contains(guide.id()))
+        );
+    }
 }
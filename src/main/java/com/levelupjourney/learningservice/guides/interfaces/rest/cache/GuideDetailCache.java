@@ -0,0 +1,91 @@
+package com.levelupjourney.learningservice.guides.interfaces.rest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.GuideResource;
+import com.levelupjourney.learningservice.topics.domain.model.events.TopicChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of assembled guide detail resources (with pages) for PUBLISHED guides.
+ * Entries hold no requester-specific data and their likes count is never served: callers overlay
+ * likedByRequester and the current likes count per request, so likes count changes
+ * ({@code GuideLikesCountChangedEvent}) do not evict entries of popular guides.
+ * <p>
+ * Entries are keyed on the same version row the guide ETag is built from, so a change made through
+ * another instance, or a topic rename, misses the cache instead of serving the old body under the
+ * new ETag. Events only free the memory early: guide changes evict immediately and again after the
+ * publishing transaction commits, topic changes evict every guide that carries the topic.
+ */
+@Component
+public class GuideDetailCache {
+
+    private record Key(
+            UUID guideId,
+            Long version,
+            Long pagesCount,
+            Long pagesVersionSum,
+            LocalDateTime pagesUpdatedAt,
+            LocalDateTime topicsUpdatedAt
+    ) {
+    }
+
+    private final Cache<Key, GuideResource> details;
+
+    public GuideDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${application.guides.detail-cache.max-size:1000}") long maxSize,
+            @Value("${application.guides.detail-cache.ttl:10m}") Duration ttl
+    ) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "guides.detail");
+    }
+
+    /**
+     * Returns the detail cached for this version of the guide or computes it with the loader.
+     * The loader returns null for guides that must not be cached (missing or not PUBLISHED);
+     * in that case nothing is stored and null is returned.
+     */
+    public GuideResource get(GuideVersion version, Function<UUID, GuideResource> loader) {
+        var key = new Key(version.id(), version.version(), version.pagesCount(), version.pagesVersionSum(),
+                version.pagesUpdatedAt(), version.topicsUpdatedAt());
+        return details.get(key, found -> loader.apply(found.guideId()));
+    }
+
+    public void evict(UUID guideId) {
+        details.asMap().keySet().removeIf(key -> key.guideId().equals(guideId));
+    }
+
+    @EventListener
+    public void onGuideChanged(GuideChangedEvent event) {
+        evict(event.guideId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGuideChangeCommitted(GuideChangedEvent event) {
+        evict(event.guideId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicChanged(TopicChangedEvent event) {
+        details.asMap().entrySet().removeIf(entry -> entry.getValue().topics() != null
+                && entry.getValue().topics().stream().anyMatch(topic -> topic.id().equals(event.topicId())));
+    }
+}
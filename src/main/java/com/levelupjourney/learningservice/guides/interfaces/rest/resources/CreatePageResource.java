@@ -11,7 +11,7 @@ public record CreatePageResource(
         @NotBlank(message = "Content is required")
         String content,
         
-        @Schema(description = "Page order number", required = true)
+        @Schema(description = "Position to insert the page at (1-based)", required = true)
         @NotNull(message = "Order is required")
         Integer orderNumber
 ) {
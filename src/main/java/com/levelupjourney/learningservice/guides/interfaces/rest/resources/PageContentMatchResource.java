@@ -0,0 +1,22 @@
+package com.levelupjourney.learningservice.guides.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Page whose content matches a search, with a highlighted excerpt")
+public record PageContentMatchResource(
+        @Schema(description = "Unique identifier of the guide", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID guideId,
+        
+        @Schema(description = "Unique identifier of the page", example = "660e8400-e29b-41d4-a716-446655440000")
+        UUID pageId,
+        
+        @Schema(description = "Position of the page within the guide", example = "3")
+        Integer orderNumber,
+        
+        @Schema(description = "HTML-escaped excerpt around the match, matched words wrapped in <mark> tags",
+                example = "…methods annotated with <mark>@Transactional</mark> run inside…")
+        String snippet
+) {
+}
@@ -10,7 +10,7 @@ public record PageResource(
         @Schema(description = "Page ID")
         UUID id,
         
-        @Schema(description = "Page content in Markdown")
+        @Schema(description = "Page content in Markdown; null when listed with includeContent=false")
         String content,
         
         @Schema(description = "Page order number")
@@ -0,0 +1,25 @@
+package com.levelupjourney.learningservice.guides.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Complete, ordered page list of a guide")
+public record ReplacePagesResource(
+        @Schema(description = "Pages in reading order; order numbers are assigned from the position", required = true)
+        @NotNull(message = "Pages are required")
+        List<@Valid @NotNull PageDraftResource> pages
+) {
+    @Schema(description = "One page of the list")
+    public record PageDraftResource(
+            @Schema(description = "ID of an existing page to keep; omit to create a page")
+            UUID id,
+
+            @Schema(description = "Page content in Markdown; required for new pages, omit to keep the current content")
+            String content
+    ) {
+    }
+}
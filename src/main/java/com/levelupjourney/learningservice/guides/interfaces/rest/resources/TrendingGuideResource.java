@@ -0,0 +1,37 @@
+package com.levelupjourney.learningservice.guides.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Guide on the trending leaderboard")
+public record TrendingGuideResource(
+        @Schema(description = "Position on the leaderboard, starting at 1", example = "1")
+        int rank,
+        
+        @Schema(description = "Time-decayed score built from likes and page reads", example = "42.7")
+        double score,
+        
+        @Schema(description = "Unique identifier of the guide", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+        
+        @Schema(description = "Guide title", example = "Introduction to Java Programming")
+        String title,
+        
+        @Schema(description = "Guide description", example = "A comprehensive guide to learn Java from scratch")
+        String description,
+        
+        @Schema(description = "Cover image URL", example = "https://example.com/images/java-guide.jpg")
+        String coverImage,
+        
+        @Schema(description = "Number of likes", example = "128")
+        Integer likesCount,
+        
+        @Schema(description = "Number of pages", example = "12")
+        Integer pagesCount,
+        
+        @Schema(description = "Topics of the guide")
+        List<TopicSummaryResource> topics
+) {
+}
@@ -8,7 +8,7 @@ public record UpdatePageResource(
         @Schema(description = "Page content in Markdown")
         String content,
         
-        @Schema(description = "Page order number")
+        @Schema(description = "Position to move the page to (1-based)")
         @Min(value = 1, message = "Order must be positive (starting from 1)")
         Integer orderNumber
 ) {
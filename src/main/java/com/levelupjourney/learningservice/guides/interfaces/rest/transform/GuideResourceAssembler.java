@@ -1,12 +1,16 @@
 package com.levelupjourney.learningservice.guides.interfaces.rest.transform;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
 import com.levelupjourney.learningservice.guides.domain.model.commands.CreateGuideCommand;
 import com.levelupjourney.learningservice.guides.domain.model.commands.UpdateGuideCommand;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideSummary;
+import com.levelupjourney.learningservice.guides.domain.model.projections.TrendingGuide;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.CreateGuideResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.GuideResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.GuideSearchResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.TopicSummaryResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.TrendingGuideResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.UpdateGuideResource;
 
 import java.util.UUID;
@@ -35,20 +39,25 @@ public class GuideResourceAssembler {
     }
 
     public static GuideResource toResourceFromEntity(Guide entity, boolean likedByRequester, boolean includePages) {
+        return toResourceFromEntity(entity, entity.getLikesCount(), likedByRequester, includePages);
+    }
+
+    public static GuideResource toResourceFromEntity(Guide entity, Integer likesCount, boolean likedByRequester,
+                                                     boolean includePages) {
         return new GuideResource(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDescription(),
                 entity.getCoverImage(),
                 entity.getStatus().name(),
-                entity.getLikesCount(),
+                likesCount,
                 likedByRequester,
                 entity.getPagesCount(),
                 entity.getAuthorIds(),
                 entity.getTopics().stream()
                         .map(topic -> new TopicSummaryResource(topic.getId(), topic.getName()))
                         .collect(Collectors.toList()),
-                includePages ? entity.getPages().stream()
+                includePages ? Page.numberInOrder(entity.getPages()).stream()
                         .map(PageResourceAssembler::toResourceFromEntity)
                         .collect(Collectors.toList()) : null,
                 entity.getRelatedChallenges(),
@@ -57,12 +66,75 @@ public class GuideResourceAssembler {
         );
     }
 
-    public static GuideSearchResource toSearchResourceFromEntity(Guide entity) {
+    /**
+     * Copy of a shared (cached) detail resource with the current likes count and the requester's liked flag
+     */
+    public static GuideResource withRequesterState(GuideResource resource, Integer likesCount, boolean likedByRequester) {
+        return new GuideResource(
+                resource.id(),
+                resource.title(),
+                resource.description(),
+                resource.coverImage(),
+                resource.status(),
+                likesCount,
+                likedByRequester,
+                resource.pagesCount(),
+                resource.authorIds(),
+                resource.topics(),
+                resource.pages(),
+                resource.relatedChallenges(),
+                resource.createdAt(),
+                resource.updatedAt()
+        );
+    }
+
+    /**
+     * List representation built from the summary read model; pages and related challenges are not included
+     */
+    public static GuideResource toResourceFromSummary(GuideSummary summary, boolean likedByRequester) {
+        return new GuideResource(
+                summary.id(),
+                summary.title(),
+                summary.description(),
+                summary.coverImage(),
+                summary.status().name(),
+                summary.likesCount(),
+                likedByRequester,
+                summary.pagesCount(),
+                summary.authorIds(),
+                summary.topics().stream()
+                        .map(topic -> new TopicSummaryResource(topic.id(), topic.name()))
+                        .collect(Collectors.toList()),
+                null,
+                null,
+                summary.createdAt(),
+                summary.updatedAt()
+        );
+    }
+
+    public static GuideSearchResource toSearchResourceFromSummary(GuideSummary summary) {
         return new GuideSearchResource(
-                entity.getId(),
-                entity.getTitle(),
-                entity.getDescription(),
-                entity.getCoverImage()
+                summary.id(),
+                summary.title(),
+                summary.description(),
+                summary.coverImage()
+        );
+    }
+
+    public static TrendingGuideResource toResourceFromTrending(TrendingGuide trending) {
+        GuideSummary summary = trending.guide();
+        return new TrendingGuideResource(
+                trending.rank(),
+                trending.score(),
+                summary.id(),
+                summary.title(),
+                summary.description(),
+                summary.coverImage(),
+                summary.likesCount(),
+                summary.pagesCount(),
+                summary.topics().stream()
+                        .map(topic -> new TopicSummaryResource(topic.id(), topic.name()))
+                        .collect(Collectors.toList())
         );
     }
 }
@@ -2,10 +2,14 @@ package com.levelupjourney.learningservice.guides.interfaces.rest.transform;
 
 import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
 import com.levelupjourney.learningservice.guides.domain.model.commands.CreatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.ReplaceGuidePagesCommand;
 import com.levelupjourney.learningservice.guides.domain.model.commands.UpdatePageCommand;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.CreatePageResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.PageContentMatchResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.PageResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.ReplacePagesResource;
 import com.levelupjourney.learningservice.guides.interfaces.rest.resources.UpdatePageResource;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.ContentMatch;
 
 import java.util.UUID;
 
@@ -27,13 +31,38 @@ public class PageResourceAssembler {
         );
     }
 
+    public static ReplaceGuidePagesCommand toCommandFromResource(UUID guideId, ReplacePagesResource resource) {
+        return new ReplaceGuidePagesCommand(
+                guideId,
+                resource.pages().stream()
+                        .map(page -> new ReplaceGuidePagesCommand.PageDraft(page.id(), page.content()))
+                        .toList()
+        );
+    }
+
     public static PageResource toResourceFromEntity(Page entity) {
+        return toResourceFromEntity(entity, true);
+    }
+
+    /**
+     * @param includeContent false leaves content null, without loading the page body
+     */
+    public static PageResource toResourceFromEntity(Page entity, boolean includeContent) {
         return new PageResource(
                 entity.getId(),
-                entity.getContent(),
+                includeContent ? entity.getContent() : null,
                 entity.getOrderNumber(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
     }
+
+    public static PageContentMatchResource toResourceFromContentMatch(ContentMatch match) {
+        return new PageContentMatchResource(
+                match.guideId(),
+                match.pageId(),
+                match.orderNumber(),
+                match.snippet()
+        );
+    }
 }
@@ -8,6 +8,7 @@ import com.levelupjourney.learningservice.learningprogress.domain.model.aggregat
 import com.levelupjourney.learningservice.learningprogress.domain.model.commands.CompleteProgressCommand;
 import com.levelupjourney.learningservice.learningprogress.domain.model.commands.StartLearningCommand;
 import com.levelupjourney.learningservice.learningprogress.domain.model.commands.UpdateProgressCommand;
+import com.levelupjourney.learningservice.learningprogress.domain.model.events.LearningProgressRecordedEvent;
 import com.levelupjourney.learningservice.learningprogress.domain.model.valueobjects.LearningEntityType;
 import com.levelupjourney.learningservice.learningprogress.domain.services.LearningProgressCommandService;
 import com.levelupjourney.learningservice.learningprogress.infrastructure.persistence.jpa.repositories.LearningProgressRepository;
@@ -15,6 +16,7 @@ import com.levelupjourney.learningservice.shared.infrastructure.exception.Confli
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.UnauthorizedException;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,16 +29,19 @@ public class LearningProgressCommandServiceImpl implements LearningProgressComma
     private final GuideRepository guideRepository;
     private final CourseRepository courseRepository;
     private final SecurityContextHelper securityHelper;
+    private final ApplicationEventPublisher eventPublisher;
     
     public LearningProgressCommandServiceImpl(
             LearningProgressRepository progressRepository,
             GuideRepository guideRepository,
             CourseRepository courseRepository,
-            SecurityContextHelper securityHelper) {
+            SecurityContextHelper securityHelper,
+            ApplicationEventPublisher eventPublisher) {
         this.progressRepository = progressRepository;
         this.guideRepository = guideRepository;
         this.courseRepository = courseRepository;
         this.securityHelper = securityHelper;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -81,7 +86,9 @@ public class LearningProgressCommandServiceImpl implements LearningProgressComma
             throw new UnauthorizedException("You can only update your own learning progress");
         }
         
+        int previouslyReached = progress.getHighestCompletedItems();
         progress.updateProgress(command.completedItems(), command.readingTimeSeconds());
+        publishProgressRecorded(progress, previouslyReached);
         return progressRepository.save(progress);
     }
     
@@ -97,10 +104,21 @@ public class LearningProgressCommandServiceImpl implements LearningProgressComma
             throw new UnauthorizedException("You can only complete your own learning progress");
         }
         
+        int previouslyReached = progress.getHighestCompletedItems();
         progress.complete();
+        publishProgressRecorded(progress, previouslyReached);
         return progressRepository.save(progress);
     }
     
+    // Only items completed for the first time count, so moving progress back and forth earns nothing
+    private void publishProgressRecorded(LearningProgress progress, int previouslyReached) {
+        int itemsCompleted = progress.getHighestCompletedItems() - previouslyReached;
+        if (itemsCompleted > 0) {
+            eventPublisher.publishEvent(new LearningProgressRecordedEvent(
+                    progress.getEntityType(), progress.getEntityId(), itemsCompleted));
+        }
+    }
+    
     private int getTotalItems(LearningEntityType entityType, UUID entityId) {
         if (entityType == LearningEntityType.GUIDE) {
             Guide guide = guideRepository.findById(entityId)
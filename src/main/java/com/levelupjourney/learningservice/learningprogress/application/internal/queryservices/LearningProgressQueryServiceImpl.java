@@ -2,11 +2,18 @@ package com.levelupjourney.learningservice.learningprogress.application.internal
 
 import com.levelupjourney.learningservice.learningprogress.domain.model.aggregates.LearningProgress;
 import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetProgressQuery;
+import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetUserProgressPageQuery;
 import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetUserProgressQuery;
 import com.levelupjourney.learningservice.learningprogress.domain.services.LearningProgressQueryService;
 import com.levelupjourney.learningservice.learningprogress.infrastructure.persistence.jpa.repositories.LearningProgressRepository;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.UnauthorizedException;
+import com.levelupjourney.learningservice.shared.infrastructure.persistence.count.ApproximateCountCache;
 import com.levelupjourney.learningservice.shared.infrastructure.security.SecurityContextHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,14 +23,26 @@ import java.util.Optional;
 @Service
 public class LearningProgressQueryServiceImpl implements LearningProgressQueryService {
     
+    // Most recently started first; id keeps pages stable when rows share a timestamp
+    private static final Sort RECENT_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    
     private final LearningProgressRepository progressRepository;
     private final SecurityContextHelper securityHelper;
+    private final ApproximateCountCache approximateCountCache;
+    
+    @Value("${application.pagination.default-page-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${application.pagination.max-page-size:100}")
+    private int maxPageSize;
     
     public LearningProgressQueryServiceImpl(
             LearningProgressRepository progressRepository,
-            SecurityContextHelper securityHelper) {
+            SecurityContextHelper securityHelper,
+            ApproximateCountCache approximateCountCache) {
         this.progressRepository = progressRepository;
         this.securityHelper = securityHelper;
+        this.approximateCountCache = approximateCountCache;
     }
     
     @Override
@@ -53,4 +72,23 @@ public class LearningProgressQueryServiceImpl implements LearningProgressQuerySe
         
         return progressRepository.findByUserId(query.userId());
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public OffsetPage<LearningProgress> handle(GetUserProgressPageQuery query) {
+        // Users can only view their own progress unless admin
+        String currentUserId = securityHelper.getCurrentUserId();
+        if (!query.userId().equals(currentUserId) && !securityHelper.isAdmin()) {
+            throw new UnauthorizedException("You can only view your own learning progress");
+        }
+        
+        PageRequest pageRequest = PageRequest.of(
+                query.page() != null ? query.page() : 0,
+                query.size() != null ? Math.min(query.size(), maxPageSize) : defaultPageSize,
+                RECENT_FIRST);
+        Slice<LearningProgress> slice = progressRepository.findSliceByUserId(query.userId(), pageRequest);
+        String userId = query.userId();
+        return OffsetPage.of(slice, approximateCountCache.total(query.total(), slice,
+                "progress.user|" + userId, () -> progressRepository.countByUserId(userId)));
+    }
 }
@@ -45,6 +45,10 @@ public class LearningProgress extends AuditableModel {
     @Column(name = "completed_items")
     private Integer completedItems = 0;
     
+    // Most items ever completed; completedItems can go back down, this never does
+    @Column(name = "highest_completed_items")
+    private Integer highestCompletedItems = 0;
+    
     @Column(name = "total_reading_time_seconds")
     private Long totalReadingTimeSeconds = 0L;
     
@@ -66,6 +70,7 @@ public class LearningProgress extends AuditableModel {
         this.status = ProgressStatus.NOT_STARTED;
         this.progressPercentage = 0;
         this.completedItems = 0;
+        this.highestCompletedItems = 0;
         this.totalReadingTimeSeconds = 0L;
     }
     
@@ -81,6 +86,7 @@ public class LearningProgress extends AuditableModel {
             throw new IllegalArgumentException("Invalid completed items count");
         }
         
+        this.highestCompletedItems = Math.max(getHighestCompletedItems(), completedItems);
         this.completedItems = completedItems;
         this.totalReadingTimeSeconds += readingTimeSeconds;
         this.progressPercentage = this.totalItems > 0 
@@ -100,9 +106,17 @@ public class LearningProgress extends AuditableModel {
         this.status = ProgressStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
         this.progressPercentage = 100;
+        this.highestCompletedItems = Math.max(getHighestCompletedItems(), this.totalItems);
         this.completedItems = this.totalItems;
     }
     
+    /**
+     * Most items ever completed; rows written before this was tracked fall back to the current count
+     */
+    public int getHighestCompletedItems() {
+        return highestCompletedItems != null ? highestCompletedItems : completedItems;
+    }
+    
     public boolean isCompleted() {
         return this.status == ProgressStatus.COMPLETED;
     }
@@ -0,0 +1,13 @@
+package com.levelupjourney.learningservice.learningprogress.domain.model.events;
+
+import com.levelupjourney.learningservice.learningprogress.domain.model.valueobjects.LearningEntityType;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published when a learner completes more items of a guide or course.
+ * itemsCompleted is the number of items (pages for guides) completed for the first time, never the running total:
+ * going back to fewer items and forward again publishes nothing.
+ */
+public record LearningProgressRecordedEvent(LearningEntityType entityType, UUID entityId, int itemsCompleted) {
+}
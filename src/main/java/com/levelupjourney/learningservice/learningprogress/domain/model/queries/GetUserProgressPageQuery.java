@@ -0,0 +1,26 @@
+package com.levelupjourney.learningservice.learningprogress.domain.model.queries;
+
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
+
+/**
+ * One page of a user's learning progress, most recently started first.
+ * page defaults to 0 and size to the configured default page size; total defaults to NONE.
+ */
+public record GetUserProgressPageQuery(
+        String userId,
+        Integer page,
+        Integer size,
+        TotalCountMode total
+) {
+    public GetUserProgressPageQuery {
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("Page number cannot be negative");
+        }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Page size must be a positive number");
+        }
+        if (total == null) {
+            total = TotalCountMode.NONE;
+        }
+    }
+}
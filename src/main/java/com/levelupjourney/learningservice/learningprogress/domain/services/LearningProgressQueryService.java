@@ -2,7 +2,9 @@ package com.levelupjourney.learningservice.learningprogress.domain.services;
 
 import com.levelupjourney.learningservice.learningprogress.domain.model.aggregates.LearningProgress;
 import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetProgressQuery;
+import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetUserProgressPageQuery;
 import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetUserProgressQuery;
+import com.levelupjourney.learningservice.shared.domain.model.OffsetPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,5 @@ import java.util.Optional;
 public interface LearningProgressQueryService {
     Optional<LearningProgress> handle(GetProgressQuery query);
     List<LearningProgress> handle(GetUserProgressQuery query);
+    OffsetPage<LearningProgress> handle(GetUserProgressPageQuery query);
 }
@@ -2,6 +2,8 @@ package com.levelupjourney.learningservice.learningprogress.infrastructure.persi
 
 import com.levelupjourney.learningservice.learningprogress.domain.model.aggregates.LearningProgress;
 import com.levelupjourney.learningservice.learningprogress.domain.model.valueobjects.LearningEntityType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +21,13 @@ public interface LearningProgressRepository extends JpaRepository<LearningProgre
     
     List<LearningProgress> findByUserId(String userId);
     
+    /**
+     * Page without a count query; reads one row past the page for hasNext
+     */
+    Slice<LearningProgress> findSliceByUserId(String userId, Pageable pageable);
+    
+    long countByUserId(String userId);
+    
     boolean existsByUserIdAndEntityTypeAndEntityId(
             String userId,
             LearningEntityType entityType,
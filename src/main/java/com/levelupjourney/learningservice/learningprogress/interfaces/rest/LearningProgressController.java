@@ -5,6 +5,7 @@ import com.levelupjourney.learningservice.learningprogress.domain.model.commands
 import com.levelupjourney.learningservice.learningprogress.domain.model.commands.StartLearningCommand;
 import com.levelupjourney.learningservice.learningprogress.domain.model.commands.UpdateProgressCommand;
 import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetProgressQuery;
+import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetUserProgressPageQuery;
 import com.levelupjourney.learningservice.learningprogress.domain.model.queries.GetUserProgressQuery;
 import com.levelupjourney.learningservice.learningprogress.domain.model.valueobjects.LearningEntityType;
 import com.levelupjourney.learningservice.learningprogress.domain.services.LearningProgressCommandService;
@@ -13,6 +14,7 @@ import com.levelupjourney.learningservice.learningprogress.interfaces.rest.resou
 import com.levelupjourney.learningservice.learningprogress.interfaces.rest.resources.StartLearningResource;
 import com.levelupjourney.learningservice.learningprogress.interfaces.rest.resources.UpdateProgressResource;
 import com.levelupjourney.learningservice.learningprogress.interfaces.rest.transform.LearningProgressResourceAssembler;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -190,6 +192,9 @@ public class LearningProgressController {
                     - Users can only view their own progress
                     - ADMIN can view any user's progress
                     - Useful for student dashboard showing all active learning
+                    - Paged when `page`, `size` or `total` is given: `{content, page, size, hasNext, total}`,
+                      most recently started first, without a count query unless `total=EXACT`
+                      (`total=APPROXIMATE` serves a cached count, `total.exact` tells which one was returned)
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
@@ -198,10 +203,22 @@ public class LearningProgressController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - no valid JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - cannot view other users' progress without ADMIN role")
     })
-    public ResponseEntity<List<LearningProgressResource>> getUserProgress(
+    public ResponseEntity<?> getUserProgress(
             @io.swagger.v3.oas.annotations.Parameter(description = "User ID", required = true)
-            @PathVariable String userId
+            @PathVariable String userId,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page number (0-based); enables paging")
+            @RequestParam(required = false) Integer page,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Page size; enables paging")
+            @RequestParam(required = false) Integer size,
+            @io.swagger.v3.oas.annotations.Parameter(description = "Total to report: NONE, APPROXIMATE or EXACT; enables paging")
+            @RequestParam(required = false) TotalCountMode total
     ) {
+        if (page != null || size != null || total != null) {
+            return ResponseEntity.ok(queryService
+                    .handle(new GetUserProgressPageQuery(userId, page, size, total))
+                    .map(assembler::toResourceFromEntity));
+        }
+        
         GetUserProgressQuery query = new GetUserProgressQuery(userId);
         List<LearningProgress> progressList = queryService.handle(query);
         
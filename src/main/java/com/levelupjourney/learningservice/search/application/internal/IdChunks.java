@@ -0,0 +1,57 @@
+package com.levelupjourney.learningservice.search.application.internal;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Chunked passes over entity IDs shared by the in-memory indexers: keyset walks for full builds and
+ * drains of the dirty sets filled by change events.
+ * <p>
+ * Indexers mark entries dirty from {@code @TransactionalEventListener(fallbackExecution = true)}
+ * listeners, so they run after commit, or right away for changes made outside a transaction such as
+ * like flushes. Events are local to the instance that handled the change; the periodic rebuilds are
+ * what pick up changes made through other instances.
+ */
+public final class IdChunks {
+
+    private IdChunks() {
+    }
+
+    /**
+     * Hands every ID to the handler in ascending order, one keyset page of chunkSize at a time
+     *
+     * @param idPage IDs after the given one (null for the first page), in ID order, at most the limit
+     */
+    public static void walk(BiFunction<UUID, Limit, List<UUID>> idPage, int chunkSize,
+                            Consumer<List<UUID>> chunkHandler) {
+        UUID afterId = null;
+        List<UUID> ids;
+        do {
+            ids = idPage.apply(afterId, Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                chunkHandler.accept(ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == chunkSize);
+    }
+
+    /**
+     * Removes the IDs currently in the dirty set and hands them to the handler in chunks;
+     * IDs added meanwhile stay for the next drain
+     *
+     * @return true when anything was drained
+     */
+    public static boolean drain(Set<UUID> dirty, int chunkSize, Consumer<List<UUID>> chunkHandler) {
+        List<UUID> drained = List.copyOf(dirty);
+        dirty.removeAll(drained);
+        for (int from = 0; from < drained.size(); from += chunkSize) {
+            chunkHandler.accept(drained.subList(from, Math.min(from + chunkSize, drained.size())));
+        }
+        return !drained.isEmpty();
+    }
+}
@@ -0,0 +1,216 @@
+package com.levelupjourney.learningservice.search.application.internal.content;
+
+import com.levelupjourney.learningservice.search.application.internal.index.TextAnalyzer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over page bodies of published guides.
+ * <p>
+ * Same layout as the catalog index: every page gets an integer slot, postings map a term to
+ * slot -> term frequency, and a {@link BitSet} per guide lets a whole guide be dropped when it
+ * is unpublished. Bodies themselves are not kept; snippets are cut from the few bodies of the
+ * requested result page. Every query term is matched as a prefix, all terms must match and
+ * hits are scored with BM25.
+ */
+public class PageContentIndex {
+
+    /**
+     * @param sortKey orders the hits of one guide like its pages; not the page's position
+     */
+    public record Hit(UUID pageId, UUID guideId, int sortKey) {
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final List<Entry> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<UUID, BitSet> byGuide = new HashMap<>();
+    private long totalLength;
+
+    private record Entry(Hit hit, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    /**
+     * Adds or replaces a page
+     */
+    public void put(UUID pageId, UUID guideId, int sortKey, String content) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        TextAnalyzer.analyze(content).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(pageId);
+            int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+            var entry = new Entry(new Hit(pageId, guideId, sortKey), termFrequencies, length);
+            if (slot == slots.size()) {
+                slots.add(entry);
+            } else {
+                slots.set(slot, entry);
+            }
+            slotById.put(pageId, slot);
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(slot, frequency));
+            byGuide.computeIfAbsent(guideId, key -> new BitSet()).set(slot);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID pageId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(pageId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every page of a guide, used when the guide stops being published
+     */
+    public void removeGuide(UUID guideId) {
+        lock.writeLock().lock();
+        try {
+            BitSet guideBits = byGuide.get(guideId);
+            if (guideBits != null) {
+                ((BitSet) guideBits.clone()).stream()
+                        .forEach(slot -> removeUnlocked(slots.get(slot).hit().pageId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean containsGuide(UUID guideId) {
+        lock.readLock().lock();
+        try {
+            return byGuide.containsKey(guideId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page<Hit> search(List<String> terms, Pageable pageable) {
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scores = score(terms);
+            List<Integer> hits = new ArrayList<>(scores.keySet());
+            hits.sort(Comparator.comparingDouble((Integer slot) -> -scores.get(slot))
+                    .thenComparing(slot -> slots.get(slot).hit().guideId())
+                    .thenComparingInt(slot -> slots.get(slot).hit().sortKey()));
+
+            int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), hits.size()) : 0;
+            int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), hits.size()) : hits.size();
+            List<Hit> content = hits.subList(from, to).stream()
+                    .map(slot -> slots.get(slot).hit())
+                    .toList();
+            return new PageImpl<>(content, pageable, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int pageCount() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 over the prefix expansions of every query term, keeping only pages matching all terms
+     */
+    private Map<Integer, Double> score(List<String> terms) {
+        int pages = slotById.size();
+        double averageLength = pages == 0 ? 1 : (double) totalLength / pages;
+        Map<Integer, Double> scores = new HashMap<>();
+        BitSet candidates = null;
+        for (String term : terms) {
+            BitSet matching = new BitSet();
+            var expansions = postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet().stream()
+                    .limit(MAX_PREFIX_EXPANSIONS)
+                    .toList();
+            for (var expansion : expansions) {
+                Map<Integer, Integer> postingList = expansion.getValue();
+                double idf = Math.log(1 + (pages - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                BitSet allowed = candidates;
+                postingList.forEach((slot, frequency) -> {
+                    if (allowed != null && !allowed.get(slot)) {
+                        return;
+                    }
+                    matching.set(slot);
+                    double norm = K1 * (1 - B + B * slots.get(slot).length() / averageLength);
+                    scores.merge(slot, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            candidates = matching;
+            if (candidates.isEmpty()) {
+                return Map.of();
+            }
+        }
+        BitSet matchingAll = candidates;
+        scores.keySet().removeIf(slot -> !matchingAll.get(slot));
+        return scores;
+    }
+
+    private void removeUnlocked(UUID pageId) {
+        Integer slot = slotById.remove(pageId);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = slots.get(slot);
+        entry.termFrequencies().keySet().forEach(term -> {
+            Map<Integer, Integer> postingList = postings.get(term);
+            postingList.remove(slot);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        BitSet guideBits = byGuide.get(entry.hit().guideId());
+        if (guideBits != null) {
+            guideBits.clear(slot);
+            if (guideBits.isEmpty()) {
+                byGuide.remove(entry.hit().guideId());
+            }
+        }
+        totalLength -= entry.length();
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+}
@@ -0,0 +1,220 @@
+package com.levelupjourney.learningservice.search.application.internal.content;
+
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.events.PageChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageContentRow;
+import com.levelupjourney.learningservice.guides.domain.model.projections.PageSequenceRow;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.PageRepository;
+import com.levelupjourney.learningservice.search.application.internal.IdChunks;
+import com.levelupjourney.learningservice.search.application.internal.index.TextAnalyzer;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.ContentMatch;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the {@link PageContentIndex}: builds it from the pages of published guides at startup and
+ * keeps it current from page and guide change events.
+ * <p>
+ * Page events re-read just those pages. Guide events only matter when the guide is published or
+ * unpublished, so they cost one status lookup per chunk and a page load only for guides that
+ * became visible. Snippets are cut from the bodies of the result page, one select per search.
+ * <p>
+ * Events are local to the instance that handled the change, so a periodic rebuild
+ * ({@code application.search.content.rebuild-interval-ms}) picks up pages published or edited
+ * through other instances. The index is eventually consistent across instances within that interval.
+ */
+@Slf4j
+@Component
+public class PageContentIndexer {
+
+    private final PageRepository pageRepository;
+    private final GuideRepository guideRepository;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int snippetLength;
+
+    private final Set<UUID> dirtyPages = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyGuides = ConcurrentHashMap.newKeySet();
+    private volatile PageContentIndex index = new PageContentIndex();
+    private volatile boolean ready;
+
+    public PageContentIndexer(
+            PageRepository pageRepository,
+            GuideRepository guideRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.content.enabled:true}") boolean enabled,
+            @Value("${application.search.index.chunk-size:500}") int chunkSize,
+            @Value("${application.search.content.snippet-length:200}") int snippetLength
+    ) {
+        this.pageRepository = pageRepository;
+        this.guideRepository = guideRepository;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.snippetLength = snippetLength;
+        Gauge.builder("search.content.pages", this, indexer -> indexer.index.pageCount())
+                .description("Pages in the page content index")
+                .register(meterRegistry);
+        Gauge.builder("search.content.terms", this, indexer -> indexer.index.termCount())
+                .description("Distinct terms in the page content index")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.search.content.rebuild-interval-ms:600000}",
+            fixedDelayString = "${application.search.content.rebuild-interval-ms:600000}"
+    )
+    public void scheduledRebuild() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds a new index off to the side and swaps it in; changes arriving meanwhile stay dirty
+     * until the next refresh, which waits for the rebuild
+     */
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        var fresh = new PageContentIndex();
+        IdChunks.walk(pageRepository::findIndexableIdsAfter, chunkSize,
+                ids -> pageRepository.findPublishedContentRowsByIdIn(ids).forEach(row -> put(fresh, row)));
+        index = fresh;
+        ready = true;
+        log.info("Page content index built: {} pages, {} terms in {} ms",
+                fresh.pageCount(), fresh.termCount(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.content.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (!isReady()) {
+            return;
+        }
+        IdChunks.drain(dirtyGuides, chunkSize, this::refreshGuides);
+        IdChunks.drain(dirtyPages, chunkSize, this::refreshPages);
+    }
+
+    public Page<ContentMatch> search(String text, Pageable pageable) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        Page<PageContentIndex.Hit> hits = index.search(terms, pageable);
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotalElements());
+        }
+        Map<UUID, PageContentRow> rowsById = pageRepository.findPublishedContentRowsByIdIn(
+                        hits.getContent().stream().map(PageContentIndex.Hit::pageId).toList()).stream()
+                .collect(Collectors.toMap(PageContentRow::pageId, Function.identity()));
+        Map<UUID, Integer> positions = positionsOf(rowsById.values());
+        List<ContentMatch> matches = hits.getContent().stream()
+                .filter(hit -> rowsById.containsKey(hit.pageId()))
+                .map(hit -> new ContentMatch(
+                        hit.guideId(),
+                        hit.pageId(),
+                        positions.get(hit.pageId()),
+                        SnippetBuilder.build(rowsById.get(hit.pageId()).content(), terms, snippetLength)))
+                .toList();
+        return new PageImpl<>(matches, pageable, hits.getTotalElements());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPageChanged(PageChangedEvent event) {
+        if (enabled) {
+            dirtyPages.add(event.pageId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuideChanged(GuideChangedEvent event) {
+        if (enabled) {
+            dirtyGuides.add(event.guideId());
+        }
+    }
+
+    private void refreshGuides(List<UUID> guideIds) {
+        Set<UUID> published = new HashSet<>(guideRepository.findIdsByIdInAndStatus(guideIds, EntityStatus.PUBLISHED));
+        List<UUID> newlyPublished = guideIds.stream()
+                .filter(guideId -> {
+                    if (!published.contains(guideId)) {
+                        index.removeGuide(guideId);
+                        return false;
+                    }
+                    return !index.containsGuide(guideId);
+                })
+                .toList();
+        if (!newlyPublished.isEmpty()) {
+            pageRepository.findPublishedContentRowsByGuideIdIn(newlyPublished).forEach(row -> put(index, row));
+        }
+    }
+
+    private void refreshPages(List<UUID> pageIds) {
+        Map<UUID, PageContentRow> rows = pageRepository.findPublishedContentRowsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PageContentRow::pageId, Function.identity()));
+        pageIds.forEach(pageId -> {
+            PageContentRow row = rows.get(pageId);
+            if (row != null) {
+                put(index, row);
+            } else {
+                // Deleted, or its guide is not published
+                index.remove(pageId);
+            }
+        });
+    }
+
+    /**
+     * Current positions of the given pages. Positions shift when other pages of the guide move, so they are
+     * numbered from the guides' pages in key order at read time rather than kept in the index.
+     */
+    private Map<UUID, Integer> positionsOf(Collection<PageContentRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> positions = new HashMap<>();
+        UUID guideId = null;
+        int position = 0;
+        for (PageSequenceRow row : pageRepository.findSequenceByGuideIdIn(
+                rows.stream().map(PageContentRow::guideId).collect(Collectors.toSet()))) {
+            position = row.guideId().equals(guideId) ? position + 1 : 1;
+            guideId = row.guideId();
+            positions.put(row.pageId(), position);
+        }
+        return positions;
+    }
+
+    private static void put(PageContentIndex target, PageContentRow row) {
+        target.put(row.pageId(), row.guideId(), Objects.requireNonNullElse(row.sortKey(), 0), row.content());
+    }
+}
@@ -0,0 +1,88 @@
+package com.levelupjourney.learningservice.search.application.internal.content;
+
+import com.levelupjourney.learningservice.search.application.internal.index.TextAnalyzer;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cuts a highlighted excerpt out of a page body: the window of at most maxLength characters
+ * holding the most matched words, snapped to word boundaries, HTML-escaped, whitespace collapsed
+ * and every matched word wrapped in {@code <mark>}. Words match when their folded form starts with
+ * a query term, the same rule the index uses.
+ */
+final class SnippetBuilder {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String ELLIPSIS = "…";
+
+    private SnippetBuilder() {
+    }
+
+    static String build(String content, List<String> terms, int maxLength) {
+        List<int[]> spans = new ArrayList<>();
+        Matcher matcher = WORD.matcher(content);
+        while (matcher.find()) {
+            String folded = TextAnalyzer.fold(matcher.group());
+            if (terms.stream().anyMatch(folded::startsWith)) {
+                spans.add(new int[]{matcher.start(), matcher.end()});
+            }
+        }
+
+        int start = 0;
+        if (!spans.isEmpty()) {
+            // Densest window: the first span of the run with the most spans fitting in maxLength
+            int bestFirst = 0;
+            int bestCount = 0;
+            for (int first = 0, last = 0; first < spans.size(); first++) {
+                while (last < spans.size() && spans.get(last)[1] - spans.get(first)[0] <= maxLength) {
+                    last++;
+                }
+                if (last - first > bestCount) {
+                    bestCount = last - first;
+                    bestFirst = first;
+                }
+            }
+            start = Math.max(0, spans.get(bestFirst)[0] - maxLength / 4);
+            while (start > 0 && !Character.isWhitespace(content.charAt(start - 1))) {
+                start--;
+            }
+        }
+        int end = Math.min(content.length(), start + maxLength);
+        while (end < content.length() && end > start && !Character.isWhitespace(content.charAt(end))) {
+            end--;
+        }
+        if (end == start) {
+            end = Math.min(content.length(), start + maxLength);
+        }
+
+        StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        int position = start;
+        for (int[] span : spans) {
+            if (span[0] < start || span[1] > end) {
+                continue;
+            }
+            snippet.append(escape(content.substring(position, span[0])))
+                    .append("<mark>")
+                    .append(escape(content.substring(span[0], span[1])))
+                    .append("</mark>");
+            position = span[1];
+        }
+        snippet.append(escape(content.substring(position, end)));
+        if (end < content.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString().strip();
+    }
+
+    private static String escape(String text) {
+        return HtmlUtils.htmlEscape(WHITESPACE.matcher(text).replaceAll(" "));
+    }
+}
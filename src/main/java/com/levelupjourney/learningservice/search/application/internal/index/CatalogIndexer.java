@@ -0,0 +1,274 @@
+package com.levelupjourney.learningservice.search.application.internal.index;
+
+import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.courses.domain.model.events.CourseChangedEvent;
+import com.levelupjourney.learningservice.courses.infrastructure.persistence.jpa.repositories.CourseRepository;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikesCountChangedEvent;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.search.application.internal.IdChunks;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.DocumentType;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchDocument;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.events.TopicChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the catalog {@link InvertedIndex}: builds it from the guide and course tables at startup
+ * (or on demand) and keeps it current from change events.
+ * <p>
+ * Change events only mark documents dirty; a scheduled refresh reloads the dirty guides and
+ * courses in chunks, so a burst of edits or like flushes costs one select per chunk. A rebuild
+ * fills a fresh index off to the side and swaps it in, so searches never see a half-built index.
+ * Only active when {@code application.search.engine=index}.
+ * <p>
+ * Each instance holds its own index and events are local, so changes handled by another instance
+ * are only picked up by the periodic rebuild ({@code application.search.index.rebuild-interval-ms}).
+ * The index is eventually consistent across instances within that interval.
+ */
+@Slf4j
+@Component
+public class CatalogIndexer {
+
+    public record Stats(
+            boolean enabled,
+            boolean ready,
+            int documents,
+            int terms,
+            int pendingUpdates,
+            LocalDateTime lastRebuildAt,
+            Long lastRebuildMillis,
+            String lastRebuildFailure
+    ) {
+    }
+
+    private final GuideRepository guideRepository;
+    private final CourseRepository courseRepository;
+    private final Timer rebuildTimer;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    private final Set<UUID> dirtyGuides = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyCourses = ConcurrentHashMap.newKeySet();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    private volatile LocalDateTime lastRebuildAt;
+    private volatile Long lastRebuildMillis;
+    private volatile String lastRebuildFailure;
+
+    public CatalogIndexer(
+            GuideRepository guideRepository,
+            CourseRepository courseRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.engine:database}") String engine,
+            @Value("${application.search.index.chunk-size:500}") int chunkSize
+    ) {
+        this.guideRepository = guideRepository;
+        this.courseRepository = courseRepository;
+        this.enabled = "index".equalsIgnoreCase(engine);
+        this.chunkSize = chunkSize;
+        this.rebuildTimer = Timer.builder("search.index.rebuild")
+                .description("Time to rebuild the catalog index from the database")
+                .register(meterRegistry);
+        Gauge.builder("search.index.documents", this, indexer -> indexer.index.documentCount())
+                .description("Documents in the catalog index")
+                .register(meterRegistry);
+        Gauge.builder("search.index.terms", this, indexer -> indexer.index.termCount())
+                .description("Distinct terms in the catalog index")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public InvertedIndex index() {
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.search.index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${application.search.index.rebuild-interval-ms:600000}"
+    )
+    public void scheduledRebuild() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds a new index from the database and swaps it in
+     */
+    public synchronized Stats rebuild() {
+        long started = System.nanoTime();
+        var fresh = new InvertedIndex();
+        try {
+            // Changes arriving while building are re-applied by the next refresh
+            IdChunks.walk(guideRepository::findIndexableIdsAfter, chunkSize,
+                    ids -> loadGuides(ids).forEach(fresh::put));
+            IdChunks.walk(courseRepository::findIndexableIdsAfter, chunkSize,
+                    ids -> loadCourses(ids).forEach(fresh::put));
+        } catch (RuntimeException e) {
+            lastRebuildFailure = LocalDateTime.now() + ": " + e.getMessage();
+            log.error("Catalog index rebuild failed, keeping the current index", e);
+            throw e;
+        }
+        lastRebuildFailure = null;
+        index = fresh;
+        ready = true;
+
+        long elapsed = System.nanoTime() - started;
+        rebuildTimer.record(Duration.ofNanos(elapsed));
+        lastRebuildAt = LocalDateTime.now();
+        lastRebuildMillis = Duration.ofNanos(elapsed).toMillis();
+        log.info("Catalog index built: {} documents, {} terms in {} ms",
+                fresh.documentCount(), fresh.termCount(), lastRebuildMillis);
+        return stats();
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.index.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (!isReady()) {
+            return;
+        }
+        IdChunks.drain(dirtyGuides, chunkSize, ids -> apply(ids, loadGuides(ids)));
+        IdChunks.drain(dirtyCourses, chunkSize, ids -> apply(ids, loadCourses(ids)));
+    }
+
+    public Stats stats() {
+        var current = index;
+        return new Stats(
+                enabled,
+                ready,
+                current.documentCount(),
+                current.termCount(),
+                dirtyGuides.size() + dirtyCourses.size(),
+                lastRebuildAt,
+                lastRebuildMillis,
+                lastRebuildFailure
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuideChanged(GuideChangedEvent event) {
+        if (enabled) {
+            dirtyGuides.add(event.guideId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuideLikesCountChanged(GuideLikesCountChangedEvent event) {
+        if (enabled) {
+            dirtyGuides.add(event.guideId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (enabled) {
+            dirtyCourses.add(event.courseId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicChanged(TopicChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        index.documentsWithTopic(event.topicId()).forEach(document ->
+                (document.type() == DocumentType.GUIDE ? dirtyGuides : dirtyCourses).add(document.id()));
+    }
+
+    private void apply(List<UUID> ids, List<SearchDocument> loaded) {
+        var current = index;
+        Set<UUID> found = new HashSet<>();
+        loaded.forEach(document -> {
+            current.put(document);
+            found.add(document.id());
+        });
+        // Missing or deleted: drop from the index
+        ids.stream().filter(id -> !found.contains(id)).forEach(current::remove);
+    }
+
+    private List<SearchDocument> loadGuides(Collection<UUID> ids) {
+        return guideRepository.findWithAuthorsAndTopicsByIdIn(ids).stream()
+                .filter(guide -> guide.getStatus() != EntityStatus.DELETED)
+                .map(this::toDocument)
+                .toList();
+    }
+
+    private List<SearchDocument> loadCourses(Collection<UUID> ids) {
+        return courseRepository.findWithAuthorsAndTopicsByIdIn(ids).stream()
+                .filter(course -> course.getStatus() != EntityStatus.DELETED)
+                .map(this::toDocument)
+                .toList();
+    }
+
+    private SearchDocument toDocument(Guide guide) {
+        return new SearchDocument(
+                guide.getId(),
+                DocumentType.GUIDE,
+                guide.getStatus(),
+                guide.getTitle(),
+                guide.getDescription(),
+                topicIds(guide.getTopics()),
+                topicNames(guide.getTopics()),
+                Set.copyOf(guide.getAuthorIds()),
+                guide.getLikesCount() != null ? guide.getLikesCount() : 0,
+                null,
+                guide.getCreatedAt()
+        );
+    }
+
+    private SearchDocument toDocument(Course course) {
+        return new SearchDocument(
+                course.getId(),
+                DocumentType.COURSE,
+                course.getStatus(),
+                course.getTitle(),
+                course.getDescription(),
+                topicIds(course.getTopics()),
+                topicNames(course.getTopics()),
+                Set.copyOf(course.getAuthorIds()),
+                course.getLikesCount() != null ? course.getLikesCount() : 0,
+                course.getDifficultyLevel(),
+                course.getCreatedAt()
+        );
+    }
+
+    private static Set<UUID> topicIds(Set<Topic> topics) {
+        return topics.stream().map(Topic::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Set<String> topicNames(Set<Topic> topics) {
+        return topics.stream().map(Topic::getName).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,368 @@
+package com.levelupjourney.learningservice.search.application.internal.index;
+
+import com.levelupjourney.learningservice.courses.domain.model.valueobjects.DifficultyLevel;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchCatalogQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.DocumentType;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.LikesBucket;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchDocument;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over catalog documents.
+ * <p>
+ * Every document gets an integer slot; postings map a term to slot -> weighted term frequency
+ * and filters are {@link BitSet}s per type, status, topic and author, so a filtered query is a
+ * handful of bitwise ANDs before any scoring. Facet counts intersect the matching set with the
+ * bitmaps per topic, difficulty level, status and likes bucket; slots are reused, so plain
+ * BitSets stay dense and need no further compression. Text is scored with BM25 over a single field in
+ * which title terms count three times, topic names twice and description and author IDs once.
+ * Every query term is matched as a prefix and all terms must match.
+ * <p>
+ * Reads share a read lock; {@link #put} and {@link #remove} take the write lock. Freed slots are
+ * reused so the bitmaps stay dense.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TOPIC_WEIGHT = 2;
+    // Expansions of one query term that add to the score; every expansion still counts as a match
+    private static final int MAX_SCORED_EXPANSIONS = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotById = new HashMap<>();
+    private final List<Entry> slots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<DocumentType, BitSet> byType = new EnumMap<>(DocumentType.class);
+    private final Map<EntityStatus, BitSet> byStatus = new EnumMap<>(EntityStatus.class);
+    private final Map<UUID, BitSet> byTopic = new HashMap<>();
+    private final Map<String, BitSet> byAuthor = new HashMap<>();
+    private final Map<DifficultyLevel, BitSet> byDifficulty = new EnumMap<>(DifficultyLevel.class);
+    private final Map<LikesBucket, BitSet> byLikesBucket = new EnumMap<>(LikesBucket.class);
+    private long totalLength;
+
+    private record Entry(SearchDocument document, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    /**
+     * Adds or replaces a document
+     */
+    public void put(SearchDocument document) {
+        var termFrequencies = termFrequencies(document);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(document.id());
+            int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+            var entry = new Entry(document, termFrequencies, length);
+            if (slot == slots.size()) {
+                slots.add(entry);
+            } else {
+                slots.set(slot, entry);
+            }
+            slotById.put(document.id(), slot);
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(slot, frequency));
+            bitmap(byType, document.type()).set(slot);
+            bitmap(byStatus, document.status()).set(slot);
+            document.topicIds().forEach(topicId -> bitmap(byTopic, topicId).set(slot));
+            document.authorIds().forEach(authorId -> bitmap(byAuthor, authorId).set(slot));
+            if (document.difficultyLevel() != null) {
+                bitmap(byDifficulty, document.difficultyLevel()).set(slot);
+            }
+            bitmap(byLikesBucket, LikesBucket.of(document.likesCount())).set(slot);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID documentId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Documents tagged with a topic, used to re-index them when the topic is renamed
+     */
+    public List<SearchDocument> documentsWithTopic(UUID topicId) {
+        lock.readLock().lock();
+        try {
+            BitSet topicBits = byTopic.get(topicId);
+            if (topicBits == null) {
+                return List.of();
+            }
+            List<SearchDocument> documents = new ArrayList<>(topicBits.cardinality());
+            topicBits.stream().forEach(slot -> documents.add(slots.get(slot).document()));
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page<UUID> search(SearchCatalogQuery query) {
+        List<String> terms = TextAnalyzer.analyze(query.text());
+        lock.readLock().lock();
+        try {
+            BitSet candidates = filter(query);
+            Map<Integer, Double> scores = terms.isEmpty() ? Map.of() : score(terms, candidates);
+            applyMinLikes(candidates, query.minLikesCount());
+
+            List<Integer> hits = new ArrayList<>(candidates.cardinality());
+            candidates.stream().forEach(hits::add);
+            hits.sort(comparator(query.pageable().getSort(), scores, !terms.isEmpty()));
+
+            var pageable = query.pageable();
+            int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), hits.size()) : 0;
+            int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), hits.size()) : hits.size();
+            List<UUID> content = hits.subList(from, to).stream()
+                    .map(slot -> slots.get(slot).document().id())
+                    .toList();
+            return new PageImpl<>(content, pageable, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts per topic, difficulty level, status and likes bucket over every document the query
+     * matches (text and filters; paging and sort ignored)
+     */
+    public SearchFacets facets(SearchCatalogQuery query) {
+        List<String> terms = TextAnalyzer.analyze(query.text());
+        lock.readLock().lock();
+        try {
+            BitSet matching = filter(query);
+            if (!terms.isEmpty()) {
+                score(terms, matching);
+            }
+            applyMinLikes(matching, query.minLikesCount());
+            return new SearchFacets(
+                    matching.cardinality(),
+                    counts(byTopic, matching),
+                    counts(byDifficulty, matching),
+                    counts(byStatus, matching),
+                    counts(byLikesBucket, matching)
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet filter(SearchCatalogQuery query) {
+        BitSet candidates = copy(byType.get(query.type()));
+        if (query.status() != null) {
+            candidates.and(copy(byStatus.get(query.status())));
+        }
+        if (query.topicIds() != null && !query.topicIds().isEmpty()) {
+            BitSet anyTopic = new BitSet();
+            query.topicIds().forEach(topicId -> {
+                BitSet bits = byTopic.get(topicId);
+                if (bits != null) {
+                    anyTopic.or(bits);
+                }
+            });
+            candidates.and(anyTopic);
+        }
+        if (query.authorIds() != null && !query.authorIds().isEmpty()) {
+            BitSet anyAuthor = new BitSet();
+            query.authorIds().forEach(authorId -> {
+                BitSet bits = byAuthor.get(authorId);
+                if (bits != null) {
+                    anyAuthor.or(bits);
+                }
+            });
+            candidates.and(anyAuthor);
+        }
+        return candidates;
+    }
+
+    /**
+     * Drops candidates below the likes threshold; likes buckets are too coarse to filter on
+     */
+    private void applyMinLikes(BitSet candidates, Integer minLikesCount) {
+        if (minLikesCount == null) {
+            return;
+        }
+        int[] below = candidates.stream()
+                .filter(slot -> slots.get(slot).document().likesCount() < minLikesCount)
+                .toArray();
+        for (int slot : below) {
+            candidates.clear(slot);
+        }
+    }
+
+    private static <K> Map<K, Long> counts(Map<K, BitSet> bitmaps, BitSet matching) {
+        Map<K, Long> counts = new HashMap<>();
+        bitmaps.forEach((key, bits) -> {
+            BitSet intersection = (BitSet) bits.clone();
+            intersection.and(matching);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(key, (long) count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * BM25 over the prefix expansions of every query term; candidates is narrowed to the
+     * documents matching all terms. A document matches a term through any expansion, but only
+     * the first {@link #MAX_SCORED_EXPANSIONS} (in term order, so the exact term first) are scored,
+     * which keeps short prefixes cheap without dropping documents.
+     */
+    private Map<Integer, Double> score(List<String> terms, BitSet candidates) {
+        int documents = slotById.size();
+        double averageLength = documents == 0 ? 1 : (double) totalLength / documents;
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            BitSet matching = new BitSet();
+            int expanded = 0;
+            for (var postingList : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                boolean scored = expanded++ < MAX_SCORED_EXPANSIONS;
+                double idf = Math.log(1 + (documents - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                postingList.forEach((slot, frequency) -> {
+                    if (!candidates.get(slot)) {
+                        return;
+                    }
+                    matching.set(slot);
+                    if (scored) {
+                        double norm = K1 * (1 - B + B * slots.get(slot).length() / averageLength);
+                        scores.merge(slot, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                    }
+                });
+            }
+            candidates.and(matching);
+        }
+        return scores;
+    }
+
+    private Comparator<Integer> comparator(Sort sort, Map<Integer, Double> scores, boolean hasText) {
+        Comparator<Integer> byRelevance = Comparator.comparingDouble(slot -> -scores.getOrDefault(slot, 0.0));
+        Comparator<Integer> newestFirst = Comparator.comparing(
+                (Integer slot) -> slots.get(slot).document().createdAt(),
+                Comparator.nullsLast(Comparator.reverseOrder()));
+
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Integer> next = switch (order.getProperty()) {
+                case "relevance" -> byRelevance;
+                case "likesCount" -> direction(order,
+                        Comparator.comparingInt((Integer slot) -> slots.get(slot).document().likesCount()));
+                case "createdAt" -> direction(order, Comparator.comparing(
+                        (Integer slot) -> slots.get(slot).document().createdAt(),
+                        Comparator.nullsFirst(Comparator.naturalOrder())));
+                case "title" -> direction(order, Comparator.comparing(
+                        (Integer slot) -> slots.get(slot).document().title(), String.CASE_INSENSITIVE_ORDER));
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            };
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator == null) {
+            comparator = hasText ? byRelevance : newestFirst;
+        }
+        return comparator.thenComparing(newestFirst);
+    }
+
+    private static Comparator<Integer> direction(Sort.Order order, Comparator<Integer> ascending) {
+        return order.isAscending() ? ascending : ascending.reversed();
+    }
+
+    private void removeUnlocked(UUID documentId) {
+        Integer slot = slotById.remove(documentId);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = slots.get(slot);
+        entry.termFrequencies().keySet().forEach(term -> {
+            Map<Integer, Integer> postingList = postings.get(term);
+            postingList.remove(slot);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        byType.values().forEach(bits -> bits.clear(slot));
+        byStatus.values().forEach(bits -> bits.clear(slot));
+        byDifficulty.values().forEach(bits -> bits.clear(slot));
+        byLikesBucket.values().forEach(bits -> bits.clear(slot));
+        clear(byTopic, entry.document().topicIds(), slot);
+        clear(byAuthor, entry.document().authorIds(), slot);
+        totalLength -= entry.length();
+        slots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitmaps, Iterable<K> keys, int slot) {
+        for (K key : keys) {
+            BitSet bits = bitmaps.get(key);
+            if (bits != null) {
+                bits.clear(slot);
+                if (bits.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+
+    private static <K> BitSet bitmap(Map<K, BitSet> bitmaps, K key) {
+        return bitmaps.computeIfAbsent(key, ignored -> new BitSet());
+    }
+
+    private static BitSet copy(BitSet bits) {
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+
+    private static Map<String, Integer> termFrequencies(SearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TextAnalyzer.analyze(document.title()).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        TextAnalyzer.analyze(document.description()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        document.topicNames().forEach(name ->
+                TextAnalyzer.analyze(name).forEach(term -> frequencies.merge(term, TOPIC_WEIGHT, Integer::sum)));
+        document.authorIds().forEach(authorId ->
+                TextAnalyzer.analyze(authorId).forEach(term -> frequencies.merge(term, 1, Integer::sum)));
+        return frequencies;
+    }
+}
@@ -0,0 +1,57 @@
+package com.levelupjourney.learningservice.search.application.internal.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer shared by indexing and querying: accent folding (canción -> cancion, ñ -> n),
+ * lower case, split on anything that is not a letter or digit, and a small Spanish/English
+ * stop word list. No stemming, so documents and queries must go through the same analyzer.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+            "or", "the", "to", "with",
+            "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "o", "para", "por",
+            "que", "se", "su", "un", "una", "y"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(foldAccents(text).toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Folded form of a whole phrase for prefix matching: accents removed, lower case and
+     * separators collapsed to single spaces, stop words kept ("Introducción a Java" -> "introduccion a java")
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return SEPARATORS.matcher(foldAccents(text).toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static String foldAccents(String text) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
@@ -0,0 +1,50 @@
+package com.levelupjourney.learningservice.search.application.internal.queryservices;
+
+import com.levelupjourney.learningservice.search.application.internal.index.CatalogIndexer;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetCatalogFacetsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchCatalogQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.search.domain.services.CatalogSearchQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class CatalogSearchQueryServiceImpl implements CatalogSearchQueryService {
+
+    private final CatalogIndexer catalogIndexer;
+    private final Timer queryTimer;
+    private final Timer facetsTimer;
+
+    public CatalogSearchQueryServiceImpl(CatalogIndexer catalogIndexer, MeterRegistry meterRegistry) {
+        this.catalogIndexer = catalogIndexer;
+        this.queryTimer = Timer.builder("search.index.query")
+                .description("Latency of catalog index searches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.facetsTimer = Timer.builder("search.index.facets")
+                .description("Latency of catalog facet counts")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Page<UUID>> handle(SearchCatalogQuery query) {
+        if (!catalogIndexer.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(queryTimer.record(() -> catalogIndexer.index().search(query)));
+    }
+
+    @Override
+    public Optional<SearchFacets> handle(GetCatalogFacetsQuery query) {
+        if (!catalogIndexer.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(facetsTimer.record(() -> catalogIndexer.index().facets(query.search())));
+    }
+}
@@ -0,0 +1,33 @@
+package com.levelupjourney.learningservice.search.application.internal.queryservices;
+
+import com.levelupjourney.learningservice.search.application.internal.content.PageContentIndexer;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchPageContentQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.ContentMatch;
+import com.levelupjourney.learningservice.search.domain.services.PageContentSearchQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PageContentSearchQueryServiceImpl implements PageContentSearchQueryService {
+
+    private final PageContentIndexer pageContentIndexer;
+    private final Timer queryTimer;
+
+    public PageContentSearchQueryServiceImpl(PageContentIndexer pageContentIndexer, MeterRegistry meterRegistry) {
+        this.pageContentIndexer = pageContentIndexer;
+        this.queryTimer = Timer.builder("search.content.query")
+                .description("Latency of page content searches including snippets")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Page<ContentMatch> handle(SearchPageContentQuery query) {
+        if (!pageContentIndexer.isReady()) {
+            return Page.empty(query.pageable());
+        }
+        return queryTimer.record(() -> pageContentIndexer.search(query.text(), query.pageable()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.levelupjourney.learningservice.search.application.internal.queryservices;
+
+import com.levelupjourney.learningservice.search.application.internal.suggest.SuggestionIndexer;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSpellingCorrectionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSuggestionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SpellingCorrection;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.Suggestion;
+import com.levelupjourney.learningservice.search.domain.services.SuggestionQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SuggestionQueryServiceImpl implements SuggestionQueryService {
+
+    private final SuggestionIndexer suggestionIndexer;
+    private final Timer queryTimer;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final double similarityThreshold;
+    private final int maxCorrections;
+
+    public SuggestionQueryServiceImpl(
+            SuggestionIndexer suggestionIndexer,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.suggest.default-limit:10}") int defaultLimit,
+            @Value("${application.search.suggest.max-limit:20}") int maxLimit,
+            @Value("${application.search.fuzzy.similarity-threshold:0.3}") double similarityThreshold,
+            @Value("${application.search.fuzzy.max-corrections:3}") int maxCorrections
+    ) {
+        this.suggestionIndexer = suggestionIndexer;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.similarityThreshold = similarityThreshold;
+        this.maxCorrections = maxCorrections;
+        this.queryTimer = Timer.builder("search.suggest.query")
+                .description("Latency of typeahead lookups")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Suggestion> handle(GetSuggestionsQuery query) {
+        if (!suggestionIndexer.isReady() || query.prefix() == null || query.prefix().isBlank()) {
+            return List.of();
+        }
+        int limit = Math.min(query.limit() != null ? query.limit() : defaultLimit, maxLimit);
+        return queryTimer.record(() -> suggestionIndexer.lookup(query.prefix(), limit));
+    }
+
+    @Override
+    public List<SpellingCorrection> handle(GetSpellingCorrectionsQuery query) {
+        if (!suggestionIndexer.isReady() || query.text() == null || query.text().isBlank()) {
+            return List.of();
+        }
+        int limit = Math.min(query.limit() != null ? query.limit() : maxCorrections, maxCorrections);
+        return suggestionIndexer.correct(query.text(), similarityThreshold, limit);
+    }
+}
@@ -0,0 +1,254 @@
+package com.levelupjourney.learningservice.search.application.internal.suggest;
+
+import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.courses.domain.model.events.CourseChangedEvent;
+import com.levelupjourney.learningservice.courses.infrastructure.persistence.jpa.repositories.CourseRepository;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideLikesCountChangedEvent;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.search.application.internal.IdChunks;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SpellingCorrection;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.Suggestion;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SuggestionType;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.events.TopicChangedEvent;
+import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the typeahead {@link SuggestionSnapshot} current.
+ * <p>
+ * Holds one suggestion per published guide and course (weighted by likes) and per topic
+ * (weighted by how many published guides and courses use it). Change events mark entries
+ * dirty; a scheduled refresh reloads only those and, when anything changed, publishes a new
+ * snapshot. Lookups read the current snapshot and never touch the database.
+ * <p>
+ * The same entries feed a {@link TrigramIndex} over their words for "did you mean" corrections.
+ * <p>
+ * Events are local to the instance that handled the change, so a periodic rebuild
+ * ({@code application.search.suggest.rebuild-interval-ms}) picks up guides, courses and topics
+ * published, renamed or liked through other instances. Typeahead and corrections are eventually
+ * consistent across instances within that interval.
+ */
+@Slf4j
+@Component
+public class SuggestionIndexer {
+
+    private final GuideRepository guideRepository;
+    private final CourseRepository courseRepository;
+    private final TopicRepository topicRepository;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    private final Map<UUID, Suggestion> documents = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> documentTopics = new ConcurrentHashMap<>();
+    private final Map<UUID, String> topicNames = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyGuides = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyCourses = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyTopics = ConcurrentHashMap.newKeySet();
+    private volatile SuggestionSnapshot snapshot = SuggestionSnapshot.EMPTY;
+    private volatile TrigramIndex vocabulary = TrigramIndex.EMPTY;
+    private volatile boolean ready;
+
+    public SuggestionIndexer(
+            GuideRepository guideRepository,
+            CourseRepository courseRepository,
+            TopicRepository topicRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.suggest.enabled:true}") boolean enabled,
+            @Value("${application.search.index.chunk-size:500}") int chunkSize
+    ) {
+        this.guideRepository = guideRepository;
+        this.courseRepository = courseRepository;
+        this.topicRepository = topicRepository;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        Gauge.builder("search.suggest.entries", this, indexer -> indexer.snapshot.size())
+                .description("Entries in the typeahead index")
+                .register(meterRegistry);
+        Gauge.builder("search.suggest.keys", this, indexer -> indexer.snapshot.keyCount())
+                .description("Prefix keys in the typeahead index")
+                .register(meterRegistry);
+        Gauge.builder("search.suggest.vocabulary", this, indexer -> indexer.vocabulary.wordCount())
+                .description("Distinct words available for spelling corrections")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public List<Suggestion> lookup(String prefix, int limit) {
+        return snapshot.lookup(prefix, limit);
+    }
+
+    public List<SpellingCorrection> correct(String text, double threshold, int limit) {
+        return vocabulary.correct(text, threshold, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${application.search.suggest.rebuild-interval-ms:600000}",
+            fixedDelayString = "${application.search.suggest.rebuild-interval-ms:600000}"
+    )
+    public void scheduledRebuild() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reloads every entry and publishes a new snapshot; lookups keep reading the previous one
+     * meanwhile, and changes arriving during the rebuild stay dirty for the next refresh
+     */
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        var previousDocuments = Map.copyOf(documents);
+        var previousDocumentTopics = Map.copyOf(documentTopics);
+        var previousTopicNames = Map.copyOf(topicNames);
+        try {
+            documents.clear();
+            documentTopics.clear();
+            topicNames.clear();
+            IdChunks.walk(guideRepository::findIndexableIdsAfter, chunkSize, this::reloadGuides);
+            IdChunks.walk(courseRepository::findIndexableIdsAfter, chunkSize, this::reloadCourses);
+            topicRepository.findAll().forEach(topic -> topicNames.put(topic.getId(), topic.getName()));
+        } catch (RuntimeException e) {
+            // Keep serving, and refreshing, the entries of the previous build
+            restore(documents, previousDocuments);
+            restore(documentTopics, previousDocumentTopics);
+            restore(topicNames, previousTopicNames);
+            log.error("Typeahead index rebuild failed, keeping the current index", e);
+            throw e;
+        }
+        publish();
+        ready = true;
+        log.info("Typeahead index built: {} entries, {} keys in {} ms", snapshot.size(), snapshot.keyCount(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.suggest.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (!isReady()) {
+            return;
+        }
+        boolean changed = IdChunks.drain(dirtyGuides, chunkSize, this::reloadGuides);
+        changed |= IdChunks.drain(dirtyCourses, chunkSize, this::reloadCourses);
+        changed |= IdChunks.drain(dirtyTopics, chunkSize, this::reloadTopics);
+        if (changed) {
+            publish();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuideChanged(GuideChangedEvent event) {
+        if (enabled) {
+            dirtyGuides.add(event.guideId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGuideLikesCountChanged(GuideLikesCountChangedEvent event) {
+        if (enabled) {
+            dirtyGuides.add(event.guideId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (enabled) {
+            dirtyCourses.add(event.courseId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicChanged(TopicChangedEvent event) {
+        if (enabled) {
+            dirtyTopics.add(event.topicId());
+        }
+    }
+
+    private void publish() {
+        Map<UUID, Long> topicUsage = new HashMap<>();
+        documentTopics.values().forEach(topicIds ->
+                topicIds.forEach(topicId -> topicUsage.merge(topicId, 1L, Long::sum)));
+
+        List<Suggestion> entries = new ArrayList<>(documents.values());
+        topicNames.forEach((id, name) ->
+                entries.add(new Suggestion(id, SuggestionType.TOPIC, name, topicUsage.getOrDefault(id, 0L))));
+        snapshot = SuggestionSnapshot.build(entries);
+        vocabulary = TrigramIndex.build(entries.stream().map(Suggestion::text).toList());
+    }
+
+    private void reloadGuides(Collection<UUID> ids) {
+        ids.forEach(this::forget);
+        guideRepository.findWithAuthorsAndTopicsByIdIn(ids).stream()
+                .filter(guide -> guide.getStatus() == EntityStatus.PUBLISHED)
+                .forEach(this::remember);
+    }
+
+    private void reloadCourses(Collection<UUID> ids) {
+        ids.forEach(this::forget);
+        courseRepository.findWithAuthorsAndTopicsByIdIn(ids).stream()
+                .filter(course -> course.getStatus() == EntityStatus.PUBLISHED)
+                .forEach(this::remember);
+    }
+
+    private void reloadTopics(Collection<UUID> ids) {
+        ids.forEach(topicNames::remove);
+        topicRepository.findAllById(ids).forEach(topic -> topicNames.put(topic.getId(), topic.getName()));
+    }
+
+    private void remember(Guide guide) {
+        long likes = guide.getLikesCount() != null ? guide.getLikesCount() : 0;
+        documents.put(guide.getId(), new Suggestion(guide.getId(), SuggestionType.GUIDE, guide.getTitle(), likes));
+        documentTopics.put(guide.getId(), topicIds(guide.getTopics()));
+    }
+
+    private void remember(Course course) {
+        long likes = course.getLikesCount() != null ? course.getLikesCount() : 0;
+        documents.put(course.getId(), new Suggestion(course.getId(), SuggestionType.COURSE, course.getTitle(), likes));
+        documentTopics.put(course.getId(), topicIds(course.getTopics()));
+    }
+
+    private void forget(UUID id) {
+        documents.remove(id);
+        documentTopics.remove(id);
+    }
+
+    private static <V> void restore(Map<UUID, V> target, Map<UUID, V> previous) {
+        target.clear();
+        target.putAll(previous);
+    }
+
+    private static Set<UUID> topicIds(Set<Topic> topics) {
+        return topics.stream().map(Topic::getId).collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,104 @@
+package com.levelupjourney.learningservice.search.application.internal.suggest;
+
+import com.levelupjourney.learningservice.search.application.internal.index.TextAnalyzer;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable sorted-array prefix structure for typeahead.
+ * <p>
+ * Every entry contributes one key per word start of its folded text ("spring boot basics",
+ * "boot basics", "basics"), so typing any word of a title finds it. Keys live in one sorted
+ * array; a lookup is a binary search for the first key with the prefix followed by a bounded
+ * scan of the contiguous range, ranked by weight with whole-text prefix matches first.
+ */
+final class SuggestionSnapshot {
+
+    static final SuggestionSnapshot EMPTY = build(List.of());
+
+    private static final int MAX_WORD_STARTS = 12;
+    private static final int MAX_SCAN = 2000;
+
+    private final String[] keys;
+    private final int[] owners;
+    private final boolean[] leading;
+    private final Suggestion[] entries;
+
+    private SuggestionSnapshot(String[] keys, int[] owners, boolean[] leading, Suggestion[] entries) {
+        this.keys = keys;
+        this.owners = owners;
+        this.leading = leading;
+        this.entries = entries;
+    }
+
+    private record Key(String text, int owner, boolean leading) {
+    }
+
+    static SuggestionSnapshot build(Collection<Suggestion> suggestions) {
+        Suggestion[] entries = suggestions.toArray(Suggestion[]::new);
+        List<Key> keys = new ArrayList<>();
+        for (int owner = 0; owner < entries.length; owner++) {
+            String folded = TextAnalyzer.fold(entries[owner].text());
+            if (folded.isEmpty()) {
+                continue;
+            }
+            keys.add(new Key(folded, owner, true));
+            int starts = 1;
+            for (int i = folded.indexOf(' '); i >= 0 && starts < MAX_WORD_STARTS; i = folded.indexOf(' ', i + 1)) {
+                keys.add(new Key(folded.substring(i + 1), owner, false));
+                starts++;
+            }
+        }
+        keys.sort(Comparator.comparing(Key::text));
+
+        String[] keyTexts = new String[keys.size()];
+        int[] owners = new int[keys.size()];
+        boolean[] leading = new boolean[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyTexts[i] = keys.get(i).text();
+            owners[i] = keys.get(i).owner();
+            leading[i] = keys.get(i).leading();
+        }
+        return new SuggestionSnapshot(keyTexts, owners, leading, entries);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    int keyCount() {
+        return keys.length;
+    }
+
+    List<Suggestion> lookup(String prefix, int limit) {
+        String folded = TextAnalyzer.fold(prefix);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        int from = Arrays.binarySearch(keys, folded);
+        if (from < 0) {
+            from = -from - 1;
+        }
+
+        // owner -> whether any of its matching keys is the start of its text
+        Map<Integer, Boolean> matches = new HashMap<>();
+        for (int i = from; i < keys.length && i - from < MAX_SCAN && keys[i].startsWith(folded); i++) {
+            matches.merge(owners[i], leading[i], Boolean::logicalOr);
+        }
+
+        return matches.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Boolean>>comparingLong(match -> -entries[match.getKey()].weight())
+                        .thenComparing(match -> !match.getValue())
+                        .thenComparingInt(match -> entries[match.getKey()].text().length()))
+                .limit(limit)
+                .map(match -> entries[match.getKey()])
+                .toList();
+    }
+}
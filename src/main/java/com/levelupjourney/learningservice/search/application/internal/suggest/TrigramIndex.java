@@ -0,0 +1,160 @@
+package com.levelupjourney.learningservice.search.application.internal.suggest;
+
+import com.levelupjourney.learningservice.search.application.internal.index.TextAnalyzer;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SpellingCorrection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trigram index over the words of catalog titles and topic names, used to correct
+ * misspelled search text ("sprng" -> "spring").
+ * <p>
+ * Trigrams follow pg_trgm: the word is padded with two spaces in front and one behind, and
+ * similarity is shared trigrams over the union of both sets. Candidates come from the posting
+ * lists of the query word's trigrams, so a lookup only touches words sharing at least one
+ * trigram instead of the whole vocabulary.
+ */
+final class TrigramIndex {
+
+    static final TrigramIndex EMPTY = build(List.of());
+
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final int MAX_WORDS = 8;
+
+    private record Candidate(String word, double similarity, int frequency) {
+    }
+
+    private record Phrase(List<String> words, double similarity) {
+    }
+
+    private final String[] words;
+    private final int[] frequencies;
+    private final int[] trigramCounts;
+    private final Map<String, Integer> wordIds;
+    private final Map<String, int[]> postings;
+
+    private TrigramIndex(String[] words, int[] frequencies, int[] trigramCounts,
+                         Map<String, Integer> wordIds, Map<String, int[]> postings) {
+        this.words = words;
+        this.frequencies = frequencies;
+        this.trigramCounts = trigramCounts;
+        this.wordIds = wordIds;
+        this.postings = postings;
+    }
+
+    static TrigramIndex build(Collection<String> texts) {
+        Map<String, Integer> frequencyByWord = new HashMap<>();
+        for (String text : texts) {
+            for (String word : new LinkedHashSet<>(List.of(TextAnalyzer.fold(text).split(" ")))) {
+                if (word.length() >= MIN_WORD_LENGTH) {
+                    frequencyByWord.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+
+        String[] words = frequencyByWord.keySet().toArray(String[]::new);
+        int[] frequencies = new int[words.length];
+        int[] trigramCounts = new int[words.length];
+        Map<String, Integer> wordIds = new HashMap<>();
+        Map<String, List<Integer>> postingLists = new HashMap<>();
+        for (int id = 0; id < words.length; id++) {
+            frequencies[id] = frequencyByWord.get(words[id]);
+            wordIds.put(words[id], id);
+            Set<String> trigrams = trigrams(words[id]);
+            trigramCounts[id] = trigrams.size();
+            for (String trigram : trigrams) {
+                postingLists.computeIfAbsent(trigram, key -> new ArrayList<>()).add(id);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>();
+        postingLists.forEach((trigram, ids) ->
+                postings.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return new TrigramIndex(words, frequencies, trigramCounts, wordIds, postings);
+    }
+
+    int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * Alternative phrasings of the text where every word missing from the vocabulary is replaced by
+     * a similar known word, best mean similarity first. Empty when nothing needs correcting or no
+     * replacement reaches the threshold.
+     */
+    List<SpellingCorrection> correct(String text, double threshold, int limit) {
+        String[] tokens = TextAnalyzer.fold(text).split(" ");
+        if (tokens.length > MAX_WORDS) {
+            return List.of();
+        }
+
+        // Beam over the words of the text keeping the best limit phrases
+        List<Phrase> beam = List.of(new Phrase(List.of(), 0));
+        boolean corrected = false;
+        for (String token : tokens) {
+            List<Candidate> candidates = token.length() < MIN_WORD_LENGTH || wordIds.containsKey(token)
+                    ? List.of()
+                    : closest(token, threshold, limit);
+            if (candidates.isEmpty()) {
+                candidates = List.of(new Candidate(token, 1, 0));
+            } else {
+                corrected = true;
+            }
+
+            List<Phrase> next = new ArrayList<>();
+            for (Phrase phrase : beam) {
+                for (Candidate candidate : candidates) {
+                    List<String> phraseWords = new ArrayList<>(phrase.words());
+                    phraseWords.add(candidate.word());
+                    next.add(new Phrase(phraseWords, phrase.similarity() + candidate.similarity()));
+                }
+            }
+            next.sort(Comparator.comparingDouble(Phrase::similarity).reversed());
+            beam = next.subList(0, Math.min(limit, next.size()));
+        }
+        if (!corrected) {
+            return List.of();
+        }
+        return beam.stream()
+                .map(phrase -> new SpellingCorrection(
+                        String.join(" ", phrase.words()),
+                        phrase.similarity() / tokens.length))
+                .toList();
+    }
+
+    private List<Candidate> closest(String word, double threshold, int limit) {
+        Set<String> trigrams = trigrams(word);
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (int id : postings.getOrDefault(trigram, new int[0])) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        shared.forEach((id, count) -> {
+            double similarity = (double) count / (trigrams.size() + trigramCounts[id] - count);
+            if (similarity >= threshold) {
+                candidates.add(new Candidate(words[id], similarity, frequencies[id]));
+            }
+        });
+        candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed()
+                .thenComparing(Comparator.comparingInt(Candidate::frequency).reversed()));
+        return candidates.subList(0, Math.min(limit, candidates.size()));
+    }
+
+    private static Set<String> trigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
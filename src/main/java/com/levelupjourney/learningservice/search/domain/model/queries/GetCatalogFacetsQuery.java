@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.search.domain.model.queries;
+
+/**
+ * Facet counts over everything the search matches; the search's pageable and sort are ignored.
+ */
+public record GetCatalogFacetsQuery(SearchCatalogQuery search) {
+    public GetCatalogFacetsQuery {
+        if (search == null) {
+            throw new IllegalArgumentException("Search cannot be null");
+        }
+    }
+}
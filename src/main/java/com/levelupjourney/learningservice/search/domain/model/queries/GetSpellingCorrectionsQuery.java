@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.search.domain.model.queries;
+
+/**
+ * "Did you mean" lookup for search text; limit falls back to the configured default when null.
+ */
+public record GetSpellingCorrectionsQuery(String text, Integer limit) {
+    public GetSpellingCorrectionsQuery {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.search.domain.model.queries;
+
+/**
+ * Typeahead lookup; limit falls back to the configured default when null.
+ */
+public record GetSuggestionsQuery(String prefix, Integer limit) {
+    public GetSuggestionsQuery {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+    }
+}
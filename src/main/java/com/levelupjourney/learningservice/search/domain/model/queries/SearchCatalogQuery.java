@@ -0,0 +1,32 @@
+package com.levelupjourney.learningservice.search.domain.model.queries;
+
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.DocumentType;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keyword query against the in-memory catalog index.
+ * text is optional; authorIds and topicIds match any of the given values.
+ * Sort properties: relevance (default when text is given), likesCount, createdAt (default otherwise), title.
+ */
+public record SearchCatalogQuery(
+        DocumentType type,
+        EntityStatus status,
+        String text,
+        Set<String> authorIds,
+        Set<UUID> topicIds,
+        Integer minLikesCount,
+        Pageable pageable
+) {
+    public SearchCatalogQuery {
+        if (type == null) {
+            throw new IllegalArgumentException("Document type cannot be null");
+        }
+        if (pageable == null) {
+            pageable = Pageable.unpaged();
+        }
+    }
+}
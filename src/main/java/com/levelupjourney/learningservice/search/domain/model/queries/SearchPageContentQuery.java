@@ -0,0 +1,15 @@
+package com.levelupjourney.learningservice.search.domain.model.queries;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Query for pages of published guides whose body contains every word of the text (prefix match),
+ * best matches first.
+ */
+public record SearchPageContentQuery(String text, Pageable pageable) {
+    public SearchPageContentQuery {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text cannot be empty");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * A page of a published guide whose body matches search text. The snippet is HTML-escaped
+ * text around the best match with matched words wrapped in {@code <mark>} tags.
+ */
+public record ContentMatch(
+        UUID guideId,
+        UUID pageId,
+        Integer orderNumber,
+        String snippet
+) {
+}
@@ -0,0 +1,6 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+public enum DocumentType {
+    GUIDE,
+    COURSE
+}
@@ -0,0 +1,35 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+/**
+ * Likes count ranges used for facet counts.
+ */
+public enum LikesBucket {
+    NONE(0, 0, "0"),
+    FEW(1, 9, "1-9"),
+    SOME(10, 49, "10-49"),
+    MANY(50, 99, "50-99"),
+    POPULAR(100, Integer.MAX_VALUE, "100+");
+
+    private final int min;
+    private final int max;
+    private final String label;
+
+    LikesBucket(int min, int max, String label) {
+        this.min = min;
+        this.max = max;
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static LikesBucket of(int likesCount) {
+        for (LikesBucket bucket : values()) {
+            if (likesCount >= bucket.min && likesCount <= bucket.max) {
+                return bucket;
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+import com.levelupjourney.learningservice.courses.domain.model.valueobjects.DifficultyLevel;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Flattened guide or course as stored in the catalog index. difficultyLevel is null for guides.
+ */
+public record SearchDocument(
+        UUID id,
+        DocumentType type,
+        EntityStatus status,
+        String title,
+        String description,
+        Set<UUID> topicIds,
+        Set<String> topicNames,
+        Set<String> authorIds,
+        int likesCount,
+        DifficultyLevel difficultyLevel,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+import com.levelupjourney.learningservice.courses.domain.model.valueobjects.DifficultyLevel;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Number of matching guides or courses per topic, difficulty level, status and likes bucket.
+ * Values without matches are left out; difficultyLevels is empty for guides.
+ */
+public record SearchFacets(
+        long total,
+        Map<UUID, Long> topics,
+        Map<DifficultyLevel, Long> difficultyLevels,
+        Map<EntityStatus, Long> statuses,
+        Map<LikesBucket, Long> likes
+) {
+}
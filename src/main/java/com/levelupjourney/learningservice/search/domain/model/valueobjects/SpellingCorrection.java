@@ -0,0 +1,8 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+/**
+ * "Did you mean" alternative for search text; similarity is the mean trigram similarity of its
+ * words to the words typed (1 for words kept as typed).
+ */
+public record SpellingCorrection(String text, double similarity) {
+}
@@ -0,0 +1,15 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * A typeahead entry. weight is the likes count for guides and courses and the number of
+ * published guides and courses tagged with it for topics.
+ */
+public record Suggestion(
+        UUID id,
+        SuggestionType type,
+        String text,
+        long weight
+) {
+}
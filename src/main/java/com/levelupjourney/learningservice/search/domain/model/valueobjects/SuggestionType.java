@@ -0,0 +1,7 @@
+package com.levelupjourney.learningservice.search.domain.model.valueobjects;
+
+public enum SuggestionType {
+    GUIDE,
+    COURSE,
+    TOPIC
+}
@@ -0,0 +1,22 @@
+package com.levelupjourney.learningservice.search.domain.services;
+
+import com.levelupjourney.learningservice.search.domain.model.queries.GetCatalogFacetsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchCatalogQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import org.springframework.data.domain.Page;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CatalogSearchQueryService {
+    /**
+     * @return matching document IDs, or empty when the index is disabled or not built yet
+     *         so the caller can fall back to the database
+     */
+    Optional<Page<UUID>> handle(SearchCatalogQuery query);
+
+    /**
+     * @return facet counts, or empty when the index is disabled or not built yet
+     */
+    Optional<SearchFacets> handle(GetCatalogFacetsQuery query);
+}
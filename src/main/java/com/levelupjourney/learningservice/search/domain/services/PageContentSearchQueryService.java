@@ -0,0 +1,9 @@
+package com.levelupjourney.learningservice.search.domain.services;
+
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchPageContentQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.ContentMatch;
+import org.springframework.data.domain.Page;
+
+public interface PageContentSearchQueryService {
+    Page<ContentMatch> handle(SearchPageContentQuery query);
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.learningservice.search.domain.services;
+
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSpellingCorrectionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSuggestionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SpellingCorrection;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.Suggestion;
+
+import java.util.List;
+
+public interface SuggestionQueryService {
+    List<Suggestion> handle(GetSuggestionsQuery query);
+    List<SpellingCorrection> handle(GetSpellingCorrectionsQuery query);
+}
@@ -0,0 +1,67 @@
+package com.levelupjourney.learningservice.search.interfaces.actuator;
+
+import com.levelupjourney.learningservice.search.application.internal.index.CatalogIndexer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Actuator endpoint for the catalog search index.
+ * GET /actuator/searchindex returns size, freshness and the last rebuild failure; POST rebuilds it
+ * from the database on the application task executor and answers 202, or 409 while a rebuild
+ * triggered here is still running.
+ */
+@Component
+@Endpoint(id = "searchindex")
+public class SearchIndexEndpoint {
+
+    private final CatalogIndexer catalogIndexer;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean triggered = new AtomicBoolean();
+
+    public SearchIndexEndpoint(
+            CatalogIndexer catalogIndexer,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor
+    ) {
+        this.catalogIndexer = catalogIndexer;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @ReadOperation
+    public CatalogIndexer.Stats stats() {
+        return catalogIndexer.stats();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<CatalogIndexer.Stats> rebuild() {
+        if (!catalogIndexer.stats().enabled()) {
+            return new WebEndpointResponse<>(catalogIndexer.stats(), WebEndpointResponse.STATUS_OK);
+        }
+        if (!triggered.compareAndSet(false, true)) {
+            return new WebEndpointResponse<>(catalogIndexer.stats(), HttpStatus.CONFLICT.value());
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    catalogIndexer.rebuild();
+                } catch (RuntimeException e) {
+                    // Already logged and reported as lastRebuildFailure by the indexer
+                } finally {
+                    triggered.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            triggered.set(false);
+            return new WebEndpointResponse<>(catalogIndexer.stats(), WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return new WebEndpointResponse<>(catalogIndexer.stats(), HttpStatus.ACCEPTED.value());
+    }
+}
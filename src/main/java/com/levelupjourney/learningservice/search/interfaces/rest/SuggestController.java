@@ -0,0 +1,81 @@
+package com.levelupjourney.learningservice.search.interfaces.rest;
+
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSpellingCorrectionsQuery;
+import com.levelupjourney.learningservice.search.domain.model.queries.GetSuggestionsQuery;
+import com.levelupjourney.learningservice.search.domain.services.SuggestionQueryService;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.SpellingCorrectionResource;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.SuggestionResource;
+import com.levelupjourney.learningservice.search.interfaces.rest.transform.SuggestionResourceAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/suggest")
+@RequiredArgsConstructor
+@Tag(name = "Suggest", description = "Typeahead suggestions for guides, courses and topics")
+public class SuggestController {
+
+    private final SuggestionQueryService suggestionQueryService;
+
+    @GetMapping
+    @Operation(
+            summary = "Suggest titles and topics",
+            description = "Returns published guide and course titles and topic names containing a word that starts " +
+                    "with the given prefix, most popular first. Served from memory; no authentication required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SuggestionResource.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public ResponseEntity<List<SuggestionResource>> suggest(
+            @Parameter(description = "Text typed so far", example = "spri")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (capped by configuration)")
+            @RequestParam(required = false) Integer limit
+    ) {
+        var suggestions = suggestionQueryService.handle(new GetSuggestionsQuery(q, limit));
+        var resources = suggestions.stream()
+                .map(SuggestionResourceAssembler::toResourceFromValueObject)
+                .toList();
+        return ResponseEntity.ok(resources);
+    }
+
+    @GetMapping("/spelling")
+    @Operation(
+            summary = "Did you mean",
+            description = "Returns alternative spellings of search text, replacing words unknown to the catalog " +
+                    "with similar guide, course and topic words, best first. Empty when nothing needs correcting."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Corrections retrieved successfully",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SpellingCorrectionResource.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public ResponseEntity<List<SpellingCorrectionResource>> spelling(
+            @Parameter(description = "Search text", example = "sprng bot")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of corrections (capped by configuration)")
+            @RequestParam(required = false) Integer limit
+    ) {
+        var corrections = suggestionQueryService.handle(new GetSpellingCorrectionsQuery(q, limit));
+        var resources = corrections.stream()
+                .map(SuggestionResourceAssembler::toResourceFromValueObject)
+                .toList();
+        return ResponseEntity.ok(resources);
+    }
+}
@@ -0,0 +1,24 @@
+package com.levelupjourney.learningservice.search.interfaces.rest.resources;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A page of search results serialized like any other page plus a facets block, so clients that
+ * do not ask for facets see the same shape as before.
+ */
+public class FacetedPageResource<T> extends PageImpl<T> {
+
+    private final SearchFacetsResource facets;
+
+    public FacetedPageResource(Page<T> page, SearchFacetsResource facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public SearchFacetsResource getFacets() {
+        return facets;
+    }
+}
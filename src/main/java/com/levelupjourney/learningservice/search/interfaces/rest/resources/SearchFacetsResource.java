@@ -0,0 +1,25 @@
+package com.levelupjourney.learningservice.search.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Number of matching results per facet value; values without matches are omitted")
+public record SearchFacetsResource(
+        @Schema(description = "Total number of matching results", example = "42")
+        long total,
+
+        @Schema(description = "Matches per topic ID")
+        Map<UUID, Long> topics,
+
+        @Schema(description = "Matches per difficulty level (courses only)", example = "{\"BEGINNER\": 12, \"ADVANCED\": 3}")
+        Map<String, Long> difficultyLevels,
+
+        @Schema(description = "Matches per status", example = "{\"PUBLISHED\": 42}")
+        Map<String, Long> statuses,
+
+        @Schema(description = "Matches per likes range", example = "{\"0\": 10, \"1-9\": 20, \"10-49\": 12}")
+        Map<String, Long> likes
+) {
+}
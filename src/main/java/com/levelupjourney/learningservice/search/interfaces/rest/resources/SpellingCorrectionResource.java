@@ -0,0 +1,13 @@
+package com.levelupjourney.learningservice.search.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "\"Did you mean\" alternative for search text")
+public record SpellingCorrectionResource(
+        @Schema(description = "Corrected search text", example = "spring boot")
+        String text,
+
+        @Schema(description = "Mean trigram similarity to the text typed, between 0 and 1", example = "0.72")
+        double similarity
+) {
+}
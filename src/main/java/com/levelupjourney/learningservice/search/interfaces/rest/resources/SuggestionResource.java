@@ -0,0 +1,19 @@
+package com.levelupjourney.learningservice.search.interfaces.rest.resources;
+
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SuggestionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Typeahead suggestion")
+public record SuggestionResource(
+        @Schema(description = "Identifier of the guide, course or topic", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        @Schema(description = "Kind of entity suggested", example = "GUIDE")
+        SuggestionType type,
+
+        @Schema(description = "Title of the guide or course, or name of the topic", example = "Spring Boot Basics")
+        String text
+) {
+}
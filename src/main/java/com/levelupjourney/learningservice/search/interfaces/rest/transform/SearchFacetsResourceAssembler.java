@@ -0,0 +1,29 @@
+package com.levelupjourney.learningservice.search.interfaces.rest.transform;
+
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.LikesBucket;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchFacets;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.SearchFacetsResource;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class SearchFacetsResourceAssembler {
+
+    public static SearchFacetsResource toResourceFromValueObject(SearchFacets facets) {
+        Map<String, Long> difficultyLevels = new TreeMap<>();
+        facets.difficultyLevels().forEach((level, count) -> difficultyLevels.put(level.name(), count));
+
+        Map<String, Long> statuses = new TreeMap<>();
+        facets.statuses().forEach((status, count) -> statuses.put(status.name(), count));
+
+        // Buckets in ascending order of likes
+        Map<String, Long> likes = new LinkedHashMap<>();
+        Arrays.stream(LikesBucket.values())
+                .filter(facets.likes()::containsKey)
+                .forEach(bucket -> likes.put(bucket.label(), facets.likes().get(bucket)));
+
+        return new SearchFacetsResource(facets.total(), facets.topics(), difficultyLevels, statuses, likes);
+    }
+}
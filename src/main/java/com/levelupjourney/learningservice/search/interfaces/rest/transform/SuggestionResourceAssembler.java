@@ -0,0 +1,17 @@
+package com.levelupjourney.learningservice.search.interfaces.rest.transform;
+
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SpellingCorrection;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.Suggestion;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.SpellingCorrectionResource;
+import com.levelupjourney.learningservice.search.interfaces.rest.resources.SuggestionResource;
+
+public class SuggestionResourceAssembler {
+
+    public static SuggestionResource toResourceFromValueObject(Suggestion suggestion) {
+        return new SuggestionResource(suggestion.id(), suggestion.type(), suggestion.text());
+    }
+
+    public static SpellingCorrectionResource toResourceFromValueObject(SpellingCorrection correction) {
+        return new SpellingCorrectionResource(correction.text(), correction.similarity());
+    }
+}
@@ -0,0 +1,58 @@
+package com.levelupjourney.learningservice.shared.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Position of the last row returned by a listing ordered by (createdAt DESC, id DESC).
+ * Listings ranked by relevance first also carry the rank of that row (null otherwise).
+ * Clients only see the opaque encoded form and send it back to fetch the next page.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id, Double rank) {
+
+    private static final String SEPARATOR = "|";
+
+    public KeysetCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires both createdAt and id");
+        }
+    }
+
+    public KeysetCursor(LocalDateTime createdAt, UUID id) {
+        this(createdAt, id, null);
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id + (rank != null ? SEPARATOR + rank : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from a client
+     * @param cursor the opaque cursor, may be null or blank for the first page
+     * @return the decoded cursor or null when no cursor was given
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(parts[0]),
+                    UUID.fromString(parts[1]),
+                    parts.length == 3 ? Double.valueOf(parts[2]) : null
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
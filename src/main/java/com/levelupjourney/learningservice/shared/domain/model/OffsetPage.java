@@ -0,0 +1,28 @@
+package com.levelupjourney.learningservice.shared.domain.model;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a page-numbered listing fetched without a count query: hasNext comes from reading
+ * one row past the page. total is null when the caller asked for no total.
+ */
+public record OffsetPage<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        TotalCount total
+) {
+
+    public static <T> OffsetPage<T> of(Slice<T> slice, TotalCount total) {
+        return new OffsetPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+
+    public <R> OffsetPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new OffsetPage<>(mapped, page, size, hasNext, total);
+    }
+}
@@ -0,0 +1,16 @@
+package com.levelupjourney.learningservice.shared.domain.model;
+
+/**
+ * Total number of rows matching a listing; exact is false when it comes from a cached count
+ * that may lag behind recent changes.
+ */
+public record TotalCount(long elements, boolean exact) {
+
+    public static TotalCount exact(long elements) {
+        return new TotalCount(elements, true);
+    }
+
+    public static TotalCount approximate(long elements) {
+        return new TotalCount(elements, false);
+    }
+}
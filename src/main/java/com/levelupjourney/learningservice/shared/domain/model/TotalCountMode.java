@@ -0,0 +1,12 @@
+package com.levelupjourney.learningservice.shared.domain.model;
+
+/**
+ * How a page-numbered listing reports its total.
+ * EXACT counts on every request, APPROXIMATE serves a periodically refreshed count per filter,
+ * NONE only probes whether a next page exists.
+ */
+public enum TotalCountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
@@ -0,0 +1,133 @@
+package com.levelupjourney.learningservice.shared.infrastructure.persistence.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCount;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals for paged listings without a COUNT per request.
+ * Counts are cached per filter key; once older than the TTL the stale value keeps being served
+ * while a background thread recounts, so only the first request for a key ever waits on a count.
+ * Keys not requested for a while are dropped. Hit/miss statistics are published as the
+ * "pagination.approximate-counts" cache metrics.
+ */
+@Slf4j
+@Component
+public class ApproximateCountCache {
+
+    private static final class Entry {
+        private final long count;
+        private final long countedAtNanos;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(long count, long countedAtNanos) {
+            this.count = count;
+            this.countedAtNanos = countedAtNanos;
+        }
+    }
+
+    private final Cache<String, Entry> counts;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final long ttlNanos;
+
+    public ApproximateCountCache(
+            MeterRegistry meterRegistry,
+            @Value("${application.pagination.approximate-count.ttl:60s}") Duration ttl,
+            @Value("${application.pagination.approximate-count.max-keys:10000}") long maxKeys,
+            @Value("${application.pagination.approximate-count.expire-after-access:30m}") Duration expireAfterAccess,
+            @Value("${application.pagination.approximate-count.refresh-threads:2}") int refreshThreads
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "pagination.approximate-counts");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Bounded queue: when counts pile up, stale values are served a little longer instead
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshThreads * 64), runnable -> {
+                    Thread thread = new Thread(runnable, "approximate-count-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Total for one page of a listing according to the requested mode.
+     * A page that reached the end of the listing already gives the exact total, so no count runs;
+     * otherwise EXACT counts now, APPROXIMATE reads the cache and NONE returns null.
+     *
+     * @param key     identifies the listing and its filters; equal keys must count the same rows
+     * @param counter exact count of the listing; must not depend on the current request or transaction
+     */
+    public TotalCount total(TotalCountMode mode, Slice<?> slice, String key, LongSupplier counter) {
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            long total = slice.getPageable().isPaged()
+                    ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                    : slice.getNumberOfElements();
+            counts.put(key, new Entry(total, System.nanoTime()));
+            return TotalCount.exact(total);
+        }
+        return switch (mode) {
+            case EXACT -> TotalCount.exact(counter.getAsLong());
+            case APPROXIMATE -> approximate(key, counter);
+            case NONE -> null;
+        };
+    }
+
+    /**
+     * Cached count for the key; counted synchronously (and reported exact) on a miss
+     */
+    public TotalCount approximate(String key, LongSupplier counter) {
+        Entry entry = counts.getIfPresent(key);
+        if (entry == null) {
+            long count = counter.getAsLong();
+            counts.put(key, new Entry(count, System.nanoTime()));
+            return TotalCount.exact(count);
+        }
+        if (System.nanoTime() - entry.countedAtNanos > ttlNanos && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry, counter);
+        }
+        return TotalCount.approximate(entry.count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refresh(String key, Entry stale, LongSupplier counter) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    counts.asMap().replace(key, stale, new Entry(counter.getAsLong(), System.nanoTime()));
+                } catch (RuntimeException e) {
+                    stale.refreshing.set(false);
+                    log.warn("Count refresh for {} failed: {}", key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.levelupjourney.learningservice.shared.infrastructure.persistence.search;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL full-text search over title and description of guides and courses.
+ * <p>
+ * The search objects are created once per database by full_text_search_schema.sql, run by a role
+ * that may create extensions: a stored generated {@code search_vector} (title weighted above
+ * description, unaccented, 'simple' configuration so Spanish and English terms are both kept as
+ * typed) with a GIN index. On startup this class only checks that they exist, so instances never
+ * run DDL. When the database is not PostgreSQL (H2 in tests), the columns are missing or the
+ * feature is switched off, {@link #isAvailable()} is false and callers use LIKE queries.
+ * <p>
+ * pg_trgm trigram indexes on guide titles and topic names back typo-tolerant matching. They are
+ * optional, so a database without pg_trgm still gets full-text search;
+ * {@link #isTrigramAvailable()} reports whether they exist.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class FullTextSearchSupport {
+
+    /**
+     * tsquery expression for the bind parameter {@code :tsQuery} built by {@link #toPrefixTsQuery}
+     */
+    public static final String TS_QUERY_SQL = "to_tsquery('simple', immutable_unaccent(:tsQuery))";
+
+    private static final int MAX_TERMS = 8;
+
+    private static final String COUNT_SEARCH_COLUMNS_SQL = """
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name IN ('guides', 'courses')
+            AND column_name = 'search_vector'
+            """;
+    private static final String COUNT_TRIGRAM_INDEXES_SQL = """
+            SELECT COUNT(*) FROM pg_indexes
+            WHERE schemaname = current_schema() AND indexname IN ('idx_guides_title_trgm', 'idx_topics_name_trgm')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean fuzzyEnabled;
+    private volatile boolean available;
+    private volatile boolean trigramAvailable;
+
+    public FullTextSearchSupport(
+            JdbcTemplate jdbcTemplate,
+            @Value("${application.search.full-text.enabled:true}") boolean enabled,
+            @Value("${application.search.fuzzy.enabled:true}") boolean fuzzyEnabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.fuzzyEnabled = fuzzyEnabled;
+    }
+
+    @PostConstruct
+    void detectSchema() {
+        if (!enabled || !isPostgres()) {
+            log.info("Full-text search disabled, using LIKE matching");
+            return;
+        }
+        available = count(COUNT_SEARCH_COLUMNS_SQL) == 2;
+        if (!available) {
+            log.warn("Full-text search columns not found, using LIKE matching; run full_text_search_schema.sql");
+            return;
+        }
+        log.info("Full-text search enabled for guides and courses");
+        if (!fuzzyEnabled) {
+            return;
+        }
+        trigramAvailable = count(COUNT_TRIGRAM_INDEXES_SQL) == 2;
+        if (trigramAvailable) {
+            log.info("Trigram indexes ready for fuzzy guide search");
+        } else {
+            log.warn("Trigram indexes not found, fuzzy search uses spelling corrections; run full_text_search_schema.sql");
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public boolean isTrigramAvailable() {
+        return trigramAvailable;
+    }
+
+    /**
+     * Turns free text into a prefix tsquery ({@code "spring boo" -> "spring:* & boo:*"}), keeping only
+     * letters and digits so user input can never produce tsquery syntax errors.
+     * @return the tsquery text, or null when the input has no searchable terms
+     */
+    public static String toPrefixTsQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        String query = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+
+    /**
+     * Folded form of a column or bind parameter that the trigram indexes are built on
+     */
+    public static String trigramText(String expression) {
+        return "lower(immutable_unaccent(" + expression + "))";
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -63,13 +63,15 @@ public class SecurityConfiguration {
                                 "/webjars/**"
                         ).permitAll()
                         
-                        // Actuator endpoints
+                        // Actuator endpoints (operations that change state are admin only)
+                        .requestMatchers(HttpMethod.POST, "/actuator/**").hasAuthority("ROLE_ADMIN")
                         .requestMatchers("/actuator/**").permitAll()
                         
                         // Public read endpoints for guides, courses, and topics
                         .requestMatchers(HttpMethod.GET, "/api/v1/guides/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/courses/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/topics/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/suggest/**").permitAll()
                         
                         // All other requests require authentication
                         .anyRequest().authenticated()
@@ -0,0 +1,42 @@
+package com.levelupjourney.learningservice.shared.infrastructure.web;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builds HTTP validators from version components, for use with
+ * {@link org.springframework.web.context.request.WebRequest#checkNotModified(String, long)}.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * Strong ETag (quoted digest) over the given components; nulls are part of the value
+     */
+    public static String strong(Object... components) {
+        String joined = Arrays.stream(components)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Latest of the given audit timestamps as epoch millis, or -1 when none is set.
+     * Auditing stores LocalDateTime in the JVM zone, so the same zone is used to read it back.
+     */
+    public static long lastModified(LocalDateTime... timestamps) {
+        return Arrays.stream(timestamps)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(latest -> latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(-1L);
+    }
+}
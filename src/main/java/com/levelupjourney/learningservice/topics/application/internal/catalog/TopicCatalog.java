@@ -0,0 +1,116 @@
+package com.levelupjourney.learningservice.topics.application.internal.catalog;
+
+import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.events.TopicChangedEvent;
+import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves topic lookups, validation and listing from an in-memory {@link TopicCatalogSnapshot}.
+ * Topics are a small, rarely changing set, so every change reloads the whole list once and swaps
+ * the snapshot atomically; readers never lock and never see a half-applied change.
+ * <p>
+ * Changes made through this instance reload right after commit. Changes made elsewhere (another
+ * instance, SQL) are picked up by a scheduled version check, or immediately when a lookup misses.
+ */
+@Slf4j
+@Component
+public class TopicCatalog {
+
+    private final TopicRepository topicRepository;
+    private final TransactionTemplate loadTransaction;
+    private final AtomicReference<TopicCatalogSnapshot> snapshot = new AtomicReference<>();
+
+    public TopicCatalog(
+            TopicRepository topicRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.topicRepository = topicRepository;
+        // Loads in a persistence context of its own, so snapshot topics are detached as soon as they are read
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        Gauge.builder("topics.catalog.size", snapshot, current -> current.get() != null ? current.get().size() : 0)
+                .description("Topics in the in-memory topic catalog")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Current snapshot, loaded on first use
+     */
+    public TopicCatalogSnapshot snapshot() {
+        TopicCatalogSnapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Topics with the given IDs; unknown IDs are left out, so callers compare sizes to validate.
+     * A miss triggers one version check in case the topic was created outside this instance.
+     */
+    public List<Topic> findAllById(Collection<UUID> ids) {
+        List<Topic> topics = lookup(snapshot(), ids);
+        if (topics.size() < ids.size() && refreshIfStale()) {
+            topics = lookup(snapshot(), ids);
+        }
+        return topics;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopicChanged(TopicChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${application.topics.catalog.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (snapshot.get() != null) {
+            refreshIfStale();
+        }
+    }
+
+    /**
+     * Reloads when the database no longer matches the snapshot
+     * @return true when a new snapshot was swapped in
+     */
+    private boolean refreshIfStale() {
+        if (snapshot().matches(topicRepository.findTopicsVersion())) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    private synchronized TopicCatalogSnapshot reload() {
+        TopicCatalogSnapshot next = loadTransaction.execute(status -> TopicCatalogSnapshot.of(topicRepository.findAll()));
+        TopicCatalogSnapshot previous = snapshot.getAndSet(next);
+        if (previous == null || previous.version() != next.version()) {
+            log.debug("Topic catalog loaded: {} topics, version {}", next.size(), next.version());
+        }
+        return next;
+    }
+
+    private static List<Topic> lookup(TopicCatalogSnapshot snapshot, Collection<UUID> ids) {
+        List<Topic> topics = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Topic topic = snapshot.byId(id);
+            if (topic != null) {
+                topics.add(topic);
+            }
+        }
+        return topics;
+    }
+}
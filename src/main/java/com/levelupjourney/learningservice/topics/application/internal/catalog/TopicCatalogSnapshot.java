@@ -0,0 +1,95 @@
+package com.levelupjourney.learningservice.topics.application.internal.catalog;
+
+import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.projections.TopicsVersion;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of every topic, indexed by ID and by name.
+ * The topics are detached entities shared between threads and must be treated as read-only;
+ * they can still be attached to guide and course associations, which only need the ID.
+ * <p>
+ * version is a fingerprint of the (ID, entity version) pairs: every instance holding the same
+ * topics reports the same number, and any create, rename or delete changes it.
+ */
+public final class TopicCatalogSnapshot {
+
+    private final List<Topic> topics;
+    private final Map<UUID, Topic> byId;
+    private final Map<String, Topic> byName;
+    private final TopicsVersion source;
+    private final long version;
+
+    private TopicCatalogSnapshot(List<Topic> topics) {
+        this.topics = topics.stream()
+                .sorted(Comparator.comparing(Topic::getName))
+                .toList();
+        this.byId = topics.stream().collect(Collectors.toUnmodifiableMap(Topic::getId, Function.identity()));
+        this.byName = topics.stream().collect(Collectors.toUnmodifiableMap(Topic::getName, Function.identity()));
+        this.source = new TopicsVersion(
+                (long) topics.size(),
+                topics.stream().mapToLong(topic -> Objects.requireNonNullElse(topic.getVersion(), 0L)).sum(),
+                topics.stream().map(Topic::getUpdatedAt).filter(Objects::nonNull)
+                        .max(LocalDateTime::compareTo).orElse(null));
+        this.version = fingerprint(topics);
+    }
+
+    static TopicCatalogSnapshot of(List<Topic> topics) {
+        return new TopicCatalogSnapshot(topics);
+    }
+
+    /**
+     * All topics ordered by name
+     */
+    public List<Topic> topics() {
+        return topics;
+    }
+
+    public Topic byId(UUID id) {
+        return byId.get(id);
+    }
+
+    public Topic byName(String name) {
+        return byName.get(name);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return topics.size();
+    }
+
+    public LocalDateTime lastUpdatedAt() {
+        return source.lastUpdatedAt();
+    }
+
+    /**
+     * Whether the database still holds the topics this snapshot was built from
+     */
+    boolean matches(TopicsVersion current) {
+        return Objects.equals(source.topicsCount(), current.topicsCount())
+                && Objects.equals(source.versionSum(), current.versionSum())
+                && Objects.equals(source.lastUpdatedAt(), current.lastUpdatedAt());
+    }
+
+    private static long fingerprint(List<Topic> topics) {
+        return topics.stream()
+                .sorted(Comparator.comparing(Topic::getId))
+                .mapToLong(topic -> {
+                    UUID id = topic.getId();
+                    long entityVersion = Objects.requireNonNullElse(topic.getVersion(), 0L);
+                    return id.getMostSignificantBits() * 31 + id.getLeastSignificantBits() * 17 + entityVersion;
+                })
+                .reduce(1L, (hash, element) -> hash * 1_000_003L ^ element);
+    }
+}
@@ -6,9 +6,11 @@ import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
 import com.levelupjourney.learningservice.topics.domain.model.commands.CreateTopicCommand;
 import com.levelupjourney.learningservice.topics.domain.model.commands.DeleteTopicCommand;
 import com.levelupjourney.learningservice.topics.domain.model.commands.UpdateTopicCommand;
+import com.levelupjourney.learningservice.topics.domain.model.events.TopicChangedEvent;
 import com.levelupjourney.learningservice.topics.domain.services.TopicCommandService;
 import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ import java.util.Optional;
 public class TopicCommandServiceImpl implements TopicCommandService {
 
     private final TopicRepository topicRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -29,6 +32,7 @@ public class TopicCommandServiceImpl implements TopicCommandService {
 
         var topic = new Topic(command.name());
         var savedTopic = topicRepository.save(topic);
+        eventPublisher.publishEvent(new TopicChangedEvent(savedTopic.getId()));
         return Optional.of(savedTopic);
     }
 
@@ -46,6 +50,7 @@ public class TopicCommandServiceImpl implements TopicCommandService {
         }
 
         var updatedTopic = topicRepository.save(topic);
+        eventPublisher.publishEvent(new TopicChangedEvent(updatedTopic.getId()));
         return Optional.of(updatedTopic);
     }
 
@@ -56,5 +61,6 @@ public class TopicCommandServiceImpl implements TopicCommandService {
             throw new ResourceNotFoundException("Topic not found with id: " + command.topicId());
         }
         topicRepository.deleteById(command.topicId());
+        eventPublisher.publishEvent(new TopicChangedEvent(command.topicId()));
     }
 }
@@ -1,39 +1,46 @@
 package com.levelupjourney.learningservice.topics.application.internal.queryservices;
 
+import com.levelupjourney.learningservice.topics.application.internal.catalog.TopicCatalog;
 import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.projections.TopicCatalogVersion;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetAllTopicsQuery;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicByIdQuery;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicByNameQuery;
+import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicsVersionQuery;
 import com.levelupjourney.learningservice.topics.domain.services.TopicQueryService;
-import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Answers every topic query from the {@link TopicCatalog} snapshot, without a database round trip
+ */
 @Service
 @RequiredArgsConstructor
 public class TopicQueryServiceImpl implements TopicQueryService {
 
-    private final TopicRepository topicRepository;
+    private final TopicCatalog topicCatalog;
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Topic> handle(GetTopicByIdQuery query) {
-        return topicRepository.findById(query.topicId());
+        return Optional.ofNullable(topicCatalog.snapshot().byId(query.topicId()));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Topic> handle(GetTopicByNameQuery query) {
-        return topicRepository.findByName(query.name());
+        return Optional.ofNullable(topicCatalog.snapshot().byName(query.name()));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Topic> handle(GetAllTopicsQuery query) {
-        return topicRepository.findAll();
+        return topicCatalog.snapshot().topics();
+    }
+
+    @Override
+    public TopicCatalogVersion handle(GetTopicsVersionQuery query) {
+        var snapshot = topicCatalog.snapshot();
+        return new TopicCatalogVersion(snapshot.version(), snapshot.size(), snapshot.lastUpdatedAt());
     }
 }
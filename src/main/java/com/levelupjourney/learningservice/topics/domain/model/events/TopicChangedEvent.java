@@ -0,0 +1,10 @@
+package com.levelupjourney.learningservice.topics.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published when a topic is created, renamed or deleted.
+ * Read-side views holding topic names listen to it; it is not sent to Kafka.
+ */
+public record TopicChangedEvent(UUID topicId) {
+}
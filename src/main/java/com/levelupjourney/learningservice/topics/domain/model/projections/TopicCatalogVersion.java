@@ -0,0 +1,14 @@
+package com.levelupjourney.learningservice.topics.domain.model.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of the in-memory topic catalog exposed to clients for caching.
+ * version is equal on every instance holding the same topics and changes on any create, rename or delete.
+ */
+public record TopicCatalogVersion(
+        long version,
+        int topicsCount,
+        LocalDateTime lastUpdatedAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.learningservice.topics.domain.model.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version-only view of the whole topic list used to answer conditional GETs.
+ */
+public record TopicsVersion(
+        Long topicsCount,
+        Long versionSum,
+        LocalDateTime lastUpdatedAt
+) {
+}
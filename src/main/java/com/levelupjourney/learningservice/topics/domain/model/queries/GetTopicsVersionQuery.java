@@ -0,0 +1,4 @@
+package com.levelupjourney.learningservice.topics.domain.model.queries;
+
+public record GetTopicsVersionQuery() {
+}
@@ -1,9 +1,11 @@
 package com.levelupjourney.learningservice.topics.domain.services;
 
 import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.projections.TopicCatalogVersion;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetAllTopicsQuery;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicByIdQuery;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicByNameQuery;
+import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicsVersionQuery;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +14,5 @@ public interface TopicQueryService {
     Optional<Topic> handle(GetTopicByIdQuery query);
     Optional<Topic> handle(GetTopicByNameQuery query);
     List<Topic> handle(GetAllTopicsQuery query);
+    TopicCatalogVersion handle(GetTopicsVersionQuery query);
 }
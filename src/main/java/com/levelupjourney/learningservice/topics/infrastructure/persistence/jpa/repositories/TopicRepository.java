@@ -1,7 +1,9 @@
 package com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories;
 
 import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.projections.TopicsVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,8 @@ import java.util.UUID;
 public interface TopicRepository extends JpaRepository<Topic, UUID> {
     Optional<Topic> findByName(String name);
     boolean existsByName(String name);
+
+    @Query("SELECT new com.levelupjourney.learningservice.topics.domain.model.projections.TopicsVersion(" +
+           "COUNT(t), COALESCE(SUM(t.version), 0L), MAX(t.updatedAt)) FROM Topic t")
+    TopicsVersion findTopicsVersion();
 }
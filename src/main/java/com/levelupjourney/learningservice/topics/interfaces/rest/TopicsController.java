@@ -1,13 +1,16 @@
 package com.levelupjourney.learningservice.topics.interfaces.rest;
 
 import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
+import com.levelupjourney.learningservice.shared.infrastructure.web.EntityTags;
 import com.levelupjourney.learningservice.topics.domain.model.commands.DeleteTopicCommand;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetAllTopicsQuery;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicByIdQuery;
 import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicByNameQuery;
+import com.levelupjourney.learningservice.topics.domain.model.queries.GetTopicsVersionQuery;
 import com.levelupjourney.learningservice.topics.domain.services.TopicCommandService;
 import com.levelupjourney.learningservice.topics.domain.services.TopicQueryService;
 import com.levelupjourney.learningservice.topics.interfaces.rest.resources.CreateTopicResource;
+import com.levelupjourney.learningservice.topics.interfaces.rest.resources.TopicCatalogVersionResource;
 import com.levelupjourney.learningservice.topics.interfaces.rest.resources.TopicResource;
 import com.levelupjourney.learningservice.topics.interfaces.rest.resources.UpdateTopicResource;
 import com.levelupjourney.learningservice.topics.interfaces.rest.transform.TopicResourceAssembler;
@@ -24,6 +27,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -34,24 +38,50 @@ import java.util.UUID;
 @Tag(name = "Topics", description = "Topic management endpoints")
 public class TopicsController {
 
+    private static final String TOPICS_VERSION_HEADER = "X-Topics-Version";
+
     private final TopicCommandService topicCommandService;
     private final TopicQueryService topicQueryService;
 
     @GetMapping
     @Operation(
             summary = "Get all topics",
-            description = "Retrieves a list of all available topics. No authentication required."
+            description = "Retrieves a list of all available topics ordered by name. No authentication required. " +
+                    "Responses carry ETag, Last-Modified and X-Topics-Version; If-None-Match returns 304 when unchanged."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Topics retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = TopicResource.class)))
+                    content = @Content(schema = @Schema(implementation = TopicResource.class))),
+            @ApiResponse(responseCode = "304", description = "Topics not modified since the given ETag")
     })
-    public ResponseEntity<List<TopicResource>> getAllTopics() {
+    public ResponseEntity<List<TopicResource>> getAllTopics(WebRequest webRequest) {
+        var version = topicQueryService.handle(new GetTopicsVersionQuery());
+        String eTag = EntityTags.strong("topics", version.version());
+        if (webRequest.checkNotModified(eTag, EntityTags.lastModified(version.lastUpdatedAt()))) {
+            return null;
+        }
         var topics = topicQueryService.handle(new GetAllTopicsQuery());
         var resources = topics.stream()
                 .map(TopicResourceAssembler::toResourceFromEntity)
                 .toList();
-        return ResponseEntity.ok(resources);
+        return ResponseEntity.ok()
+                .header(TOPICS_VERSION_HEADER, String.valueOf(version.version()))
+                .body(resources);
+    }
+
+    @GetMapping("/version")
+    @Operation(
+            summary = "Get the topic catalog version",
+            description = "Returns the current version of the topic list, so clients can keep a cached copy " +
+                    "and only refetch `GET /api/v1/topics` when the version changes. No authentication required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Version retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TopicCatalogVersionResource.class)))
+    })
+    public ResponseEntity<TopicCatalogVersionResource> getTopicsVersion() {
+        var version = topicQueryService.handle(new GetTopicsVersionQuery());
+        return ResponseEntity.ok(TopicResourceAssembler.toResourceFromVersion(version));
     }
 
     @GetMapping("/{topicId}")
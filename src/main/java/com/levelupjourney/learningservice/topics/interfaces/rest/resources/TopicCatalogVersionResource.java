@@ -0,0 +1,18 @@
+package com.levelupjourney.learningservice.topics.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Version of the topic list, for client-side caching")
+public record TopicCatalogVersionResource(
+        @Schema(description = "Changes whenever a topic is created, renamed or deleted", example = "-4127365120938475612")
+        long version,
+        
+        @Schema(description = "Number of topics", example = "42")
+        int topicsCount,
+        
+        @Schema(description = "Latest topic update timestamp")
+        LocalDateTime lastUpdatedAt
+) {
+}
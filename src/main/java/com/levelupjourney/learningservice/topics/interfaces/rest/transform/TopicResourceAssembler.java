@@ -3,7 +3,9 @@ package com.levelupjourney.learningservice.topics.interfaces.rest.transform;
 import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
 import com.levelupjourney.learningservice.topics.domain.model.commands.CreateTopicCommand;
 import com.levelupjourney.learningservice.topics.domain.model.commands.UpdateTopicCommand;
+import com.levelupjourney.learningservice.topics.domain.model.projections.TopicCatalogVersion;
 import com.levelupjourney.learningservice.topics.interfaces.rest.resources.CreateTopicResource;
+import com.levelupjourney.learningservice.topics.interfaces.rest.resources.TopicCatalogVersionResource;
 import com.levelupjourney.learningservice.topics.interfaces.rest.resources.TopicResource;
 import com.levelupjourney.learningservice.topics.interfaces.rest.resources.UpdateTopicResource;
 
@@ -27,4 +29,12 @@ public class TopicResourceAssembler {
                 entity.getUpdatedAt()
         );
     }
+
+    public static TopicCatalogVersionResource toResourceFromVersion(TopicCatalogVersion version) {
+        return new TopicCatalogVersionResource(
+                version.version(),
+                version.topicsCount(),
+                version.lastUpdatedAt()
+        );
+    }
 }
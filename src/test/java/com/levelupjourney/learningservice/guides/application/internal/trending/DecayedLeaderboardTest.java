@@ -0,0 +1,103 @@
+package com.levelupjourney.learningservice.guides.application.internal.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Unit Test: time-decayed leaderboard")
+class DecayedLeaderboardTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long START = 1_700_000_000_000L;
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @Test
+    @DisplayName("A score halves every half-life")
+    void scoreHalvesEveryHalfLife() {
+        var leaderboard = new DecayedLeaderboard(HOUR, START);
+        leaderboard.add(first, 8, START);
+
+        assertThat(leaderboard.top(1, START + HOUR).get(0).score()).isCloseTo(4, within(1e-9));
+        assertThat(leaderboard.top(1, START + 3 * HOUR).get(0).score()).isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Recent activity outranks larger but older activity")
+    void recentActivityOutranksOlderActivity() {
+        var leaderboard = new DecayedLeaderboard(HOUR, START);
+        leaderboard.add(first, 10, START);
+        leaderboard.add(second, 6, START + 2 * HOUR);
+
+        var top = leaderboard.top(2, START + 2 * HOUR);
+
+        assertThat(top).extracting(DecayedLeaderboard.Score::guideId).containsExactly(second, first);
+        assertThat(top.get(1).score()).isCloseTo(2.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Activity added at a past time is decayed for the time since")
+    void pastActivityIsDecayed() {
+        var leaderboard = new DecayedLeaderboard(HOUR, START + 2 * HOUR);
+        leaderboard.add(first, 4, START);
+
+        assertThat(leaderboard.top(1, START + 2 * HOUR).get(0).score()).isCloseTo(1, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Retracting weight lowers a score and drops the guide once it reaches zero")
+    void retractionDropsGuideAtZero() {
+        var leaderboard = new DecayedLeaderboard(HOUR, START);
+        leaderboard.add(first, 3, START);
+        leaderboard.add(second, 2, START);
+
+        leaderboard.add(first, -3, START);
+
+        assertThat(leaderboard.size()).isEqualTo(1);
+        assertThat(leaderboard.top(10, START)).extracting(DecayedLeaderboard.Score::guideId).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Without a half-life scores never decay")
+    void zeroHalfLifeDisablesDecay() {
+        var leaderboard = new DecayedLeaderboard(0, START);
+        leaderboard.add(first, 5, START);
+
+        assertThat(leaderboard.top(1, START + 1000 * HOUR).get(0).score()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Re-basing keeps the snapshot scores and drops the ones that decayed to nothing")
+    void rebaseKeepsScoresAndDropsNegligibleOnes() {
+        var leaderboard = new DecayedLeaderboard(HOUR, START);
+        leaderboard.add(first, 1024, START);
+        leaderboard.add(second, 1, START);
+        long later = START + 12 * HOUR;
+
+        var before = leaderboard.scores(later);
+        leaderboard.rebase(later);
+
+        assertThat(before).hasSize(2);
+        assertThat(leaderboard.scores(later)).extracting(DecayedLeaderboard.Score::guideId).containsExactly(first);
+        assertThat(leaderboard.scores(later).get(0).score()).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Scores stay exact far beyond the point where the inflation factor is re-based")
+    void longRunsRebaseAutomatically() {
+        var leaderboard = new DecayedLeaderboard(HOUR, START);
+        long now = START;
+        for (int i = 0; i < 100; i++) {
+            now += HOUR;
+            leaderboard.add(first, 1, now);
+        }
+
+        // Geometric series 1 + 1/2 + 1/4 + ... approaches 2
+        assertThat(leaderboard.top(1, now).get(0).score()).isCloseTo(2, within(1e-6));
+    }
+}
@@ -0,0 +1,85 @@
+package com.levelupjourney.learningservice.guides.domain.model.aggregates;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Test: page sort keys and positions")
+class PageTest {
+
+    private static final int GAP = Page.SORT_KEY_GAP;
+
+    @Test
+    @DisplayName("The first page of an empty guide takes a full gap")
+    void firstKeyOfEmptyGuide() {
+        assertThat(Page.sortKeyBetween(null, null)).hasValue(GAP);
+    }
+
+    @Test
+    @DisplayName("Appending takes a full gap after the last key")
+    void appendTakesFullGap() {
+        assertThat(Page.sortKeyBetween(3 * GAP, null)).hasValue(4 * GAP);
+    }
+
+    @Test
+    @DisplayName("Inserting halves the gap between the neighbours, at the front too")
+    void insertHalvesTheGap() {
+        assertThat(Page.sortKeyBetween(GAP, 2 * GAP)).hasValue(GAP + GAP / 2);
+        assertThat(Page.sortKeyBetween(null, GAP)).hasValue(GAP / 2);
+        assertThat(Page.sortKeyBetween(5, 7)).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("Adjacent neighbours leave no key, which calls for a rebalance")
+    void adjacentKeysLeaveNoRoom() {
+        assertThat(Page.sortKeyBetween(5, 6)).isEmpty();
+        assertThat(Page.sortKeyBetween(null, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A page between its neighbours' keys is already at that position")
+    void pageBetweenNeighboursStaysPut() {
+        var page = new Page("Content", 2);
+
+        assertThat(page.isBetween(GAP, 3 * GAP)).isTrue();
+        assertThat(page.isBetween(null, null)).isTrue();
+        assertThat(page.isBetween(null, 2 * GAP)).isFalse();
+        assertThat(page.isBetween(2 * GAP, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Keys never overflow an int")
+    void appendNearIntegerLimitIsEmpty() {
+        assertThat(Page.sortKeyBetween(Integer.MAX_VALUE - 1, null)).isEmpty();
+        assertThat(Page.sortKeyBetween(Integer.MAX_VALUE - 4, Integer.MAX_VALUE)).hasValue(Integer.MAX_VALUE - 2);
+    }
+
+    @Test
+    @DisplayName("Repeated inserts at the same spot run out of keys after log2(gap) inserts")
+    void repeatedInsertsExhaustTheGap() {
+        Integer after = GAP;
+        int inserts = 0;
+        OptionalInt key;
+        while ((key = Page.sortKeyBetween(null, after)).isPresent()) {
+            after = key.getAsInt();
+            inserts++;
+        }
+
+        assertThat(inserts).isEqualTo(Integer.numberOfTrailingZeros(GAP));
+    }
+
+    @Test
+    @DisplayName("Pages read in key order are numbered 1 to n")
+    void numberInOrderAssignsDensePositions() {
+        var pages = List.of(new Page("First", 7), new Page("Second", 2), new Page("Third", 9));
+
+        Page.numberInOrder(pages);
+
+        assertThat(pages).extracting(Page::getOrderNumber).containsExactly(1, 2, 3);
+        assertThat(pages).extracting(Page::getSortKey).containsExactly(7 * GAP, 2 * GAP, 9 * GAP);
+    }
+}
@@ -0,0 +1,89 @@
+package com.levelupjourney.learningservice.guides.infrastructure.persistence.codec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Test: page content codec")
+class PageContentCodecTest {
+
+    private static final int MIN_SIZE = 512;
+
+    private final PageContentCodec codec = codec(true);
+
+    @Test
+    @DisplayName("Long repetitive bodies are deflated and decode back to the same text")
+    void longBodiesAreDeflated() {
+        String content = "## Streams\n\nUse `map` and `filter` — ñandú, canción. ".repeat(100);
+
+        byte[] stored = codec.encode(content);
+
+        assertThat(stored[0]).isEqualTo(PageContentCodec.FORMAT_DEFLATE);
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(codec.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("Bodies below the minimum size are stored plain behind the format byte")
+    void shortBodiesAreStoredPlain() {
+        String content = "Short page — ñ";
+
+        byte[] stored = codec.encode(content);
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        assertThat(stored[0]).isEqualTo(PageContentCodec.FORMAT_PLAIN);
+        assertThat(stored).hasSize(raw.length + 1);
+        assertThat(codec.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("The minimum size is measured in UTF-8 bytes")
+    void minimumSizeIsInclusive() {
+        assertThat(codec.encode("a".repeat(MIN_SIZE - 1))[0]).isEqualTo(PageContentCodec.FORMAT_PLAIN);
+        assertThat(codec.encode("a".repeat(MIN_SIZE))[0]).isEqualTo(PageContentCodec.FORMAT_DEFLATE);
+        // 2 bytes per character in UTF-8
+        assertThat(codec.encode("ñ".repeat(MIN_SIZE / 2))[0]).isEqualTo(PageContentCodec.FORMAT_DEFLATE);
+    }
+
+    @Test
+    @DisplayName("Both formats stay readable when compression is switched off")
+    void disabledCodecReadsBothFormats() {
+        String content = "Repeated paragraph. ".repeat(100);
+        byte[] deflated = codec.encode(content);
+        PageContentCodec plainCodec = codec(false);
+
+        byte[] stored = plainCodec.encode(content);
+
+        assertThat(stored[0]).isEqualTo(PageContentCodec.FORMAT_PLAIN);
+        assertThat(plainCodec.decode(deflated)).isEqualTo(content);
+        assertThat(plainCodec.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("The stream form inflates to the same bytes as the decoded text")
+    void openStreamsTheDecodedText() throws IOException {
+        String content = "Line of page content\n".repeat(200);
+
+        try (InputStream in = codec.open(codec.encode(content))) {
+            assertThat(in.readAllBytes()).isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Empty or unknown stored forms are rejected")
+    void invalidStoredFormsAreRejected() {
+        assertThatThrownBy(() -> codec.decode(new byte[0])).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[]{7, 'a'})).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static PageContentCodec codec(boolean enabled) {
+        return new PageContentCodec(new SimpleMeterRegistry(), enabled, MIN_SIZE, 6);
+    }
+}
@@ -0,0 +1,182 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelupjourney.learningservice.courses.domain.model.valueobjects.DifficultyLevel;
+import com.levelupjourney.learningservice.courses.interfaces.rest.resources.CreateCourseResource;
+import com.levelupjourney.learningservice.courses.interfaces.rest.resources.UpdateCourseResource;
+import com.levelupjourney.learningservice.courses.interfaces.rest.resources.UpdateCourseStatusResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.CreateGuideResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.CreatePageResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.UpdateGuideStatusResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.UpdatePageResource;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.shared.infrastructure.security.TestJwtTokenProvider;
+import com.levelupjourney.learningservice.topics.interfaces.rest.resources.CreateTopicResource;
+import com.levelupjourney.learningservice.topics.interfaces.rest.resources.UpdateTopicResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Conditional GETs of guides, courses and topics: an unchanged resource answers 304 to its own
+ * ETag, and every change the body reflects, including ones made to other rows such as a topic
+ * rename or a page edit, produces a new ETag.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Integration Test: conditional GETs with ETags")
+public class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestJwtTokenProvider tokenProvider;
+
+    private final String teacherUserId = "teacher-456";
+
+    private String teacherToken;
+    private String adminToken;
+    private UUID topicId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        teacherToken = tokenProvider.generateTeacherToken(teacherUserId);
+        adminToken = tokenProvider.generateAdminToken("admin-789");
+        topicId = idOf(perform(post("/api/v1/topics"), teacherToken,
+                new CreateTopicResource("ETag topic " + UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("A guide answers 304 until one of its topics is renamed, and is private per requester")
+    void guideETagChangesOnTopicRename() throws Exception {
+        UUID guideId = createPublishedGuide();
+
+        MvcResult first = mockMvc.perform(get("/api/v1/guides/" + guideId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + teacherToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(get("/api/v1/guides/" + guideId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + teacherToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION));
+
+        perform(put("/api/v1/topics/" + topicId), adminToken, new UpdateTopicResource("Renamed " + UUID.randomUUID()));
+
+        assertThat(revalidate("/api/v1/guides/" + guideId, eTag)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Editing a page changes the ETag of the guide and of its page list")
+    void guideETagChangesOnPageEdit() throws Exception {
+        UUID guideId = createPublishedGuide();
+        UUID pageId = idOf(perform(post("/api/v1/guides/" + guideId + "/pages"), teacherToken,
+                new CreatePageResource("Second page", 2)));
+        String guideETag = revalidate("/api/v1/guides/" + guideId, null);
+        String pagesETag = revalidate("/api/v1/guides/" + guideId + "/pages", null);
+
+        perform(put("/api/v1/guides/" + guideId + "/pages/" + pageId), teacherToken,
+                new UpdatePageResource("Second page, edited", null));
+
+        assertThat(revalidate("/api/v1/guides/" + guideId, guideETag)).isNotEqualTo(guideETag);
+        assertThat(revalidate("/api/v1/guides/" + guideId + "/pages", pagesETag)).isNotEqualTo(pagesETag);
+    }
+
+    @Test
+    @DisplayName("A published course answers 304 until it is updated")
+    void courseETagChangesOnUpdate() throws Exception {
+        UUID courseId = idOf(perform(post("/api/v1/courses"), teacherToken, new CreateCourseResource(
+                "ETag course", "Description", null, DifficultyLevel.BEGINNER, Set.of(teacherUserId), Set.of(topicId))));
+        perform(put("/api/v1/courses/" + courseId + "/status"), teacherToken,
+                new UpdateCourseStatusResource(EntityStatus.PUBLISHED));
+        String eTag = revalidate("/api/v1/courses/" + courseId, null);
+
+        mockMvc.perform(get("/api/v1/courses/" + courseId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        perform(put("/api/v1/courses/" + courseId), teacherToken,
+                new UpdateCourseResource("ETag course, retitled", null, null, null, null));
+
+        assertThat(revalidate("/api/v1/courses/" + courseId, eTag)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("The topic list answers 304 until a topic is renamed")
+    void topicsETagChangesOnRename() throws Exception {
+        String eTag = revalidate("/api/v1/topics", null);
+
+        mockMvc.perform(get("/api/v1/topics").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        perform(put("/api/v1/topics/" + topicId), adminToken, new UpdateTopicResource("Renamed " + UUID.randomUUID()));
+
+        assertThat(revalidate("/api/v1/topics", eTag)).isNotEqualTo(eTag);
+    }
+
+    private UUID createPublishedGuide() throws Exception {
+        UUID guideId = idOf(perform(post("/api/v1/guides"), teacherToken, new CreateGuideResource(
+                "ETag guide", "Description", null, Set.of(teacherUserId), Set.of(topicId))));
+        perform(post("/api/v1/guides/" + guideId + "/pages"), teacherToken, new CreatePageResource("First page", 1));
+        perform(put("/api/v1/guides/" + guideId + "/status"), teacherToken,
+                new UpdateGuideStatusResource(EntityStatus.PUBLISHED));
+        return guideId;
+    }
+
+    /**
+     * GETs the resource, revalidating against the given ETag when there is one, expects a full
+     * response and returns its ETag
+     */
+    private String revalidate(String path, String eTag) throws Exception {
+        var request = get(path);
+        if (eTag != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
+        String current = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(current).isNotBlank();
+        return current;
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request, String token, Object body) throws Exception {
+        return mockMvc.perform(request
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+    }
+
+    private UUID idOf(MvcResult result) throws Exception {
+        return UUID.fromString(objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("data").get("id").asText());
+    }
+}
@@ -0,0 +1,254 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.courses.domain.model.aggregates.Course;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseByIdQuery;
+import com.levelupjourney.learningservice.courses.domain.model.queries.GetCourseDetailQuery;
+import com.levelupjourney.learningservice.courses.domain.model.valueobjects.DifficultyLevel;
+import com.levelupjourney.learningservice.courses.domain.services.CourseQueryService;
+import com.levelupjourney.learningservice.courses.interfaces.rest.transform.CourseResourceAssembler;
+import com.levelupjourney.learningservice.enrollments.domain.model.commands.EnrollUserCommand;
+import com.levelupjourney.learningservice.enrollments.domain.services.EnrollmentCommandService;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.commands.CreatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.LikeGuideCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.UpdateGuideStatusCommand;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideByIdQuery;
+import com.levelupjourney.learningservice.guides.domain.services.GuideCommandService;
+import com.levelupjourney.learningservice.guides.domain.services.GuideQueryService;
+import com.levelupjourney.learningservice.guides.domain.services.PageCommandService;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the per-handler fetch plans: each handler must stay within a fixed SQL statement budget
+ * no matter how many pages, topics or challenges the aggregates hold.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Integration Test: SQL statement budget per handler")
+public class FetchPlanStatementCountIntegrationTest {
+
+    private static final int PAGES_PER_GUIDE = 5;
+    private static final int GUIDES_PER_COURSE = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GuideCommandService guideCommandService;
+
+    @Autowired
+    private GuideQueryService guideQueryService;
+
+    @Autowired
+    private PageCommandService pageCommandService;
+
+    @Autowired
+    private CourseQueryService courseQueryService;
+
+    @Autowired
+    private CourseResourceAssembler courseResourceAssembler;
+
+    @Autowired
+    private EnrollmentCommandService enrollmentCommandService;
+
+    private Statistics statistics;
+
+    private final String teacherUserId = "teacher-456";
+    private final String studentUserId = "student-123";
+
+    private UUID topicId;
+    private UUID guideId;
+    private UUID courseId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Topic topic = new Topic("Java Basics");
+        entityManager.persist(topic);
+
+        Guide guide = null;
+        Course course = new Course("Java Course", "Course description", null,
+                Set.of(teacherUserId), Set.of(topic), DifficultyLevel.BEGINNER);
+        for (int g = 0; g < GUIDES_PER_COURSE; g++) {
+            Guide current = new Guide("Guide " + g, "Description", null, Set.of(teacherUserId), Set.of(topic));
+            for (int p = 1; p <= PAGES_PER_GUIDE; p++) {
+                current.addPage(new Page("Content " + p, p));
+            }
+            current.addChallenge(UUID.randomUUID());
+            current.updateStatus(EntityStatus.PUBLISHED);
+            entityManager.persist(current);
+            course.addGuide(current);
+            guide = current;
+        }
+        course.updateStatus(EntityStatus.PUBLISHED);
+        entityManager.persist(course);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        topicId = topic.getId();
+        guideId = guide.getId();
+        courseId = course.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Guide detail loads guide, pages, topics and challenges in at most 3 statements")
+    void getGuideByIdUsesPagesGraph() {
+        long statements = countStatements(() -> {
+            var guide = guideQueryService.handle(new GetGuideByIdQuery(guideId)).orElseThrow();
+            assertThat(guide.getPages()).hasSize(PAGES_PER_GUIDE);
+            assertThat(guide.getTopics()).hasSize(1);
+            assertThat(guide.getRelatedChallenges()).hasSize(1);
+        });
+
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Liking a guide never loads the guide aggregate")
+    void likeGuideNeverLoadsGuide() {
+        authenticateAs(studentUserId, "ROLE_STUDENT");
+
+        long statements = countStatements(() ->
+                guideCommandService.handle(new LikeGuideCommand(guideId, studentUserId)));
+
+        // insert like if absent, relative counter update, read new count
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Status change loads the guide header with its authors only")
+    void updateGuideStatusUsesHeaderGraph() {
+        authenticateAs(teacherUserId, "ROLE_TEACHER");
+
+        long statements = countStatements(() ->
+                guideCommandService.handle(new UpdateGuideStatusCommand(guideId, EntityStatus.DRAFT)));
+
+        // select guide with authors, update guide
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Creating a page neither loads the guide nor touches its other pages")
+    void createPageInsertsAgainstGuideReference() {
+        authenticateAs(teacherUserId, "ROLE_TEACHER");
+
+        long statements = countStatements(() ->
+                pageCommandService.handle(new CreatePageCommand(guideId, "New content", PAGES_PER_GUIDE + 1)));
+
+        // check authorship, increment pages count, insert page (sort key lookup runs over JDBC)
+        assertThat(statements).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Course detail loads authors and guides without touching guide collections")
+    void getCourseByIdUsesGuidesGraph() {
+        long statements = countStatements(() -> {
+            var course = courseQueryService.handle(new GetCourseByIdQuery(courseId)).orElseThrow();
+            assertThat(course.getGuides()).hasSize(GUIDES_PER_COURSE);
+        });
+
+        assertThat(statements).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Course detail resource costs the same statements for 4 or 20 guides")
+    void getCourseDetailIsIndependentOfGuideCount() {
+        UUID largeCourseId = persistPublishedCourse(GUIDES_PER_COURSE * 5);
+
+        long statements = countStatements(() -> {
+            var resource = courseResourceAssembler.toResourceFromDetail(
+                    courseQueryService.handle(new GetCourseDetailQuery(courseId)).orElseThrow());
+            assertThat(resource.guides()).hasSize(GUIDES_PER_COURSE);
+            assertThat(resource.guides()).allSatisfy(guide -> assertThat(guide.authorIds()).containsExactly(teacherUserId));
+            assertThat(resource.topics()).hasSize(1);
+        });
+        entityManager.clear();
+        long largeStatements = countStatements(() -> {
+            var resource = courseResourceAssembler.toResourceFromDetail(
+                    courseQueryService.handle(new GetCourseDetailQuery(largeCourseId)).orElseThrow());
+            assertThat(resource.guides()).hasSize(GUIDES_PER_COURSE * 5);
+        });
+
+        // course with authors and topics, course-guide links, guide summaries, guide authors
+        assertThat(statements).isLessThanOrEqualTo(4);
+        assertThat(largeStatements).isEqualTo(statements);
+    }
+
+    @Test
+    @DisplayName("Enrolling loads only the course row")
+    void enrollUserLoadsCourseRowOnly() {
+        authenticateAs(studentUserId, "ROLE_STUDENT");
+
+        long statements = countStatements(() ->
+                enrollmentCommandService.handle(new EnrollUserCommand(studentUserId, courseId)));
+
+        // select course, check existing enrollment, insert enrollment
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    private UUID persistPublishedCourse(int guides) {
+        Topic topic = entityManager.find(Topic.class, topicId);
+        Course course = new Course("Large Course", "Course description", null,
+                Set.of(teacherUserId), Set.of(topic), DifficultyLevel.BEGINNER);
+        for (int g = 0; g < guides; g++) {
+            Guide guide = new Guide("Large Guide " + g, "Description", null, Set.of(teacherUserId), Set.of(topic));
+            guide.addPage(new Page("Content", 1));
+            guide.updateStatus(EntityStatus.PUBLISHED);
+            entityManager.persist(guide);
+            course.addGuide(guide);
+        }
+        course.updateStatus(EntityStatus.PUBLISHED);
+        entityManager.persist(course);
+
+        entityManager.flush();
+        entityManager.clear();
+        return course.getId();
+    }
+
+    private long countStatements(Runnable handler) {
+        statistics.clear();
+        handler.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void authenticateAs(String userId, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                userId, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+}
@@ -0,0 +1,157 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.events.GuideChangedEvent;
+import com.levelupjourney.learningservice.guides.domain.model.projections.GuideVersion;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideByIdQuery;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetGuideVersionQuery;
+import com.levelupjourney.learningservice.guides.domain.services.GuideQueryService;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.guides.interfaces.rest.cache.GuideDetailCache;
+import com.levelupjourney.learningservice.guides.interfaces.rest.resources.GuideResource;
+import com.levelupjourney.learningservice.guides.interfaces.rest.transform.GuideResourceAssembler;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import com.levelupjourney.learningservice.topics.domain.model.aggregates.Topic;
+import com.levelupjourney.learningservice.topics.domain.model.events.TopicChangedEvent;
+import com.levelupjourney.learningservice.topics.infrastructure.persistence.jpa.repositories.TopicRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keying and eviction of the guide detail cache, read through with a loader that counts its calls.
+ * Not transactional: the topic listener only runs after commit, or at once outside a transaction,
+ * so events are published the way committed commands publish them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: guide detail cache")
+public class GuideDetailCacheIntegrationTest {
+
+    @Autowired
+    private GuideDetailCache guideDetailCache;
+
+    @Autowired
+    private GuideQueryService guideQueryService;
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, Integer> loads = new HashMap<>();
+    private UUID topicId;
+    private UUID taggedGuideId;
+    private UUID untaggedGuideId;
+
+    @BeforeEach
+    void setUp() {
+        Topic topic = topicRepository.save(new Topic("Cached topic " + UUID.randomUUID()));
+        topicId = topic.getId();
+        taggedGuideId = createPublishedGuide("Tagged guide", Set.of(topic));
+        untaggedGuideId = createPublishedGuide("Untagged guide", Set.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        guideRepository.deleteById(taggedGuideId);
+        guideRepository.deleteById(untaggedGuideId);
+        topicRepository.deleteById(topicId);
+    }
+
+    @Test
+    @DisplayName("Reads of the same version row are served from the cache")
+    void sameVersionIsCached() {
+        var first = read(taggedGuideId);
+        var second = read(taggedGuideId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get(taggedGuideId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A page change made without an event, as through another instance, misses the cache")
+    void pageChangeMissesWithoutEviction() {
+        read(taggedGuideId);
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE pages SET version = version + 1, updated_at = ? WHERE guide_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().plusSeconds(1)), taggedGuideId));
+        read(taggedGuideId);
+
+        assertThat(loads.get(taggedGuideId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A guide change event evicts only that guide")
+    void guideChangeEvictsGuide() {
+        read(taggedGuideId);
+        read(untaggedGuideId);
+
+        eventPublisher.publishEvent(new GuideChangedEvent(taggedGuideId));
+        read(taggedGuideId);
+        read(untaggedGuideId);
+
+        assertThat(loads.get(taggedGuideId)).isEqualTo(2);
+        assertThat(loads.get(untaggedGuideId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A topic change event evicts the guides carrying the topic")
+    void topicChangeEvictsTaggedGuides() {
+        read(taggedGuideId);
+        read(untaggedGuideId);
+
+        eventPublisher.publishEvent(new TopicChangedEvent(topicId));
+        read(taggedGuideId);
+        read(untaggedGuideId);
+
+        assertThat(loads.get(taggedGuideId)).isEqualTo(2);
+        assertThat(loads.get(untaggedGuideId)).isEqualTo(1);
+    }
+
+    private GuideResource read(UUID guideId) {
+        GuideVersion version = guideQueryService.handle(new GetGuideVersionQuery(guideId)).orElseThrow();
+        return guideDetailCache.get(version, id -> {
+            loads.merge(id, 1, Integer::sum);
+            // Page bodies are lazy, so the resource is assembled while the session is open
+            return transactionTemplate.execute(status -> guideQueryService.handle(new GetGuideByIdQuery(id))
+                    .map(guide -> GuideResourceAssembler.toResourceFromEntity(guide, false, true))
+                    .orElseThrow());
+        });
+    }
+
+    private UUID createPublishedGuide(String title, Set<Topic> topics) {
+        Guide guide = new Guide(title, "Description", null, Set.of("teacher-456"), topics);
+        guide.addPage(new Page("Only page", 1));
+        guide.updateStatus(EntityStatus.PUBLISHED);
+        return guideRepository.save(guide).getId();
+    }
+}
@@ -0,0 +1,138 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.application.internal.queryservices.GuideLikeQueryService;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.commands.LikeGuideCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.UnlikeGuideCommand;
+import com.levelupjourney.learningservice.guides.domain.services.GuideCommandService;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import com.levelupjourney.learningservice.shared.infrastructure.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent likers against the atomic like path. Not transactional on purpose:
+ * every like must commit in its own transaction, as it does in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: concurrent likes on a single guide")
+public class GuideLikeConcurrencyIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GuideLikeConcurrencyIntegrationTest.class);
+
+    private static final int LIKERS = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private GuideCommandService guideCommandService;
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private GuideLikeRepository guideLikeRepository;
+
+    @Autowired
+    private GuideLikeQueryService guideLikeQueryService;
+
+    @Autowired
+    private GuideLikeCounterAggregator counterAggregator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID guideId;
+
+    @BeforeEach
+    void setUp() {
+        Guide guide = new Guide("Popular guide", "Everyone likes it", null, Set.of("teacher-456"), Set.of());
+        guideId = guideRepository.save(guide).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterAggregator.flush();
+        jdbcTemplate.update("DELETE FROM guide_likes WHERE guide_id = ?", guideId);
+        guideRepository.deleteById(guideId);
+    }
+
+    @Test
+    @DisplayName("Every distinct liker is counted exactly once and the version is never bumped")
+    void concurrentLikesAreCountedExactlyOnce() throws Exception {
+        long versionBefore = guideRepository.findById(guideId).orElseThrow().getVersion();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < LIKERS; i++) {
+            String userId = "student-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return guideCommandService.handle(new LikeGuideCommand(guideId, userId));
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        log.info("{} concurrent likes on {} threads took {} ms ({} likes/s)",
+                LIKERS, THREADS, elapsedMillis, elapsedMillis > 0 ? LIKERS * 1000L / elapsedMillis : LIKERS);
+
+        // Pending deltas are visible before the write-behind flush and persisted after it
+        assertThat(guideLikeQueryService.getLikesCount(guideId, guideRepository.findLikesCountById(guideId).orElseThrow()))
+                .isEqualTo(LIKERS);
+        counterAggregator.flush();
+
+        Guide guide = guideRepository.findById(guideId).orElseThrow();
+        assertThat(guide.getLikesCount()).isEqualTo(LIKERS);
+        assertThat(guideLikeRepository.countByGuideId(guideId)).isEqualTo(LIKERS);
+        assertThat(guide.getVersion()).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("Repeated like and unlike are no-ops that keep the 400 contract")
+    void repeatedRequestsAreIdempotent() {
+        assertThat(guideCommandService.handle(new LikeGuideCommand(guideId, "student-1"))).isEqualTo(1);
+
+        assertThatThrownBy(() -> guideCommandService.handle(new LikeGuideCommand(guideId, "student-1")))
+                .isInstanceOf(BusinessException.class);
+        counterAggregator.flush();
+        assertThat(guideRepository.findLikesCountById(guideId)).contains(1);
+
+        assertThat(guideCommandService.handle(new UnlikeGuideCommand(guideId, "student-1"))).isZero();
+
+        assertThatThrownBy(() -> guideCommandService.handle(new UnlikeGuideCommand(guideId, "student-1")))
+                .isInstanceOf(BusinessException.class);
+        counterAggregator.flush();
+        assertThat(guideRepository.findLikesCountById(guideId)).contains(0);
+    }
+}
@@ -0,0 +1,144 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeReconciliationJob;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Likes reconciliation against counts that drifted from guide_likes. Uses its own job and
+ * aggregator, so scheduled runs and flushes of the application beans cannot interleave, with a
+ * chunk size small enough to span several chunks. The likes are an hour old, outside the settle
+ * window and the incremental lookback. Not transactional: fixes commit in their own transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: likes reconciliation")
+public class GuideLikeReconciliationIntegrationTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private GuideLikeRepository guideLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private GuideLikeCounterAggregator aggregator;
+    private GuideLikeReconciliationJob job;
+    private UUID overCounted;
+    private UUID accurate;
+    private UUID phantom;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new GuideLikeCounterAggregator(jdbcTemplate, transactionTemplate, eventPublisher, true);
+        job = new GuideLikeReconciliationJob(guideRepository, guideLikeRepository, aggregator, jdbcTemplate,
+                transactionTemplate, eventPublisher, true, CHUNK_SIZE, Duration.ZERO);
+
+        overCounted = createGuide("Over-counted", 2, 5);
+        accurate = createGuide("Accurate", 1, 1);
+        phantom = createGuide("Phantom likes", 0, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID guideId : Set.of(overCounted, accurate, phantom)) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update("DELETE FROM guide_likes WHERE guide_id = ?", guideId));
+            guideRepository.deleteById(guideId);
+        }
+    }
+
+    @Test
+    @DisplayName("A full run walks every chunk and resets drifted counts to the guide_likes count")
+    void fullRunFixesDrift() {
+        var report = job.runFull().orElseThrow();
+
+        assertThat(storedCount(overCounted)).isEqualTo(2);
+        assertThat(storedCount(accurate)).isEqualTo(1);
+        assertThat(storedCount(phantom)).isZero();
+        assertThat(report.chunks()).isGreaterThanOrEqualTo(2);
+        assertThat(report.fixedGuides()).isGreaterThanOrEqualTo(2);
+        assertThat(report.absoluteDrift()).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Guides with unflushed deltas are skipped and fixed once the delta is flushed")
+    void pendingDeltasAreSkipped() {
+        aggregator.add(overCounted, 1);
+
+        var report = job.runFull().orElseThrow();
+
+        assertThat(storedCount(overCounted)).isEqualTo(5);
+        assertThat(report.skippedPending()).isGreaterThanOrEqualTo(1);
+        assertThat(storedCount(phantom)).isZero();
+
+        aggregator.flush();
+        job.runIncremental().orElseThrow();
+
+        assertThat(storedCount(overCounted)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("An incremental run only reconciles the guides touched since the previous one")
+    void incrementalRunFixesTouchedGuides() {
+        job.markTouched(phantom);
+
+        var report = job.runIncremental().orElseThrow();
+
+        assertThat(storedCount(phantom)).isZero();
+        assertThat(storedCount(overCounted)).isEqualTo(5);
+        assertThat(report.fixedGuides()).isEqualTo(1);
+        assertThat(job.status().pendingTouchedGuides()).isZero();
+    }
+
+    private UUID createGuide(String title, int likes, int storedCount) {
+        UUID guideId = guideRepository.save(
+                new Guide(title, "Description", null, Set.of("teacher-456"), Set.of())).getId();
+        Timestamp likedAt = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < likes; i++) {
+                jdbcTemplate.update("""
+                                INSERT INTO guide_likes (id, guide_id, user_id, created_at, updated_at, version)
+                                VALUES (?, ?, ?, ?, ?, 0)
+                                """,
+                        UUID.randomUUID(), guideId, "student-" + i, likedAt, likedAt);
+            }
+            jdbcTemplate.update("UPDATE guides SET likes_count = ? WHERE id = ?", storedCount, guideId);
+        });
+        return guideId;
+    }
+
+    private Integer storedCount(UUID guideId) {
+        return guideRepository.findLikesCountById(guideId).orElseThrow();
+    }
+}
@@ -0,0 +1,137 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flushes of the like write-behind buffer against the database. Uses its own aggregator, so the
+ * scheduled flush of the application bean cannot interleave, with a transaction template that can
+ * fail the flush or record a like while the batch is running. Not transactional: each flush
+ * commits on its own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: like write-behind flushes")
+public class GuideLikeWriteBehindIntegrationTest {
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private GuideLikeCounterAggregator aggregator;
+    private boolean failFlush;
+    private Runnable duringFlush = () -> { };
+    private UUID guideId;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate flushTemplate = new TransactionTemplate(transactionManager) {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                duringFlush.run();
+                if (failFlush) {
+                    throw new QueryTimeoutException("Simulated flush failure");
+                }
+                return super.execute(action);
+            }
+        };
+        aggregator = new GuideLikeCounterAggregator(jdbcTemplate, flushTemplate, eventPublisher, true);
+        guideId = guideRepository.save(
+                new Guide("Buffered guide", "Description", null, Set.of("teacher-456"), Set.of())).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        guideRepository.deleteById(guideId);
+    }
+
+    @Test
+    @DisplayName("Deltas are merged into reads before the flush and persisted by it")
+    void flushPersistsDeltas() {
+        aggregator.add(guideId, 3);
+        aggregator.add(guideId, -1);
+
+        assertThat(storedCount()).isZero();
+        assertThat(aggregator.merge(guideId, storedCount())).isEqualTo(2);
+
+        aggregator.flush();
+
+        assertThat(storedCount()).isEqualTo(2);
+        assertThat(aggregator.pendingDelta(guideId)).isZero();
+        assertThat(aggregator.merge(guideId, storedCount())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A failed flush keeps its deltas and the next flush writes them once")
+    void failedFlushIsRetried() {
+        aggregator.add(guideId, 2);
+        failFlush = true;
+
+        aggregator.flush();
+
+        assertThat(storedCount()).isZero();
+        assertThat(aggregator.pendingDelta(guideId)).isEqualTo(2);
+        assertThat(aggregator.merge(guideId, storedCount())).isEqualTo(2);
+
+        failFlush = false;
+        aggregator.flush();
+        aggregator.flush();
+
+        assertThat(storedCount()).isEqualTo(2);
+        assertThat(aggregator.pendingDelta(guideId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Likes recorded while a flush runs stay counted and go out with the next flush")
+    void likesDuringFlushAreKept() {
+        aggregator.add(guideId, 2);
+        long[] pendingDuringFlush = new long[1];
+        duringFlush = () -> {
+            aggregator.add(guideId, 1);
+            pendingDuringFlush[0] = aggregator.pendingDelta(guideId);
+        };
+
+        aggregator.flush();
+
+        assertThat(pendingDuringFlush[0]).isEqualTo(3);
+        assertThat(storedCount()).isEqualTo(2);
+        assertThat(aggregator.pendingDelta(guideId)).isEqualTo(1);
+
+        duringFlush = () -> { };
+        aggregator.flush();
+
+        assertThat(storedCount()).isEqualTo(3);
+        assertThat(aggregator.pendingDelta(guideId)).isZero();
+    }
+
+    private Integer storedCount() {
+        return guideRepository.findLikesCountById(guideId).orElseThrow();
+    }
+}
@@ -0,0 +1,172 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.commands.ReplaceGuidePagesCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.ReplaceGuidePagesCommand.PageDraft;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
+import com.levelupjourney.learningservice.guides.domain.services.PageCommandService;
+import com.levelupjourney.learningservice.guides.domain.services.PageQueryService;
+import com.levelupjourney.learningservice.shared.infrastructure.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulk replace of a guide's pages through the batched JDBC writes: reorders must not trip the
+ * (guide_id, order_number) unique constraint, and inserts, updates and deletes land in one call.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Integration Test: bulk replace of a guide's pages")
+public class GuidePagesBulkReplaceIntegrationTest {
+
+    private static final int PAGES = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PageCommandService pageCommandService;
+
+    @Autowired
+    private PageQueryService pageQueryService;
+
+    private final String teacherUserId = "teacher-456";
+
+    private UUID guideId;
+    private List<UUID> pageIds;
+
+    @BeforeEach
+    void setUp() {
+        Guide guide = new Guide("Bulk Guide", "Description", null, Set.of(teacherUserId), Set.of());
+        for (int p = 1; p <= PAGES; p++) {
+            guide.addPage(new Page("Content " + p, p));
+        }
+        entityManager.persist(guide);
+        entityManager.flush();
+        entityManager.clear();
+
+        guideId = guide.getId();
+        pageIds = readPages().stream().map(Page::getId).toList();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                teacherUserId, null, List.of(new SimpleGrantedAuthority("ROLE_TEACHER"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Reversing the order swaps every sort key without a unique constraint violation")
+    void reverseOrder() {
+        var drafts = pageIds.reversed().stream().map(id -> new PageDraft(id, null)).toList();
+
+        pageCommandService.handle(new ReplaceGuidePagesCommand(guideId, drafts));
+
+        var pages = readPages();
+        assertThat(pages).extracting(Page::getId).containsExactlyElementsOf(pageIds.reversed());
+        assertThat(pages).extracting(Page::getOrderNumber).containsExactly(1, 2, 3, 4);
+        assertThat(pages).extracting(Page::getSortKey)
+                .containsExactly(Page.SORT_KEY_GAP, 2 * Page.SORT_KEY_GAP, 3 * Page.SORT_KEY_GAP, 4 * Page.SORT_KEY_GAP);
+        assertThat(pages).extracting(Page::getContent).containsExactly("Content 4", "Content 3", "Content 2", "Content 1");
+    }
+
+    @Test
+    @DisplayName("Inserts, content updates, moves and deletes are applied together")
+    void mixedChanges() {
+        UUID first = pageIds.get(0);
+        UUID third = pageIds.get(2);
+        List<UUID> deletedContentIds = List.of(contentIdOf(pageIds.get(1)), contentIdOf(pageIds.get(3)));
+
+        pageCommandService.handle(new ReplaceGuidePagesCommand(guideId, List.of(
+                new PageDraft(third, "Third, rewritten"),
+                new PageDraft(null, "Brand new"),
+                new PageDraft(first, null))));
+
+        var pages = readPages();
+        assertThat(pages).extracting(Page::getContent).containsExactly("Third, rewritten", "Brand new", "Content 1");
+        assertThat(pages.get(0).getId()).isEqualTo(third);
+        assertThat(pages.get(2).getId()).isEqualTo(first);
+        assertThat(pages).extracting(Page::getOrderNumber).containsExactly(1, 2, 3);
+        // Bodies of the deleted pages go with them
+        assertThat(count("SELECT COUNT(*) FROM page_contents WHERE id IN (?, ?)", deletedContentIds.toArray()))
+                .isZero();
+        assertThat(count("SELECT pages_count FROM guides WHERE id = ?", guideId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("New content for a page still stored inline gets its own body row")
+    void inlinePageGetsBodyRow() {
+        UUID legacy = pageIds.get(0);
+        UUID contentId = contentIdOf(legacy);
+        jdbcTemplate.update("UPDATE pages SET content_id = NULL, content = 'Inline content' WHERE id = ?", legacy);
+        jdbcTemplate.update("DELETE FROM page_contents WHERE id = ?", contentId);
+
+        pageCommandService.handle(new ReplaceGuidePagesCommand(guideId,
+                pageIds.stream().map(id -> new PageDraft(id, id.equals(legacy) ? "Rewritten" : null)).toList()));
+
+        assertThat(contentIdOf(legacy)).isNotNull();
+        assertThat(readPages()).extracting(Page::getContent)
+                .containsExactly("Rewritten", "Content 2", "Content 3", "Content 4");
+    }
+
+    @Test
+    @DisplayName("Page changes leave the guide's own version alone")
+    void guideVersionIsNotBumped() {
+        long versionBefore = count("SELECT version FROM guides WHERE id = ?", guideId);
+
+        pageCommandService.handle(new ReplaceGuidePagesCommand(guideId, List.of(
+                new PageDraft(pageIds.get(1), null), new PageDraft(pageIds.get(0), "Changed"))));
+
+        assertThat(count("SELECT version FROM guides WHERE id = ?", guideId)).isEqualTo(versionBefore);
+    }
+
+    @Test
+    @DisplayName("A page of another guide, or listed twice, rejects the whole request")
+    void invalidDraftsAreRejected() {
+        assertThatThrownBy(() -> pageCommandService.handle(new ReplaceGuidePagesCommand(guideId, List.of(
+                new PageDraft(UUID.randomUUID(), null)))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> pageCommandService.handle(new ReplaceGuidePagesCommand(guideId, List.of(
+                new PageDraft(pageIds.get(0), null), new PageDraft(pageIds.get(0), null)))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Page> readPages() {
+        entityManager.clear();
+        return pageQueryService.handle(new GetPagesByGuideIdQuery(guideId, true));
+    }
+
+    private UUID contentIdOf(UUID pageId) {
+        return jdbcTemplate.queryForObject("SELECT content_id FROM pages WHERE id = ?", UUID.class, pageId);
+    }
+
+    private long count(String sql, Object... args) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return value != null ? value : 0;
+    }
+}
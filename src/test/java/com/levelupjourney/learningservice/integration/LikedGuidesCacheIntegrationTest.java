@@ -0,0 +1,130 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.application.internal.likes.GuideLikeCounterAggregator;
+import com.levelupjourney.learningservice.guides.application.internal.likes.LikedGuidesCache;
+import com.levelupjourney.learningservice.guides.application.internal.queryservices.GuideLikeQueryService;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.commands.LikeGuideCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.UnlikeGuideCommand;
+import com.levelupjourney.learningservice.guides.domain.services.GuideCommandService;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideLikeRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The per-user liked-guides cache kept current by the like commands. Not transactional: the
+ * commands must commit, or roll back, in a transaction of their own for the cache to follow.
+ * Each test uses a fresh user, since cached sets outlive the test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: liked-guides cache")
+public class LikedGuidesCacheIntegrationTest {
+
+    @Autowired
+    private LikedGuidesCache likedGuidesCache;
+
+    @Autowired
+    private GuideCommandService guideCommandService;
+
+    @Autowired
+    private GuideLikeQueryService guideLikeQueryService;
+
+    @Autowired
+    private GuideLikeCounterAggregator counterAggregator;
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private GuideLikeRepository guideLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID guideId;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        guideId = guideRepository.save(
+                new Guide("Cached likes", "Description", null, Set.of("teacher-456"), Set.of())).getId();
+        userId = "student-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterAggregator.flush();
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM guide_likes WHERE guide_id = ?", guideId));
+        guideRepository.deleteById(guideId);
+    }
+
+    @Test
+    @DisplayName("Committed likes and unlikes update the cached set in place")
+    void committedChangesUpdateCachedSet() {
+        assertThat(likedGuidesCache.likedGuides(userId)).isEmpty();
+
+        guideCommandService.handle(new LikeGuideCommand(guideId, userId));
+        // Drop the row behind the cache's back: a reload would no longer see the like
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM guide_likes WHERE guide_id = ? AND user_id = ?", guideId, userId));
+        assertThat(likedGuidesCache.hasLiked(userId, guideId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("""
+                INSERT INTO guide_likes (id, guide_id, user_id, created_at, updated_at, version)
+                VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+                """, UUID.randomUUID(), guideId, userId));
+        guideCommandService.handle(new UnlikeGuideCommand(guideId, userId));
+        assertThat(likedGuidesCache.hasLiked(userId, guideId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("A like rolled back with its transaction is removed from the cached set and the count")
+    void rolledBackLikeIsCompensated() {
+        assertThat(likedGuidesCache.likedGuides(userId)).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            guideCommandService.handle(new LikeGuideCommand(guideId, userId));
+            assertThat(likedGuidesCache.hasLiked(userId, guideId)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        assertThat(likedGuidesCache.hasLiked(userId, guideId)).isFalse();
+        assertThat(guideLikeRepository.countByGuideId(guideId)).isZero();
+        assertThat(guideLikeQueryService.getLikesCount(guideId, guideRepository.findLikesCountById(guideId).orElseThrow()))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("An unlike rolled back with its transaction is restored in the cached set")
+    void rolledBackUnlikeIsCompensated() {
+        guideCommandService.handle(new LikeGuideCommand(guideId, userId));
+        assertThat(likedGuidesCache.hasLiked(userId, guideId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            guideCommandService.handle(new UnlikeGuideCommand(guideId, userId));
+            assertThat(likedGuidesCache.hasLiked(userId, guideId)).isFalse();
+            status.setRollbackOnly();
+        });
+
+        assertThat(likedGuidesCache.hasLiked(userId, guideId)).isTrue();
+        assertThat(guideLikeRepository.countByGuideId(guideId)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,187 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
+import com.levelupjourney.learningservice.guides.domain.services.PageQueryService;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentCodec;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.codec.PageContentMigration;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jdbc.PageBodyRepository;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * One-off move of inline page bodies into page_contents, against pages written straight into the
+ * legacy pages.content and pages.body columns. Not @Transactional: the migration commits one
+ * transaction per chunk, so rows are cleaned up explicitly.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: page content migration")
+public class PageContentMigrationIntegrationTest {
+
+    private static final int CHUNK_SIZE = 3;
+    private static final int PLAIN_PAGES = 5;
+    private static final int ENCODED_PAGES = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PageContentCodec contentCodec;
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private PageQueryService pageQueryService;
+
+    @Autowired
+    private PageBodyRepository pageBodyRepository;
+
+    private PageContentMigration migration;
+    private UUID guideId;
+    private final List<String> expectedBodies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        migration = new PageContentMigration(jdbcTemplate, transactionTemplate, contentCodec, CHUNK_SIZE);
+        guideId = guideRepository.save(
+                new Guide("Legacy Guide", "Description", null, Set.of("teacher-456"), Set.of())).getId();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= PLAIN_PAGES + ENCODED_PAGES; i++) {
+                String content = "Legacy page " + i + " ".repeat(i * 200) + "end";
+                boolean encoded = i > PLAIN_PAGES;
+                jdbcTemplate.update("""
+                                INSERT INTO pages (id, guide_id, order_number, content, body, created_at, updated_at, version)
+                                VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+                                """,
+                        UUID.randomUUID(), guideId, i,
+                        encoded ? null : content, encoded ? contentCodec.encode(content) : null, now, now);
+                expectedBodies.add(content);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> contentIds = jdbcTemplate.queryForList(
+                    "SELECT content_id FROM pages WHERE guide_id = ? AND content_id IS NOT NULL", UUID.class, guideId);
+            jdbcTemplate.update("DELETE FROM pages WHERE guide_id = ?", guideId);
+            contentIds.forEach(id -> jdbcTemplate.update("DELETE FROM page_contents WHERE id = ?", id));
+            jdbcTemplate.update("DELETE FROM guide_authors WHERE guide_id = ?", guideId);
+            jdbcTemplate.update("DELETE FROM guides WHERE id = ?", guideId);
+        });
+    }
+
+    @Test
+    @DisplayName("Every inline body is moved across several chunks and reads back unchanged")
+    void movesEveryPageAcrossChunks() {
+        assertThat(migration.status().inlinePages()).isEqualTo(PLAIN_PAGES + ENCODED_PAGES);
+
+        long migrated = migration.run();
+
+        assertThat(migrated).isEqualTo(PLAIN_PAGES + ENCODED_PAGES);
+        assertThat(migratedBodies()).containsExactlyElementsOf(expectedBodies);
+        assertThat(count("SELECT COUNT(*) FROM pages WHERE guide_id = ? AND (content IS NOT NULL OR body IS NOT NULL)"))
+                .isZero();
+        var status = migration.status();
+        assertThat(status.inlinePages()).isZero();
+        assertThat(status.lastMigrated()).isEqualTo(PLAIN_PAGES + ENCODED_PAGES);
+        assertThat(status.lastFailure()).isNull();
+    }
+
+    @Test
+    @DisplayName("Pages still inline are served from their legacy column before the migration runs")
+    void servesInlinePagesBeforeMigration() throws IOException {
+        assertThat(pageQueryService.handle(new GetPagesByGuideIdQuery(guideId, true)))
+                .extracting(Page::getContent)
+                .containsExactlyElementsOf(expectedBodies);
+
+        List<UUID> pageIds = transactionTemplate.execute(status -> jdbcTemplate.queryForList(
+                "SELECT id FROM pages WHERE guide_id = ? ORDER BY order_number", UUID.class, guideId));
+        List<String> bodies = new ArrayList<>();
+        for (UUID pageId : pageIds) {
+            try (InputStream body = pageBodyRepository.findBufferedBody(guideId, pageId).orElseThrow().content()) {
+                bodies.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(bodies).containsExactlyElementsOf(expectedBodies);
+    }
+
+    @Test
+    @DisplayName("A second run finds nothing to move and leaves the links alone")
+    void secondRunIsNoOp() {
+        migration.run();
+        List<UUID> linked = contentIds();
+
+        long migrated = migration.run();
+
+        assertThat(migrated).isZero();
+        assertThat(contentIds()).containsExactlyElementsOf(linked);
+        assertThat(count("SELECT COUNT(*) FROM page_contents c JOIN pages p ON p.content_id = c.id WHERE p.guide_id = ?"))
+                .isEqualTo(PLAIN_PAGES + ENCODED_PAGES);
+    }
+
+    @Test
+    @DisplayName("A run interrupted after some chunks picks up the remaining pages")
+    void resumesAfterPartialRun() {
+        transactionTemplate.executeWithoutResult(status -> {
+            UUID firstPage = jdbcTemplate.queryForObject(
+                    "SELECT id FROM pages WHERE guide_id = ? ORDER BY order_number LIMIT 1", UUID.class, guideId);
+            UUID contentId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO page_contents (id, body) VALUES (?, ?)",
+                    contentId, contentCodec.encode(expectedBodies.get(0)));
+            jdbcTemplate.update("UPDATE pages SET content_id = ?, content = NULL WHERE id = ?", contentId, firstPage);
+        });
+
+        long migrated = migration.run();
+
+        assertThat(migrated).isEqualTo(PLAIN_PAGES + ENCODED_PAGES - 1);
+        assertThat(migratedBodies()).containsExactlyElementsOf(expectedBodies);
+    }
+
+    private List<String> migratedBodies() {
+        return transactionTemplate.execute(status -> jdbcTemplate.query("""
+                        SELECT c.body FROM pages p JOIN page_contents c ON c.id = p.content_id
+                        WHERE p.guide_id = ? ORDER BY p.order_number
+                        """,
+                (rs, rowNum) -> contentCodec.decode(rs.getBytes("body")), guideId));
+    }
+
+    private List<UUID> contentIds() {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForList(
+                "SELECT content_id FROM pages WHERE guide_id = ? ORDER BY order_number", UUID.class, guideId));
+    }
+
+    private long count(String sql) {
+        Long value = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(sql, Long.class, guideId));
+        return value != null ? value : 0;
+    }
+}
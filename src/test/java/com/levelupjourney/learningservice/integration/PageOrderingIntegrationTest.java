@@ -0,0 +1,125 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.commands.CreatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.DeletePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.UpdatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
+import com.levelupjourney.learningservice.guides.domain.services.PageCommandService;
+import com.levelupjourney.learningservice.guides.domain.services.PageQueryService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gap-based page ordering: single inserts and moves write one sort key, positions are numbered
+ * on read, and a gap that runs out is rebalanced without changing the order.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Integration Test: page ordering with sparse sort keys")
+public class PageOrderingIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PageCommandService pageCommandService;
+
+    @Autowired
+    private PageQueryService pageQueryService;
+
+    private final String teacherUserId = "teacher-456";
+
+    private UUID guideId;
+
+    @BeforeEach
+    void setUp() {
+        Guide guide = new Guide("Ordered Guide", "Description", null, Set.of(teacherUserId), Set.of());
+        guide.addPage(new Page("Original", 1));
+        entityManager.persist(guide);
+        entityManager.flush();
+        entityManager.clear();
+        guideId = guide.getId();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                teacherUserId, null, List.of(new SimpleGrantedAuthority("ROLE_TEACHER"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Inserting at the front until the gap runs out rebalances and keeps the order")
+    void frontInsertsRebalance() {
+        int inserts = Integer.numberOfTrailingZeros(Page.SORT_KEY_GAP) + 3;
+        List<String> expected = new ArrayList<>();
+        for (int i = 1; i <= inserts; i++) {
+            pageCommandService.handle(new CreatePageCommand(guideId, "Insert " + i, 1));
+            expected.addFirst("Insert " + i);
+        }
+        expected.add("Original");
+
+        var pages = readPages();
+        assertThat(pages).extracting(Page::getContent).containsExactlyElementsOf(expected);
+        assertThat(pages).extracting(Page::getOrderNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, inserts + 1).boxed().toList());
+        assertThat(pages).extracting(Page::getSortKey).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("Moving a page shifts the pages in between without rewriting their keys")
+    void moveWritesOnlyTheMovedKey() {
+        pageCommandService.handle(new CreatePageCommand(guideId, "Second", 2));
+        pageCommandService.handle(new CreatePageCommand(guideId, "Third", 3));
+        var before = readPages();
+
+        var moved = pageCommandService.handle(new UpdatePageCommand(before.get(2).getId(), null, 1)).orElseThrow();
+
+        var pages = readPages();
+        assertThat(moved.getOrderNumber()).isEqualTo(1);
+        assertThat(pages).extracting(Page::getContent).containsExactly("Third", "Original", "Second");
+        assertThat(pages.get(1).getSortKey()).isEqualTo(before.get(0).getSortKey());
+        assertThat(pages.get(2).getSortKey()).isEqualTo(before.get(1).getSortKey());
+    }
+
+    @Test
+    @DisplayName("A page read on its own reports its current position")
+    void singlePageReportsPosition() {
+        pageCommandService.handle(new CreatePageCommand(guideId, "Front", 1));
+        var pages = readPages();
+        pageCommandService.handle(new DeletePageCommand(pages.get(0).getId()));
+        entityManager.clear();
+
+        var original = pageQueryService.handle(pages.get(1).getId()).orElseThrow();
+
+        assertThat(original.getOrderNumber()).isEqualTo(1);
+    }
+
+    private List<Page> readPages() {
+        entityManager.flush();
+        entityManager.clear();
+        return pageQueryService.handle(new GetPagesByGuideIdQuery(guideId, true));
+    }
+}
@@ -0,0 +1,160 @@
+package com.levelupjourney.learningservice.integration;
+
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Guide;
+import com.levelupjourney.learningservice.guides.domain.model.aggregates.Page;
+import com.levelupjourney.learningservice.guides.domain.model.commands.CreatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.commands.UpdatePageCommand;
+import com.levelupjourney.learningservice.guides.domain.model.queries.GetPagesByGuideIdQuery;
+import com.levelupjourney.learningservice.guides.domain.services.PageCommandService;
+import com.levelupjourney.learningservice.guides.domain.services.PageQueryService;
+import com.levelupjourney.learningservice.guides.infrastructure.persistence.jpa.repositories.GuideRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A content-only page update racing a front insert that rebalances the guide's sort keys.
+ * Not transactional on purpose: the insert must hold its locks in its own transaction while the
+ * update runs in another, as two requests would.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Test: page update racing a sort key rebalance")
+public class PageUpdateRebalanceRaceIntegrationTest {
+
+    private static final String TEACHER_USER_ID = "teacher-456";
+
+    @Autowired
+    private GuideRepository guideRepository;
+
+    @Autowired
+    private PageCommandService pageCommandService;
+
+    @Autowired
+    private PageQueryService pageQueryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID guideId;
+    private List<UUID> pageIds;
+
+    @BeforeEach
+    void setUp() {
+        Guide guide = new Guide("Packed Guide", "Description", null, Set.of(TEACHER_USER_ID), Set.of());
+        guide.addPage(new Page("First", 1));
+        guide.addPage(new Page("Second", 2));
+        guideId = guideRepository.save(guide).getId();
+
+        // Adjacent keys leave no room in front, so the next insert at position 1 rebalances
+        pageIds = transactionTemplate.execute(status -> {
+            List<UUID> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM pages WHERE guide_id = ? ORDER BY order_number", UUID.class, guideId);
+            jdbcTemplate.update("UPDATE pages SET order_number = -order_number WHERE guide_id = ?", guideId);
+            for (int i = 0; i < ids.size(); i++) {
+                jdbcTemplate.update("UPDATE pages SET order_number = ? WHERE id = ?", i + 1, ids.get(i));
+            }
+            return ids;
+        });
+        authenticate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> contentIds = jdbcTemplate.queryForList(
+                    "SELECT content_id FROM pages WHERE guide_id = ? AND content_id IS NOT NULL", UUID.class, guideId);
+            jdbcTemplate.update("DELETE FROM pages WHERE guide_id = ?", guideId);
+            contentIds.forEach(id -> jdbcTemplate.update("DELETE FROM page_contents WHERE id = ?", id));
+            jdbcTemplate.update("DELETE FROM guide_authors WHERE guide_id = ?", guideId);
+            jdbcTemplate.update("DELETE FROM guides WHERE id = ?", guideId);
+        });
+    }
+
+    @Test
+    @DisplayName("An update started during a rebalance waits for it and keeps the rebalanced key")
+    void contentUpdateWaitsForRebalance() throws Exception {
+        UUID secondPageId = pageIds.get(1);
+        CountDownLatch updateStarting = new CountDownLatch(1);
+        CompletableFuture<Page> update = new CompletableFuture<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pageCommandService.handle(new CreatePageCommand(guideId, "Front", 1));
+
+            // The insert still holds the guide lock and its uncommitted rebalance
+            Thread updater = new Thread(() -> {
+                authenticate();
+                updateStarting.countDown();
+                try {
+                    update.complete(pageCommandService
+                            .handle(new UpdatePageCommand(secondPageId, "Second, edited", null)).orElseThrow());
+                } catch (RuntimeException e) {
+                    update.completeExceptionally(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+            updater.start();
+            try {
+                updateStarting.await(5, TimeUnit.SECONDS);
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(update).isNotDone();
+        });
+
+        Page updated = update.get(10, TimeUnit.SECONDS);
+
+        assertThat(updated.getOrderNumber()).isEqualTo(3);
+        var pages = pageQueryService.handle(new GetPagesByGuideIdQuery(guideId, true));
+        assertThat(pages).extracting(Page::getContent).containsExactly("Front", "First", "Second, edited");
+        assertThat(pages).extracting(Page::getSortKey).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("Rebalancing bumps the versions of the rewritten pages")
+    void rebalanceBumpsRewrittenVersions() {
+        List<Long> versionsBefore = versions();
+
+        pageCommandService.handle(new CreatePageCommand(guideId, "Front", 1));
+
+        List<Long> versionsAfter = versions();
+        for (int i = 0; i < pageIds.size(); i++) {
+            assertThat(versionsAfter.get(i)).isEqualTo(versionsBefore.get(i) + 1);
+        }
+    }
+
+    private List<Long> versions() {
+        return transactionTemplate.execute(status -> pageIds.stream()
+                .map(id -> jdbcTemplate.queryForObject("SELECT version FROM pages WHERE id = ?", Long.class, id))
+                .toList());
+    }
+
+    private static void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                TEACHER_USER_ID, null, List.of(new SimpleGrantedAuthority("ROLE_TEACHER"))));
+    }
+}
@@ -0,0 +1,114 @@
+package com.levelupjourney.learningservice.search.application.internal.index;
+
+import com.levelupjourney.learningservice.search.domain.model.queries.SearchCatalogQuery;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.DocumentType;
+import com.levelupjourney.learningservice.search.domain.model.valueobjects.SearchDocument;
+import com.levelupjourney.learningservice.shared.domain.model.EntityStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Test: catalog inverted index")
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+    }
+
+    @Test
+    @DisplayName("A term in the title outranks the same term in the description")
+    void titleTermsOutrankDescriptionTerms() {
+        UUID inDescription = put("Spring basics", "Learn java the easy way", EntityStatus.PUBLISHED);
+        UUID inTitle = put("Java basics", "Learn the easy way", EntityStatus.PUBLISHED);
+
+        assertThat(search("java", null).getContent()).containsExactly(inTitle, inDescription);
+    }
+
+    @Test
+    @DisplayName("Every query term is matched as a prefix and all of them must match")
+    void termsMatchAsPrefixesAndAllMustMatch() {
+        UUID java = put("Java streams", "Collections", EntityStatus.PUBLISHED);
+        UUID javascript = put("JavaScript promises", "Async code", EntityStatus.PUBLISHED);
+        put("Python generators", "Lazy streams", EntityStatus.PUBLISHED);
+
+        assertThat(search("jav", null).getContent()).containsExactlyInAnyOrder(java, javascript);
+        assertThat(search("jav stream", null).getContent()).containsExactly(java);
+        assertThat(search("jav kotlin", null).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A short prefix with more expansions than are scored still matches every document")
+    void prefixWithManyExpansionsKeepsEveryMatch() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(put("Topic term" + String.format("%03d", i), "Description", EntityStatus.PUBLISHED));
+        }
+
+        var result = search("term", null);
+
+        assertThat(result.getTotalElements()).isEqualTo(100);
+        assertThat(result.getContent()).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("Accents and case are folded the same way for documents and queries")
+    void accentsAndCaseAreFolded() {
+        UUID id = put("Introducción a la Programación", "Básico", EntityStatus.PUBLISHED);
+
+        assertThat(search("PROGRAMACION", null).getContent()).containsExactly(id);
+        assertThat(search("introducción", null).getContent()).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("Filters narrow the candidates before scoring")
+    void statusFilterNarrowsCandidates() {
+        UUID published = put("Java basics", "Intro", EntityStatus.PUBLISHED);
+        put("Java advanced", "Draft", EntityStatus.DRAFT);
+
+        assertThat(search("java", EntityStatus.PUBLISHED).getContent()).containsExactly(published);
+        assertThat(search("java", null).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Removed documents stop matching and replaced documents match their new text")
+    void removeAndReplace() {
+        UUID removed = put("Java basics", "Intro", EntityStatus.PUBLISHED);
+        UUID replaced = put("Java streams", "Intro", EntityStatus.PUBLISHED);
+
+        index.remove(removed);
+        index.put(document(replaced, "Kotlin coroutines", "Intro", EntityStatus.PUBLISHED));
+
+        assertThat(search("java", null).getContent()).isEmpty();
+        assertThat(search("kotlin", null).getContent()).containsExactly(replaced);
+        assertThat(index.documentCount()).isEqualTo(1);
+    }
+
+    private UUID put(String title, String description, EntityStatus status) {
+        UUID id = UUID.randomUUID();
+        index.put(document(id, title, description, status));
+        return id;
+    }
+
+    private static SearchDocument document(UUID id, String title, String description, EntityStatus status) {
+        return new SearchDocument(id, DocumentType.GUIDE, status, title, description,
+                Set.of(), Set.of(), Set.of("teacher-1"), 0, null, LocalDateTime.now());
+    }
+
+    private Page<UUID> search(String text, EntityStatus status) {
+        return index.search(new SearchCatalogQuery(DocumentType.GUIDE, status, text, null, null, null,
+                Pageable.unpaged()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.levelupjourney.learningservice.shared.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Test: keyset cursor encoding")
+class KeysetCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+    private static final UUID ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Test
+    @DisplayName("A cursor survives an encode/decode round trip, sub-second precision included")
+    void roundTrip() {
+        var cursor = new KeysetCursor(CREATED_AT, ID);
+
+        var decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.rank()).isNull();
+    }
+
+    @Test
+    @DisplayName("A rank cursor keeps its rank through the round trip")
+    void rankCursorRoundTrip() {
+        var cursor = new KeysetCursor(CREATED_AT, ID, 0.0607927);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("The encoded form is URL safe")
+    void encodedFormIsUrlSafe() {
+        String encoded = new KeysetCursor(CREATED_AT, ID, 1.0 / 3).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("No cursor means the first page")
+    void missingCursorDecodesToNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Tampered cursors are rejected as invalid arguments")
+    void tamperedCursorsAreRejected() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw("yesterday|" + ID)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw(CREATED_AT + "|not-a-uuid")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw(CREATED_AT + "|" + ID + "|high")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw(CREATED_AT.toString())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw(CREATED_AT + "|" + ID + "|1.0|extra")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("A cursor needs both createdAt and id")
+    void requiresCreatedAtAndId() {
+        assertThatThrownBy(() -> new KeysetCursor(null, ID)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetCursor(CREATED_AT, null, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+package com.levelupjourney.learningservice.shared.infrastructure.persistence.count;
+
+import com.levelupjourney.learningservice.shared.domain.model.TotalCount;
+import com.levelupjourney.learningservice.shared.domain.model.TotalCountMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Test: approximate count cache")
+class ApproximateCountCacheTest {
+
+    private static final String KEY = "guides|PUBLISHED";
+
+    private ApproximateCountCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A miss counts right away and reports the total as exact")
+    void missCountsSynchronously() {
+        cache = cacheWithTtl(Duration.ofMinutes(1));
+        AtomicInteger counts = new AtomicInteger();
+
+        TotalCount total = cache.approximate(KEY, () -> counts.incrementAndGet() * 100L);
+
+        assertThat(total).isEqualTo(TotalCount.exact(100));
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A fresh entry is served as approximate without counting again")
+    void freshEntryIsServedFromCache() {
+        cache = cacheWithTtl(Duration.ofMinutes(1));
+        AtomicInteger counts = new AtomicInteger();
+        cache.approximate(KEY, () -> counts.incrementAndGet() * 100L);
+
+        TotalCount total = cache.approximate(KEY, () -> counts.incrementAndGet() * 100L);
+
+        assertThat(total).isEqualTo(TotalCount.approximate(100));
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A stale entry keeps being served while a single background recount replaces it")
+    void staleEntryIsRefreshedOnceInBackground() throws InterruptedException {
+        cache = cacheWithTtl(Duration.ZERO);
+        cache.approximate(KEY, () -> 100L);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger recounts = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            TotalCount total = cache.approximate(KEY, () -> {
+                recounts.incrementAndGet();
+                await(release);
+                return 250L;
+            });
+            assertThat(total).isEqualTo(TotalCount.approximate(100));
+        }
+        release.countDown();
+
+        assertThat(eventually(() -> cache.approximate(KEY, () -> 250L).elements() == 250)).isTrue();
+        assertThat(recounts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("A failed recount keeps the stale value and is retried on a later read")
+    void failedRefreshIsRetried() {
+        cache = cacheWithTtl(Duration.ZERO);
+        cache.approximate(KEY, () -> 100L);
+
+        cache.approximate(KEY, () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertThat(eventually(() -> cache.approximate(KEY, () -> 300L).elements() == 300)).isTrue();
+    }
+
+    @Test
+    @DisplayName("The last page of a listing gives the exact total without counting and primes the cache")
+    void lastPageGivesExactTotal() {
+        cache = cacheWithTtl(Duration.ofMinutes(1));
+        var lastPage = new SliceImpl<>(List.of("a", "b", "c"), PageRequest.of(2, 10), false);
+
+        TotalCount total = cache.total(TotalCountMode.APPROXIMATE, lastPage, KEY, () -> {
+            throw new AssertionError("no count expected");
+        });
+
+        assertThat(total).isEqualTo(TotalCount.exact(23));
+        assertThat(cache.approximate(KEY, () -> 0L)).isEqualTo(TotalCount.approximate(23));
+    }
+
+    @Test
+    @DisplayName("Pages with more rows after them follow the requested mode")
+    void pagesWithNextFollowTheMode() {
+        cache = cacheWithTtl(Duration.ofMinutes(1));
+        var firstPage = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+
+        assertThat(cache.total(TotalCountMode.NONE, firstPage, KEY, () -> 40L)).isNull();
+        assertThat(cache.total(TotalCountMode.EXACT, firstPage, KEY, () -> 40L)).isEqualTo(TotalCount.exact(40));
+        assertThat(cache.total(TotalCountMode.APPROXIMATE, firstPage, KEY, () -> 40L)).isEqualTo(TotalCount.exact(40));
+        assertThat(cache.total(TotalCountMode.APPROXIMATE, firstPage, KEY, () -> 41L))
+                .isEqualTo(TotalCount.approximate(40));
+    }
+
+    private static ApproximateCountCache cacheWithTtl(Duration ttl) {
+        return new ApproximateCountCache(new SimpleMeterRegistry(), ttl, 100, Duration.ofMinutes(30), 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean eventually(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (condition.get()) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+}